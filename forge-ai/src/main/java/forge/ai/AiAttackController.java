@@ -825,6 +825,15 @@ public class AiAttackController {
      * @return a {@link forge.game.combat.Combat} object.
      */
     public final int declareAttackers(final Combat combat) {
+        AiCombatPredictions.open(ai.getGame());
+        try {
+            return declareAttackersWithPredictions(combat);
+        } finally {
+            AiCombatPredictions.close();
+        }
+    }
+
+    private int declareAttackersWithPredictions(final Combat combat) {
         // something prevents attacking, try another
         if (this.attackers.isEmpty() && ai.getOpponents().size() > 1) {
             final PlayerCollection opps = ai.getOpponents();
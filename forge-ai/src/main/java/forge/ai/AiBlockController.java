@@ -1042,6 +1042,15 @@ public class AiBlockController {
      * @param possibleBlockers list of blockers to be considered
      */
     private void assignBlockers(final Combat combat, List<Card> possibleBlockers) {
+        AiCombatPredictions.open(ai.getGame());
+        try {
+            assignBlockersWithPredictions(combat, possibleBlockers);
+        } finally {
+            AiCombatPredictions.close();
+        }
+    }
+
+    private void assignBlockersWithPredictions(final Combat combat, List<Card> possibleBlockers) {
         if (attackers.isEmpty()) {
             return;
         }
@@ -1074,6 +1083,38 @@ public class AiBlockController {
         // Begin with the weakest blockers
         CardLists.sortByPowerAsc(blockersLeft);
 
+        if (searchForBlocks()) {
+            makeSearchedBlocks(combat);
+        } else {
+            makeBlocksStepByStep(combat, possibleBlockers);
+        }
+
+        // block requirements
+        // TODO because this isn't done earlier, sometimes a good block will enforce a restriction that prevents another for the requirement
+        makeRequiredBlocks(combat);
+
+        // check to see if it's possible to defend a Planeswalker under attack with a chump block,
+        // unless life is low enough to be more worried about saving preserving the life total
+        if (ai.getController().isAI()) {
+            makeChumpBlocksToSavePW(combat);
+        }
+
+        // if there are still blockers left, see if it's possible to block Menace creatures with
+        // non-lethal blockers that won't kill the attacker but won't die to it as well
+        makeGangNonLethalBlocks(combat);
+
+        //Check for validity of blocks in case something slipped through
+        for (Card attacker : attackers) {
+            if (!CombatUtil.canAttackerBeBlockedWithAmount(attacker, combat.getBlockers(attacker).size(), combat)) {
+                for (final Card blocker : CardLists.filterControlledBy(combat.getBlockers(attacker), ai)) {
+                    // don't touch other player's blockers
+                    combat.removeFromCombat(blocker);
+                }
+            }
+        }
+    }
+
+    private void makeBlocksStepByStep(final Combat combat, final List<Card> possibleBlockers) {
         // == 1. choose best blocks first ==
         makeGoodBlocks(combat);
         makeGangBlocks(combat);
@@ -1149,29 +1190,38 @@ public class AiBlockController {
                 reinforceBlockersToKill(combat);
             }
         }
+    }
 
-        // block requirements
-        // TODO because this isn't done earlier, sometimes a good block will enforce a restriction that prevents another for the requirement
-        makeRequiredBlocks(combat);
-
-        // check to see if it's possible to defend a Planeswalker under attack with a chump block,
-        // unless life is low enough to be more worried about saving preserving the life total
-        if (ai.getController().isAI()) {
-            makeChumpBlocksToSavePW(combat);
-        }
-
-        // if there are still blockers left, see if it's possible to block Menace creatures with
-        // non-lethal blockers that won't kill the attacker but won't die to it as well
-        makeGangNonLethalBlocks(combat);
+    private boolean searchForBlocks() {
+        return ai.getController().isAI()
+                && ((PlayerControllerAi) ai.getController()).getAi().getBooleanProperty(AiProps.SEARCH_FOR_BEST_BLOCKS);
+    }
 
-        //Check for validity of blocks in case something slipped through
-        for (Card attacker : attackers) {
-            if (!CombatUtil.canAttackerBeBlockedWithAmount(attacker, combat.getBlockers(attacker).size(), combat)) {
-                for (final Card blocker : CardLists.filterControlledBy(combat.getBlockers(attacker), ai)) {
-                    // don't touch other player's blockers
-                    combat.removeFromCombat(blocker);
+    /** Blocks the attackers the way {@link AiBlockSearch} found to be best all in all. */
+    private void makeSearchedBlocks(final Combat combat) {
+        final AiController aic = ((PlayerControllerAi) ai.getController()).getAi();
+        // When the AI holds some Fog effect, don't bother about lifeInDanger
+        final boolean lifeMatters = !ComputerUtil.hasAFogEffect(ai, ai, checkingOther);
+        final AiBlockSearch search = new AiBlockSearch(ai, combat, attackersLeft, blockersLeft, lifeMatters,
+                aic.getIntProperty(AiProps.AI_IN_DANGER_THRESHOLD), aic.getIntProperty(AiProps.BLOCK_SEARCH_TIME_BUDGET_MS));
+        for (final AiBlockSearch.Block block : search.findBlocks()) {
+            final Card attacker = block.getAttacker();
+            for (final Card blocker : block.getBlockers()) {
+                if (CombatUtil.canBlock(attacker, blocker, combat)) {
+                    combat.addBlocker(attacker, blocker);
+                    blockersLeft.remove(blocker);
                 }
             }
+            if (combat.isBlocked(attacker)) {
+                attackersLeft.remove(attacker);
+                if (!block.destroysAttacker()) {
+                    blockedButUnkilled.add(attacker);
+                }
+            }
+        }
+        if (lifeMatters) {
+            removeUnpayableBlocks(combat);
+            lifeInDanger = ComputerUtilCombat.lifeInDanger(ai, combat);
         }
     }
 
@@ -0,0 +1,370 @@
+package forge.ai;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import forge.game.GameEntity;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.combat.Combat;
+import forge.game.combat.CombatUtil;
+import forge.game.keyword.Keyword;
+import forge.game.player.Player;
+import forge.game.staticability.StaticAbilityAssignCombatDamageAsUnblocked;
+
+/**
+ * Plans the blocks of an AI player by searching for the way to block all attackers at once that is worth the most,
+ * instead of settling the blocks pass by pass like {@link AiBlockController} does otherwise.
+ * <p>
+ * What happens when a blocker or two block an attacker is predicted once for every attacker and blocker that can
+ * block it, then the assignments are searched branch and bound: attacker by attacker, the best ways to block it
+ * first, giving up on an assignment once it can't beat the best one found so far even if each attacker left was
+ * blocked the best way or each blocker left added the most it could. An assignment is worth what {@link forge.ai.simulation.GameStateEvaluator} would make of it,
+ * the value of the attackers that die less the value of the blockers that die and two points for each point of
+ * damage taken. Losing the game is worse than anything else, and getting into danger worse than losing creatures.
+ * When the time budget runs out, the best assignment found by then is taken.
+ */
+final class AiBlockSearch {
+    private static final long LOSS = 1L << 40;
+    private static final long DANGER = 1L << 24;
+    private static final int LIFE_VALUE = 2;
+    // each blocker is a bit of a long
+    private static final int MAX_BLOCKERS = Long.SIZE;
+
+    /** A way to block an attacker. */
+    static final class Block {
+        private final Card attacker;
+        private final CardCollection blockers;
+        private final long mask;
+        private final boolean destroysAttacker;
+        private final long value;
+        private final int damage;
+        private final int poison;
+        private final boolean danger;
+
+        private Block(final Card attacker, final CardCollection blockers, final long mask, final boolean destroysAttacker,
+                final long value, final int damage, final int poison, final boolean danger) {
+            this.attacker = attacker;
+            this.blockers = blockers;
+            this.mask = mask;
+            this.destroysAttacker = destroysAttacker;
+            this.value = value;
+            this.damage = damage;
+            this.poison = poison;
+            this.danger = danger;
+        }
+
+        public Card getAttacker() {
+            return attacker;
+        }
+        public CardCollection getBlockers() {
+            return blockers;
+        }
+        public boolean destroysAttacker() {
+            return destroysAttacker;
+        }
+    }
+
+    private final Player ai;
+    private final Combat combat;
+    private final List<Card> attackers;
+    private final List<Card> blockers;
+    private final boolean lifeMatters;
+    private final int dangerThreshold;
+    // what the penalty depends on, looked up once as these checks go through the static abilities
+    private final int life;
+    private final int poisonCounters;
+    private final boolean canLoseLife;
+    private final boolean canLoseForNoLife;
+    private final long timeBudgetNanos;
+
+    private List<Card> threateningCommanders;
+    private int[] blockerValues;
+    private Block[][] options;
+    // bounds on what the attackers from each one on can still add, see #search
+    private long[] bestValueFrom;
+    private int[] leastDamageFrom;
+    private int[] leastPoisonFrom;
+    private long[] unblockedValueFrom;
+    private int[] unblockedDamageFrom;
+    private long[][] valueShareFrom;
+    private int[][] preventedShareFrom;
+    private long freeMask;
+    private final Block[] chosen;
+    private final Block[] best;
+    private long bestScore = Long.MIN_VALUE;
+    private long deadline;
+    private int nodes;
+    private boolean outOfTime;
+
+    /**
+     * @param lifeMatters whether damage to the player counts at all, it doesn't if it will be prevented anyway
+     * @param dangerThreshold below how much life the player is in danger
+     * @param timeBudgetMs how long to search for, 0 for as long as it takes
+     */
+    AiBlockSearch(final Player ai, final Combat combat, final List<Card> attackers, final List<Card> blockers,
+            final boolean lifeMatters, final int dangerThreshold, final int timeBudgetMs) {
+        this.ai = ai;
+        this.combat = combat;
+        this.attackers = attackers;
+        this.blockers = blockers.size() > MAX_BLOCKERS ? blockers.subList(0, MAX_BLOCKERS) : blockers;
+        this.lifeMatters = lifeMatters && !ai.cantLose();
+        this.dangerThreshold = dangerThreshold;
+        life = ai.getLife();
+        poisonCounters = ai.getPoisonCounters();
+        canLoseLife = ai.canLoseLife();
+        canLoseForNoLife = !ai.cantLoseForZeroOrLessLife();
+        this.timeBudgetNanos = timeBudgetMs * 1000000L;
+        chosen = new Block[attackers.size()];
+        best = new Block[attackers.size()];
+    }
+
+    /**
+     * @return the best ways found to block the attackers, leaving out those not to block
+     */
+    List<Block> findBlocks() {
+        final int n = attackers.size();
+        threateningCommanders = ComputerUtilCombat.getLifeThreateningCommanders(ai, combat);
+        blockerValues = new int[blockers.size()];
+        for (int j = 0; j < blockerValues.length; j++) {
+            blockerValues[j] = ComputerUtilCard.evaluateCreature(blockers.get(j));
+        }
+        options = new Block[n][];
+        for (int i = 0; i < n; i++) {
+            options[i] = blocksOf(attackers.get(i));
+        }
+        // the attackers it makes the most difference to block go first, so good assignments are found early
+        Arrays.sort(options, Comparator.comparingLong((Block[] blocks) -> blocks[0].value - blocks[blocks.length - 1].value).reversed());
+        final int count = blockers.size();
+        bestValueFrom = new long[n + 1];
+        leastDamageFrom = new int[n + 1];
+        leastPoisonFrom = new int[n + 1];
+        unblockedValueFrom = new long[n + 1];
+        unblockedDamageFrom = new int[n + 1];
+        valueShareFrom = new long[n + 1][count];
+        preventedShareFrom = new int[n + 1][count];
+        for (int i = n - 1; i >= 0; i--) {
+            long bestValue = Long.MIN_VALUE;
+            int leastDamage = Integer.MAX_VALUE;
+            int leastPoison = Integer.MAX_VALUE;
+            Block unblocked = null;
+            for (final Block block : options[i]) {
+                bestValue = Math.max(bestValue, block.value);
+                leastDamage = Math.min(leastDamage, block.damage);
+                leastPoison = Math.min(leastPoison, block.poison);
+                if (block.mask == 0) {
+                    unblocked = block;
+                }
+            }
+            bestValueFrom[i] = bestValueFrom[i + 1] + bestValue;
+            leastDamageFrom[i] = leastDamageFrom[i + 1] + leastDamage;
+            leastPoisonFrom[i] = leastPoisonFrom[i + 1] + leastPoison;
+            unblockedValueFrom[i] = unblockedValueFrom[i + 1] + unblocked.value;
+            unblockedDamageFrom[i] = unblockedDamageFrom[i + 1] + unblocked.damage;
+            // each blocker can only be in one block, so it can't add more than its share of the best block it's in
+            System.arraycopy(valueShareFrom[i + 1], 0, valueShareFrom[i], 0, count);
+            System.arraycopy(preventedShareFrom[i + 1], 0, preventedShareFrom[i], 0, count);
+            for (final Block block : options[i]) {
+                final int size = block.blockers.size();
+                final long valueShare = Math.max(0, block.value - unblocked.value + size - 1) / Math.max(1, size);
+                final int preventedShare = Math.max(0, unblocked.damage - block.damage + size - 1) / Math.max(1, size);
+                for (long mask = block.mask; mask != 0; mask &= mask - 1) {
+                    final int j = Long.numberOfTrailingZeros(mask);
+                    valueShareFrom[i][j] = Math.max(valueShareFrom[i][j], valueShare);
+                    preventedShareFrom[i][j] = Math.max(preventedShareFrom[i][j], preventedShare);
+                }
+            }
+        }
+
+        freeMask = count == MAX_BLOCKERS ? -1L : (1L << count) - 1;
+        deadline = System.nanoTime() + timeBudgetNanos;
+        search(0, 0L, 0L, 0, 0, false);
+
+        final List<Block> result = Lists.newArrayList();
+        for (final Block block : best) {
+            if (block != null && !block.blockers.isEmpty()) {
+                result.add(block);
+            }
+        }
+        return result;
+    }
+
+    private void search(final int i, final long used, final long value, final int damage, final int poison, final boolean danger) {
+        if (outOfTime) {
+            return;
+        }
+        if (timeBudgetNanos > 0 && (++nodes & 0x3ff) == 0 && System.nanoTime() > deadline) {
+            outOfTime = true;
+            return;
+        }
+        if (i == chosen.length) {
+            final long score = value - penalty(damage, poison, danger);
+            if (score > bestScore) {
+                bestScore = score;
+                System.arraycopy(chosen, 0, best, 0, chosen.length);
+            }
+            return;
+        }
+        // neither can the attackers left be blocked any better than each the best way, or than by adding each blocker
+        // left to the best block it can be in, nor can less damage be taken from them
+        long valueLeft = 0;
+        int preventedLeft = 0;
+        for (long free = ~used & freeMask; free != 0; free &= free - 1) {
+            final int j = Long.numberOfTrailingZeros(free);
+            valueLeft += valueShareFrom[i][j];
+            preventedLeft += preventedShareFrom[i][j];
+        }
+        valueLeft = Math.min(bestValueFrom[i], unblockedValueFrom[i] + valueLeft);
+        final int damageLeft = Math.max(leastDamageFrom[i], unblockedDamageFrom[i] - preventedLeft);
+        if (value + valueLeft - penalty(damage + damageLeft, poison + leastPoisonFrom[i], danger) <= bestScore) {
+            return;
+        }
+        for (final Block block : options[i]) {
+            if ((block.mask & used) != 0) {
+                continue;
+            }
+            chosen[i] = block;
+            search(i + 1, used | block.mask, value + block.value, damage + block.damage, poison + block.poison, danger || block.danger);
+        }
+        chosen[i] = null;
+    }
+
+    // see ComputerUtilCombat#lifeInDanger, only without the threshold rising at random
+    private long penalty(final int damage, final int poison, final boolean danger) {
+        if (!lifeMatters) {
+            return 0;
+        }
+        final int lifeLeft = canLoseLife ? life - damage : life;
+        final int poisonLeft = poisonCounters + poison;
+        long penalty = 0;
+        if (canLoseForNoLife && lifeLeft < 1 || poisonLeft >= 10) {
+            penalty += LOSS;
+        }
+        if (danger || canLoseForNoLife && lifeLeft < Math.min(dangerThreshold, life)
+                || poisonLeft > Math.max(7, poisonCounters)) {
+            penalty += DANGER;
+        }
+        return penalty;
+    }
+
+    /**
+     * @return the ways to block the attacker with up to two blockers, the ones worth the most first
+     */
+    private Block[] blocksOf(final Card attacker) {
+        final GameEntity defender = combat.getDefenderByAttacker(attacker);
+        final boolean atPlayer = defender == ai;
+        final boolean inCombat = ai.getGame().getPhaseHandler().inCombat();
+        final int attackerValue = ComputerUtilCard.evaluateCreature(attacker);
+        final int unblockedDamage = ComputerUtilCombat.damageIfUnblocked(attacker, defender, combat, false);
+        final int unblockedPoison = atPlayer ? ComputerUtilCombat.poisonIfUnblocked(attacker, ai) : 0;
+        final boolean asUnblocked = StaticAbilityAssignCombatDamageAsUnblocked.assignCombatDamageAsUnblocked(attacker);
+        final boolean tramples = attacker.hasKeyword(Keyword.TRAMPLE) && !attacker.hasKeyword(Keyword.INFECT);
+        final int attack = ComputerUtilCombat.getAttack(attacker);
+        final boolean mustBeBlocked = !attacker.getSVar("MustBeBlocked").isEmpty() || threateningCommanders.contains(attacker);
+
+        final List<Block> result = Lists.newArrayList();
+        result.add(block(attacker, new CardCollection(), 0L, false, 0, unblockedDamage, unblockedPoison, atPlayer, mustBeBlocked));
+
+        // what each blocker would do on its own
+        final int count = blockers.size();
+        final boolean[] canBlock = new boolean[count];
+        final boolean[] alone = new boolean[count];
+        final boolean[] destroys = new boolean[count];
+        final boolean[] destroyed = new boolean[count];
+        final int[] damageDealt = new int[count];
+        final int[] toughnessBonus = new int[count];
+        final int[] damageNeeded = new int[count];
+        final int[] attackerPower = new int[count];
+        final int[] shield = new int[count];
+        for (int j = 0; j < count; j++) {
+            final Card blocker = blockers.get(j);
+            if (!CombatUtil.canBlock(attacker, blocker, combat)) {
+                continue;
+            }
+            canBlock[j] = true;
+            alone[j] = !blocker.hasKeyword("CARDNAME can't attack or block alone.") && !blocker.hasKeyword("CARDNAME can't block alone.");
+            destroys[j] = ComputerUtilCombat.canDestroyAttacker(ai, attacker, blocker, combat, false, inCombat);
+            destroyed[j] = ComputerUtilCombat.canDestroyBlocker(ai, blocker, attacker, combat, false, inCombat);
+            // what it takes to gang up is only needed where a blocker alone can't destroy or isn't destroyed
+            if (!destroys[j]) {
+                damageDealt[j] = ComputerUtilCombat.dealsDamageAsBlocker(attacker, blocker);
+                toughnessBonus[j] = ComputerUtilCombat.predictToughnessBonusOfAttacker(attacker, blocker, combat, false);
+            }
+            if (destroyed[j]) {
+                attackerPower[j] = attack + ComputerUtilCombat.predictPowerBonusOfAttacker(attacker, blocker, combat, false);
+                damageNeeded[j] = ComputerUtilCombat.getEnoughDamageToKill(blocker, attackerPower[j], attacker, true);
+            }
+            shield[j] = tramples ? ComputerUtilCombat.shieldDamage(attacker, blocker) : 0;
+        }
+
+        if (CombatUtil.canAttackerBeBlockedWithAmount(attacker, 1, combat)) {
+            for (int j = 0; j < count; j++) {
+                if (!canBlock[j] || !alone[j]) {
+                    continue;
+                }
+                final int damage = asUnblocked ? unblockedDamage : tramples ? Math.max(0, attack - shield[j]) : 0;
+                final int poison = asUnblocked ? unblockedPoison : 0;
+                result.add(block(attacker, new CardCollection(blockers.get(j)), 1L << j, destroys[j],
+                        (destroys[j] ? attackerValue : 0) - (destroyed[j] ? blockerValues[j] : 0), damage, poison, atPlayer, false));
+            }
+        }
+
+        // two blockers deal their damage together, while the attacker kills whichever of them is worth more if it
+        // can't kill both
+        if (CombatUtil.canAttackerBeBlockedWithAmount(attacker, 2, combat)) {
+            final int damageToKill = ComputerUtilCombat.getDamageToKill(attacker, false);
+            for (int j = 0; j < count; j++) {
+                if (!canBlock[j]) {
+                    continue;
+                }
+                for (int k = j + 1; k < count; k++) {
+                    if (!canBlock[k]) {
+                        continue;
+                    }
+                    final boolean destroysAttacker = destroys[j] || destroys[k]
+                            || damageDealt[j] + damageDealt[k] >= damageToKill + Math.max(toughnessBonus[j], toughnessBonus[k]);
+                    int lost = 0;
+                    if (destroyed[j] && destroyed[k] && damageNeeded[j] + damageNeeded[k] <= Math.min(attackerPower[j], attackerPower[k])) {
+                        lost = blockerValues[j] + blockerValues[k];
+                    } else if (destroyed[j] || destroyed[k]) {
+                        lost = Math.max(destroyed[j] ? blockerValues[j] : 0, destroyed[k] ? blockerValues[k] : 0);
+                    }
+                    final int damage = asUnblocked ? unblockedDamage : tramples ? Math.max(0, attack - shield[j] - shield[k]) : 0;
+                    final int poison = asUnblocked ? unblockedPoison : 0;
+                    result.add(block(attacker, new CardCollection(Arrays.asList(blockers.get(j), blockers.get(k))),
+                            1L << j | 1L << k, destroysAttacker, (destroysAttacker ? attackerValue : 0) - lost,
+                            damage, poison, atPlayer, false));
+                }
+            }
+        }
+
+        // stable, so of equally good ways to block the one with fewer blockers comes first
+        result.sort(Comparator.comparingLong((Block b) -> b.value).reversed());
+        // leave out the ways to block that are no better than one worth as much that needs only some of their blockers
+        final List<Block> undominated = Lists.newArrayList();
+        for (final Block block : result) {
+            boolean dominated = false;
+            for (final Block other : undominated) {
+                if ((other.mask & ~block.mask) == 0 && other.damage <= block.damage && other.poison <= block.poison
+                        && (!other.danger || block.danger)) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) {
+                undominated.add(block);
+            }
+        }
+        return undominated.toArray(new Block[0]);
+    }
+
+    // damage to planeswalkers and battles only costs what it's worth, it can't lose the game
+    private Block block(final Card attacker, final CardCollection blockers, final long mask, final boolean destroysAttacker,
+            final int value, final int damage, final int poison, final boolean atPlayer, final boolean danger) {
+        final long worth = value - (lifeMatters ? (long) LIFE_VALUE * damage : 0);
+        return new Block(attacker, blockers, mask, destroysAttacker, worth, atPlayer ? damage : 0, atPlayer ? poison : 0, danger);
+    }
+}
@@ -0,0 +1,140 @@
+package forge.ai;
+
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import com.google.common.collect.Maps;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.player.Player;
+
+/**
+ * What the AI predicted about attackers and blockers facing each other, kept while it declares attackers or blockers.
+ * <p>
+ * Deciding on attacks and blocks asks {@link ComputerUtilCombat} again and again whether an attacker and a blocker
+ * would destroy each other and how much they would be pumped, mostly about the same pairs as these checks also
+ * call each other. Between {@link #open(Game)} and {@link #close()} each answer is only worked out again once the
+ * combat it was about changed, the game fired an event or a characteristic of a card changed.
+ * The predictions are kept per thread since the checks asking for them are static and each game runs on its own.
+ */
+public final class AiCombatPredictions {
+    enum Kind {
+        DESTROY_ATTACKER,
+        DESTROY_BLOCKER,
+        ATTACKER_POWER_BONUS,
+        BLOCKER_TOUGHNESS_BONUS
+    }
+
+    private static final ThreadLocal<AiCombatPredictions> current = new ThreadLocal<>();
+
+    private final Game game;
+    private int depth;
+    private long eventCount = -1;
+    private long characteristicsEpoch = -1;
+    private Combat gameCombat;
+    private long gameCombatChanges = -1;
+    private final Map<Key, Prediction> predictions = Maps.newHashMap();
+
+    private AiCombatPredictions(final Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Starts keeping the predictions about the given game on this thread, calls may be nested as long as each
+     * is matched by {@link #close()}.
+     */
+    public static void open(final Game game) {
+        AiCombatPredictions predictions = current.get();
+        if (predictions == null) {
+            predictions = new AiCombatPredictions(game);
+            current.set(predictions);
+        }
+        predictions.depth++;
+    }
+
+    public static void close() {
+        final AiCombatPredictions predictions = current.get();
+        if (predictions != null && --predictions.depth == 0) {
+            current.remove();
+        }
+    }
+
+    /**
+     * @return the predictions kept for the game of the attacker, or null if there are none.
+     */
+    static AiCombatPredictions get(final Card attacker) {
+        final AiCombatPredictions predictions = current.get();
+        return predictions != null && predictions.game == attacker.getGame() ? predictions : null;
+    }
+
+    int predict(final Kind kind, final Player ai, final Card attacker, final Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutStaticAbilities, final IntSupplier predict) {
+        if (eventCount != game.getEventCount() || characteristicsEpoch != game.getCharacteristicsEpoch()
+                || gameCombat != game.getCombat() || gameCombat != null && gameCombatChanges != gameCombat.getChangeCount()) {
+            predictions.clear();
+        }
+        final Key key = new Key(kind, ai, attacker, blocker, combat, withoutAbilities, withoutStaticAbilities);
+        final long combatChanges = combat == null ? 0 : combat.getChangeCount();
+        Prediction prediction = predictions.get(key);
+        if (prediction == null || prediction.combatChanges != combatChanges) {
+            prediction = new Prediction(combatChanges, predict.getAsInt());
+            predictions.put(key, prediction);
+            // predicting may change what's cached by the cards, but nothing the predictions depend on
+            eventCount = game.getEventCount();
+            characteristicsEpoch = game.getCharacteristicsEpoch();
+            gameCombat = game.getCombat();
+            gameCombatChanges = gameCombat == null ? -1 : gameCombat.getChangeCount();
+        }
+        return prediction.value;
+    }
+
+    private static final class Prediction {
+        private final long combatChanges;
+        private final int value;
+
+        private Prediction(final long combatChanges, final int value) {
+            this.combatChanges = combatChanges;
+            this.value = value;
+        }
+    }
+
+    // copies of the same card share its id, so they only count as the same card if they are the same object
+    private static final class Key {
+        private final Kind kind;
+        private final Player ai;
+        private final Card attacker;
+        private final Card blocker;
+        private final Combat combat;
+        private final int flags;
+
+        private Key(final Kind kind, final Player ai, final Card attacker, final Card blocker, final Combat combat,
+                final boolean withoutAbilities, final boolean withoutStaticAbilities) {
+            this.kind = kind;
+            this.ai = ai;
+            this.attacker = attacker;
+            this.blocker = blocker;
+            this.combat = combat;
+            this.flags = (withoutAbilities ? 1 : 0) | (withoutStaticAbilities ? 2 : 0);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return kind == other.kind && ai == other.ai && attacker == other.attacker && blocker == other.blocker
+                    && combat == other.combat && flags == other.flags;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = kind.ordinal();
+            result = 31 * result + attacker.getId();
+            result = 31 * result + (blocker == null ? 0 : blocker.getId());
+            return 4 * result + flags;
+        }
+    }
+}
@@ -83,6 +83,7 @@ public class AiController {
     private final Player player;
     private final Game game;
     private final AiCardMemory memory;
+    private final AiManaSources manaSources;
     private Combat predictedCombat;
     private Combat predictedCombatNextTurn;
     private boolean cheatShuffle;
@@ -95,6 +96,7 @@ public class AiController {
         player = computerPlayer;
         game = game0;
         memory = new AiCardMemory();
+        manaSources = new AiManaSources(game0);
         simPicker = new SpellAbilityPicker(game, player);
     }
 
@@ -134,6 +136,10 @@ public class AiController {
         return memory;
     }
 
+    public AiManaSources getManaSources() {
+        return manaSources;
+    }
+
     public Combat getPredictedCombat() {
         if (predictedCombat == null) {
             AiAttackController aiAtk = new AiAttackController(player);
@@ -754,12 +760,15 @@ public class AiController {
         CardStateName currentState = sa.getCardState() != null && host.getCurrentStateName() != sa.getCardStateName() && !host.isInPlay() ? host.getCurrentStateName() : null;
         if (currentState != null) {
             host.setState(sa.getCardStateName(), false);
+            // the other face may come with mana abilities of its own
+            manaSources.invalidate();
         }
 
         AiPlayDecision decision = canPlayAndPayForFace(sa);
 
         if (currentState != null) {
             host.setState(currentState, false);
+            manaSources.invalidate();
         }
 
         return decision;
@@ -860,11 +869,20 @@ public class AiController {
     }
 
     public AiPlayDecision canPlaySa(SpellAbility sa) {
+        final long start = AiDecisionProfiler.start();
+        try {
+            return checkCanPlaySa(sa);
+        } finally {
+            AiDecisionProfiler.stop(start, AiDecisionProfiler.Decision.CAN_PLAY, sa);
+        }
+    }
+
+    private AiPlayDecision checkCanPlaySa(SpellAbility sa) {
         if (!checkAiSpecificRestrictions(sa)) {
             return AiPlayDecision.CantPlayAi;
         }
         if (sa instanceof WrappedAbility) {
-            return canPlaySa(((WrappedAbility) sa).getWrappedAbility());
+            return checkCanPlaySa(((WrappedAbility) sa).getWrappedAbility());
         }
 
         if (!sa.canCastTiming(player)) {
@@ -1352,6 +1370,16 @@ public class AiController {
         // Also reset predicted combat for next turn here
         predictedCombatNextTurn = null;
 
+        // every candidate is checked against the same mana sources
+        manaSources.open();
+        try {
+            return chooseSpellAbilityToPlayWithManaSources();
+        } finally {
+            manaSources.close();
+        }
+    }
+
+    private List<SpellAbility> chooseSpellAbilityToPlayWithManaSources() {
         // Reset priority mana reservation that's meant to work for one spell only
         memory.clearMemorySet(AiCardMemory.MemorySet.HELD_MANA_SOURCES_FOR_NEXT_SPELL);
 
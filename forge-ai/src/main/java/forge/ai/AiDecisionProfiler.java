@@ -0,0 +1,213 @@
+package forge.ai;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import forge.game.ability.ApiType;
+import forge.game.card.Card;
+import forge.game.spellability.SpellAbility;
+
+/**
+ * Counts how often the AI makes its decisions and how long they take, per kind of decision, per {@link ApiType} and
+ * per card, to find out which cards and abilities the AI spends its time on.
+ * <p>
+ * It's off unless switched on with {@link #setEnabled(boolean)}, which can be done at any time, and costs a single
+ * check per decision while off. Decisions are timed as a whole, including any other decision made while making them,
+ * and the times of all games are added up whatever thread they run on.
+ * <pre>
+ * final long start = AiDecisionProfiler.start();
+ * try {
+ *     ...
+ * } finally {
+ *     AiDecisionProfiler.stop(start, AiDecisionProfiler.Decision.CAN_PLAY, sa);
+ * }
+ * </pre>
+ */
+public final class AiDecisionProfiler {
+    /** The decisions being timed, and whether they are counted per ability type and per card as well. */
+    public enum Decision {
+        CHOOSE_SPELL_ABILITY(false, false),
+        CAN_PLAY(false, true),
+        API_CAN_PLAY(true, false),
+        API_TRIGGER(true, true),
+        CAN_PAY_MANA(false, false),
+        PAY_MANA(false, true),
+        DECLARE_ATTACKERS(false, false),
+        DECLARE_BLOCKERS(false, false),
+        MULLIGAN(false, false);
+
+        private final boolean perApi;
+        private final boolean perCard;
+
+        Decision(final boolean perApi, final boolean perCard) {
+            this.perApi = perApi;
+            this.perCard = perCard;
+        }
+    }
+
+    // the first bucket holds what took less than 2 microseconds, each one after twice as long as the one before
+    private static final int BUCKETS = 20;
+    private static final int BUCKET_SHIFT = 10;
+    private static final int TOP_CARDS = 25;
+
+    private static volatile boolean enabled;
+    private static final Stats[] byDecision = newStats(Decision.values().length);
+    private static final Stats[] byApi = newStats(ApiType.values().length);
+    private static final Map<String, Stats> byCard = new ConcurrentHashMap<>();
+
+    private AiDecisionProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(final boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * @return when the decision started, or 0 if decisions aren't timed
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Counts a decision that started at the time given by {@link #start()}.
+     * @param sa the ability decided about, may be null
+     */
+    public static void stop(final long start, final Decision decision, final SpellAbility sa) {
+        if (start == 0) {
+            return;
+        }
+        final long nanos = System.nanoTime() - start;
+        byDecision[decision.ordinal()].add(nanos);
+        if (sa == null) {
+            return;
+        }
+        if (decision.perApi && sa.getApi() != null) {
+            byApi[sa.getApi().ordinal()].add(nanos);
+        }
+        final Card host = sa.getHostCard();
+        if (decision.perCard && host != null) {
+            byCard.computeIfAbsent(host.getName(), k -> new Stats()).add(nanos);
+        }
+    }
+
+    public static void reset() {
+        for (final Stats stats : byDecision) {
+            stats.reset();
+        }
+        for (final Stats stats : byApi) {
+            stats.reset();
+        }
+        byCard.clear();
+    }
+
+    /**
+     * @return a report of the decisions timed so far, the ability types and the cards that took the longest first
+     */
+    public static String report() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("AI decisions:").append(System.lineSeparator());
+        appendHeader(sb);
+        for (final Decision decision : Decision.values()) {
+            appendRow(sb, decision.name(), byDecision[decision.ordinal()]);
+        }
+
+        sb.append(System.lineSeparator()).append("AI decisions per ability type:").append(System.lineSeparator());
+        appendHeader(sb);
+        final List<Map.Entry<String, Stats>> apis = new ArrayList<>();
+        for (final ApiType api : ApiType.values()) {
+            if (byApi[api.ordinal()].count.sum() > 0) {
+                apis.add(Map.entry(api.name(), byApi[api.ordinal()]));
+            }
+        }
+        appendRows(sb, apis, apis.size());
+
+        sb.append(System.lineSeparator()).append("AI decisions per card, slowest ").append(TOP_CARDS).append(':').append(System.lineSeparator());
+        appendHeader(sb);
+        appendRows(sb, new ArrayList<>(byCard.entrySet()), TOP_CARDS);
+        return sb.toString();
+    }
+
+    private static void appendHeader(final StringBuilder sb) {
+        sb.append(String.format("%-40s %10s %12s %10s %10s %10s %10s%n", "", "count", "total ms", "mean us", "p50 us", "p99 us", "max ms"));
+    }
+
+    private static void appendRows(final StringBuilder sb, final List<Map.Entry<String, Stats>> rows, final int limit) {
+        rows.sort(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().nanos.sum()).reversed());
+        for (int i = 0; i < Math.min(limit, rows.size()); i++) {
+            appendRow(sb, rows.get(i).getKey(), rows.get(i).getValue());
+        }
+    }
+
+    private static void appendRow(final StringBuilder sb, final String name, final Stats stats) {
+        final long count = stats.count.sum();
+        final long nanos = stats.nanos.sum();
+        sb.append(String.format("%-40.40s %10d %12.1f %10.1f %10d %10d %10.1f%n", name, count, nanos / 1e6,
+                count == 0 ? 0.0 : nanos / 1e3 / count, stats.percentile(0.5), stats.percentile(0.99), stats.max() / 1e6));
+    }
+
+    private static Stats[] newStats(final int size) {
+        final Stats[] stats = new Stats[size];
+        for (int i = 0; i < size; i++) {
+            stats[i] = new Stats();
+        }
+        return stats;
+    }
+
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void add(final long time) {
+            count.increment();
+            nanos.add(time);
+            final int bucket = Math.min(BUCKETS - 1, Math.max(0, 63 - Long.numberOfLeadingZeros(time >> BUCKET_SHIFT)));
+            histogram.incrementAndGet(bucket);
+            maxNanos.accumulateAndGet(time, Math::max);
+        }
+
+        private long max() {
+            return maxNanos.get();
+        }
+
+        /**
+         * @return in microseconds, the upper end of the bucket that the given share of the decisions took no longer than
+         */
+        private long percentile(final double share) {
+            final long count = this.count.sum();
+            if (count == 0) {
+                return 0;
+            }
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram.get(i);
+                // the last bucket holds everything longer, and nothing took longer than the longest one
+                if (seen >= share * count) {
+                    return (i == BUCKETS - 1 ? max() : Math.min(max(), 2L << i << BUCKET_SHIFT)) / 1000;
+                }
+            }
+            return max() / 1000;
+        }
+
+        private void reset() {
+            count.reset();
+            nanos.reset();
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram.set(i, 0);
+            }
+            maxNanos.set(0);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package forge.ai;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+
+import forge.game.Game;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
+import forge.game.spellability.SpellAbility;
+
+/**
+ * The mana sources of an AI player, kept while it decides what to play.
+ * <p>
+ * Every spell and ability the AI considers is checked for whether it can be paid for, which used to find and
+ * group all mana sources of the player each time. Between {@link #open()} and {@link #close()} they're only
+ * found again once the game fired an event or a characteristic of a card changed, as nothing the sources
+ * depend on can have changed otherwise. Each AiController has its own, see {@link AiController#getManaSources()}.
+ */
+public class AiManaSources {
+    private final Game game;
+    private int depth;
+    private long eventCount = -1;
+    private long characteristicsEpoch = -1;
+    private final Map<Boolean, CardCollectionView> available = Maps.newHashMap();
+    private final Map<Boolean, ListMultimap<Integer, SpellAbility>> byColor = Maps.newHashMap();
+
+    public AiManaSources(final Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Starts keeping the mana sources, calls may be nested as long as each is matched by {@link #close()}.
+     */
+    public void open() {
+        depth++;
+    }
+
+    public void close() {
+        if (--depth == 0) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Forgets the mana sources, call when a change that fires no event may affect them.
+     */
+    public void invalidate() {
+        available.clear();
+        byColor.clear();
+    }
+
+    CardCollection getAvailable(final boolean checkPlayable, final Supplier<CardCollection> find) {
+        if (!isValid()) {
+            return find.get();
+        }
+        CardCollectionView result = available.get(checkPlayable);
+        if (result == null) {
+            result = find.get();
+            available.put(checkPlayable, result);
+            update();
+        }
+        // callers are free to change what they get
+        return new CardCollection(result);
+    }
+
+    ListMultimap<Integer, SpellAbility> getByColor(final boolean checkPlayable, final Supplier<ListMultimap<Integer, SpellAbility>> group) {
+        if (!isValid()) {
+            return group.get();
+        }
+        ListMultimap<Integer, SpellAbility> result = byColor.get(checkPlayable);
+        if (result == null) {
+            result = ImmutableListMultimap.copyOf(group.get());
+            byColor.put(checkPlayable, result);
+            update();
+        }
+        return result;
+    }
+
+    private boolean isValid() {
+        if (depth == 0) {
+            return false;
+        }
+        if (eventCount != game.getEventCount() || characteristicsEpoch != game.getCharacteristicsEpoch()) {
+            invalidate();
+        }
+        return true;
+    }
+
+    // looking for the sources may change what's cached by the cards, but not the sources themselves
+    private void update() {
+        eventCount = game.getEventCount();
+        characteristicsEpoch = game.getCharacteristicsEpoch();
+    }
+}
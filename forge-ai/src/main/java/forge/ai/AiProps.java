@@ -59,6 +59,8 @@ public enum AiProps { /** */
     THRESHOLD_TOKEN_CHUMP_TO_SAVE_PLANESWALKER ("135"), /** */
     THRESHOLD_NONTOKEN_CHUMP_TO_SAVE_PLANESWALKER ("110"), /** */
     CHUMP_TO_SAVE_PLANESWALKER_ONLY_ON_LETHAL ("true"), /** */
+    SEARCH_FOR_BEST_BLOCKS ("false"), /** */
+    BLOCK_SEARCH_TIME_BUDGET_MS ("50"), /** */
     TRY_TO_PRESERVE_BUYBACK_SPELLS ("true"), /** */
     MIN_SPELL_CMC_TO_COUNTER ("0"), /** */
     CHANCE_TO_COUNTER_CMC_1 ("50"), /** */
@@ -145,7 +147,11 @@ public enum AiProps { /** */
     SIDEBOARDING_CHANCE_ON_WIN("0"),
     SIDEBOARDING_IN_LIMITED_FORMATS("false"),
     SIDEBOARDING_SHARED_TYPE_ONLY("false"),
-    SIDEBOARDING_PLANESWALKER_EQ_CREATURE("false");
+    SIDEBOARDING_PLANESWALKER_EQ_CREATURE("false"),
+    SIMULATION_PARALLEL_THREADS("0"), /** */
+    SIMULATION_TIME_BUDGET_MS("0"), /** */
+    SIMULATION_MAX_DEPTH("3"), /** */
+    SIMULATION_TRANSPOSITION_TABLE_SIZE("0");
     // Experimental features, must be promoted or removed after extensive testing and, ideally, defaulting
     // <-- There are no experimental options here -->
 
@@ -67,6 +67,11 @@ public class ComputerUtilCombat {
         dontTestRegen = shouldSuppress;
     }
 
+    // what's predicted while regeneration isn't looked at is only good for that check
+    private static AiCombatPredictions getCombatPredictions(final Card attacker) {
+        return dontTestRegen ? null : AiCombatPredictions.get(attacker);
+    }
+
     /**
      * <p>
      * canAttackNextTurn.
@@ -1022,6 +1027,14 @@ public class ComputerUtilCombat {
      * @return a int.
      */
     public static int predictToughnessBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
+        final AiCombatPredictions predictions = getCombatPredictions(attacker);
+        if (predictions != null) {
+            return predictions.predict(AiCombatPredictions.Kind.BLOCKER_TOUGHNESS_BONUS, null, attacker, blocker, null, withoutAbilities, false,
+                    () -> computeToughnessBonusOfBlocker(attacker, blocker, withoutAbilities));
+        }
+        return computeToughnessBonusOfBlocker(attacker, blocker, withoutAbilities);
+    }
+    private static int computeToughnessBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
         int toughness = 0;
 
         if (blocker.getName().equals("Shape Stealer")) {
@@ -1159,6 +1172,14 @@ public class ComputerUtilCombat {
         return predictPowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, false);
     }
     public static int predictPowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
+        final AiCombatPredictions predictions = getCombatPredictions(attacker);
+        if (predictions != null) {
+            return predictions.predict(AiCombatPredictions.Kind.ATTACKER_POWER_BONUS, null, attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities,
+                    () -> computePowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities));
+        }
+        return computePowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+    }
+    private static int computePowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
         int power = 0;
 
         // Serene Master switches power with attacker
@@ -1660,6 +1681,15 @@ public class ComputerUtilCombat {
     }
     public static boolean canDestroyAttacker(Player ai, Card attacker, Card blocker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        final AiCombatPredictions predictions = getCombatPredictions(attacker);
+        if (predictions != null) {
+            return predictions.predict(AiCombatPredictions.Kind.DESTROY_ATTACKER, ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities,
+                    () -> checkCanDestroyAttacker(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities) ? 1 : 0) != 0;
+        }
+        return checkCanDestroyAttacker(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+    }
+    private static boolean checkCanDestroyAttacker(Player ai, Card attacker, Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
             attacker = canTransform(attacker);
@@ -1890,6 +1920,15 @@ public class ComputerUtilCombat {
     }
     public static boolean canDestroyBlocker(Player ai, Card blocker, Card attacker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        final AiCombatPredictions predictions = getCombatPredictions(attacker);
+        if (predictions != null) {
+            return predictions.predict(AiCombatPredictions.Kind.DESTROY_BLOCKER, ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities,
+                    () -> checkCanDestroyBlocker(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities) ? 1 : 0) != 0;
+        }
+        return checkCanDestroyBlocker(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+    }
+    private static boolean checkCanDestroyBlocker(Player ai, Card blocker, Card attacker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
             attacker = canTransform(attacker);
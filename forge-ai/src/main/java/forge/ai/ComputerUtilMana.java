@@ -619,6 +619,15 @@ public class ComputerUtilMana {
     }
 
     private static boolean payManaCost(final ManaCostBeingPaid cost, final SpellAbility sa, final Player ai, final boolean test, boolean checkPlayable, boolean effect) {
+        final long start = AiDecisionProfiler.start();
+        try {
+            return doPayManaCost(cost, sa, ai, test, checkPlayable, effect);
+        } finally {
+            AiDecisionProfiler.stop(start, test ? AiDecisionProfiler.Decision.CAN_PAY_MANA : AiDecisionProfiler.Decision.PAY_MANA, sa);
+        }
+    }
+
+    private static boolean doPayManaCost(final ManaCostBeingPaid cost, final SpellAbility sa, final Player ai, final boolean test, boolean checkPlayable, boolean effect) {
         if ((sa.isOffering() && sa.getSacrificedAsOffering() == null) || (sa.isEmerge() && sa.getSacrificedAsEmerge() == null)) {
             // nothing was chosen
             return false;
@@ -656,6 +665,13 @@ public class ComputerUtilMana {
         boolean hasConverge = sa.getHostCard().hasConverge();
         ListMultimap<ManaCostShard, SpellAbility> sourcesForShards = getSourcesForShards(cost, sa, ai, test, checkPlayable, hasConverge);
 
+        if (test && !canCoverShards(cost, sourcesForShards, ai)) {
+            // no need to try, the payment below can't do better
+            CostPayment.handleOfferings(sa, test, false);
+            manapool.refundMana(manaSpentToPay);
+            return false;
+        }
+
         int testEnergyPool = ai.getCounters(CounterEnumType.ENERGY);
         ManaCostShard toPay = null;
         List<SpellAbility> saExcludeList = new ArrayList<>();
@@ -840,6 +856,91 @@ public class ComputerUtilMana {
         return true;
     }
 
+    /**
+     * Whether the shards left to pay can be covered at all, with each mana source paying for one shard it's listed for.
+     * <p>
+     * This is a maximum matching between shards and source cards. Sources that may produce more than one mana are
+     * taken to pay for all of their shards, floating mana for any shard and Phyrexian shards are left to life, so
+     * a cost ruled out here can't be paid by choosing sources one shard at a time either.
+     */
+    private static boolean canCoverShards(final ManaCostBeingPaid cost, final ListMultimap<ManaCostShard, SpellAbility> sourcesForShards, final Player ai) {
+        final boolean lifeInsteadOfBlack = ai.hasKeyword("PayLifeInsteadOf:B");
+        final List<ManaCostShard> shards = new ArrayList<>();
+        for (final ManaCostShard shard : cost.getUnpaidShards()) {
+            // X isn't among the shards the sources are listed for
+            if (shard != ManaCostShard.X && !shard.isPhyrexian() && !(lifeInsteadOfBlack && shard.isBlack())) {
+                shards.add(shard);
+            }
+        }
+        final int floating = ai.getManaPool().totalMana();
+        if (shards.size() <= floating) {
+            return true;
+        }
+        if (sourcesForShards == null) {
+            return false;
+        }
+
+        // triggered mana and replaced mana might add up to more than one mana for any source
+        final Game game = ai.getGame();
+        final boolean predictable = !game.getTriggerHandler().hasActiveTrigger(TriggerType.TapsForMana)
+                && game.getReplacementEffectIndex().getCards(ReplacementType.ProduceMana, false).isEmpty();
+        final Map<ManaCostShard, List<Card>> sources = new HashMap<>();
+        final Set<Card> multipleMana = new HashSet<>();
+        for (final Map.Entry<ManaCostShard, Collection<SpellAbility>> e : sourcesForShards.asMap().entrySet()) {
+            final List<Card> cards = new ArrayList<>();
+            for (final SpellAbility ma : e.getValue()) {
+                final Card c = ma.getHostCard();
+                if (!cards.contains(c)) {
+                    cards.add(c);
+                }
+                if (!predictable || !producesOneMana(ma)) {
+                    multipleMana.add(c);
+                }
+            }
+            sources.put(e.getKey(), cards);
+        }
+
+        final Map<Card, Integer> paidBy = new HashMap<>();
+        int unpaid = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            final List<Card> cards = sources.getOrDefault(shards.get(i), Collections.emptyList());
+            if (Iterables.any(cards, multipleMana::contains)) {
+                continue;
+            }
+            if (!findSourceForShard(i, shards, sources, paidBy, new HashSet<>()) && ++unpaid > floating) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // looks for an augmenting path, moving shards to other sources to make room for this one
+    private static boolean findSourceForShard(final int shard, final List<ManaCostShard> shards, final Map<ManaCostShard, List<Card>> sources,
+            final Map<Card, Integer> paidBy, final Set<Card> visited) {
+        for (final Card c : sources.getOrDefault(shards.get(shard), Collections.emptyList())) {
+            if (!visited.add(c)) {
+                continue;
+            }
+            final Integer other = paidBy.get(c);
+            if (other == null || findSourceForShard(other, shards, sources, paidBy, visited)) {
+                paidBy.put(c, shard);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean producesOneMana(final SpellAbility ma) {
+        final AbilityManaPart m = ma.getManaPart();
+        if (ma.getApi() != ApiType.Mana || ma.getSubAbility() != null || ma.hasParam("Amount")
+                || m.isComboMana() || m.isAnyMana()) {
+            return false;
+        }
+        final String produced = m.getOrigProduced();
+        // a single symbol, not something like "C C", "2" or "Chosen"
+        return produced.length() == 1 && !StringUtils.isNumeric(produced);
+    }
+
     private static void resetPayment(List<SpellAbility> payments) {
         for (SpellAbility sa : payments) {
             sa.getManaPart().clearExpressChoice();
@@ -1383,6 +1484,14 @@ public class ComputerUtilMana {
 
     //This method is currently used by AI to estimate available mana
     public static CardCollection getAvailableManaSources(final Player ai, final boolean checkPlayable) {
+        final AiManaSources cache = getManaSources(ai);
+        if (cache != null) {
+            return cache.getAvailable(checkPlayable, () -> findAvailableManaSources(ai, checkPlayable));
+        }
+        return findAvailableManaSources(ai, checkPlayable);
+    }
+
+    private static CardCollection findAvailableManaSources(final Player ai, final boolean checkPlayable) {
         final CardCollectionView list = CardCollection.combine(ai.getCardsIn(ZoneType.Battlefield), ai.getCardsIn(ZoneType.Hand));
         final List<Card> manaSources = CardLists.filter(list, c -> {
             for (final SpellAbility am : getAIPlayableMana(c)) {
@@ -1534,6 +1643,21 @@ public class ComputerUtilMana {
 
     //This method is currently used by AI to estimate mana available
     private static ListMultimap<Integer, SpellAbility> groupSourcesByManaColor(final Player ai, boolean checkPlayable) {
+        final AiManaSources cache = getManaSources(ai);
+        if (cache != null) {
+            return cache.getByColor(checkPlayable, () -> findSourcesByManaColor(ai, checkPlayable));
+        }
+        return findSourcesByManaColor(ai, checkPlayable);
+    }
+
+    private static AiManaSources getManaSources(final Player ai) {
+        if (ai.getController() instanceof PlayerControllerAi) {
+            return ((PlayerControllerAi) ai.getController()).getAi().getManaSources();
+        }
+        return null;
+    }
+
+    private static ListMultimap<Integer, SpellAbility> findSourcesByManaColor(final Player ai, boolean checkPlayable) {
         final ListMultimap<Integer, SpellAbility> manaMap = ArrayListMultimap.create();
         final Game game = ai.getGame();
 
@@ -750,7 +750,12 @@ public class PlayerControllerAi extends PlayerController {
 
     @Override
     public boolean mulliganKeepHand(Player firstPlayer, int cardsToReturn)  {
-        return !ComputerUtil.wantMulligan(player, cardsToReturn);
+        final long start = AiDecisionProfiler.start();
+        try {
+            return !ComputerUtil.wantMulligan(player, cardsToReturn);
+        } finally {
+            AiDecisionProfiler.stop(start, AiDecisionProfiler.Decision.MULLIGAN, null);
+        }
     }
 
     @Override
@@ -801,17 +806,32 @@ public class PlayerControllerAi extends PlayerController {
 
     @Override
     public void declareAttackers(Player attacker, Combat combat) {
-        brains.declareAttackers(attacker, combat);
+        final long start = AiDecisionProfiler.start();
+        try {
+            brains.declareAttackers(attacker, combat);
+        } finally {
+            AiDecisionProfiler.stop(start, AiDecisionProfiler.Decision.DECLARE_ATTACKERS, null);
+        }
     }
 
     @Override
     public void declareBlockers(Player defender, Combat combat) {
-        brains.declareBlockersFor(defender, combat);
+        final long start = AiDecisionProfiler.start();
+        try {
+            brains.declareBlockersFor(defender, combat);
+        } finally {
+            AiDecisionProfiler.stop(start, AiDecisionProfiler.Decision.DECLARE_BLOCKERS, null);
+        }
     }
 
     @Override
     public List<SpellAbility> chooseSpellAbilityToPlay() {
-        return brains.chooseSpellAbilityToPlay();
+        final long start = AiDecisionProfiler.start();
+        try {
+            return brains.chooseSpellAbilityToPlay();
+        } finally {
+            AiDecisionProfiler.stop(start, AiDecisionProfiler.Decision.CHOOSE_SPELL_ABILITY, null);
+        }
     }
 
     @Override
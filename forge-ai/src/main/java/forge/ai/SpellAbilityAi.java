@@ -35,6 +35,15 @@ import java.util.Map;
 public abstract class SpellAbilityAi {
 
     public final boolean canPlayAIWithSubs(final Player aiPlayer, final SpellAbility sa) {
+        final long start = AiDecisionProfiler.start();
+        try {
+            return checkCanPlayAIWithSubs(aiPlayer, sa);
+        } finally {
+            AiDecisionProfiler.stop(start, AiDecisionProfiler.Decision.API_CAN_PLAY, sa);
+        }
+    }
+
+    private boolean checkCanPlayAIWithSubs(final Player aiPlayer, final SpellAbility sa) {
         if (!canPlayAI(aiPlayer, sa)) {
             return false;
         }
@@ -169,6 +178,15 @@ public abstract class SpellAbilityAi {
     }
     
     public final boolean doTriggerAI(final Player aiPlayer, final SpellAbility sa, final boolean mandatory) {
+        final long start = AiDecisionProfiler.start();
+        try {
+            return checkDoTriggerAI(aiPlayer, sa, mandatory);
+        } finally {
+            AiDecisionProfiler.stop(start, AiDecisionProfiler.Decision.API_TRIGGER, sa);
+        }
+    }
+
+    private boolean checkDoTriggerAI(final Player aiPlayer, final SpellAbility sa, final boolean mandatory) {
         // this evaluation order is currently intentional as it does more stuff that helps avoiding some crashes
         if (!ComputerUtilCost.canPayCost(sa, aiPlayer, true) && !mandatory) {
             return false;
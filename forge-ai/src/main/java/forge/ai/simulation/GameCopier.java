@@ -4,6 +4,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.Lists;
@@ -15,6 +18,7 @@ import forge.LobbyPlayer;
 import forge.ai.AIOption;
 import forge.ai.LobbyPlayerAi;
 import forge.card.CardRarity;
+import forge.card.CardStateName;
 import forge.card.CardRules;
 import forge.game.*;
 import forge.game.ability.effects.DetachedCardEffect;
@@ -26,6 +30,7 @@ import forge.game.phase.PhaseHandler;
 import forge.game.phase.PhaseType;
 import forge.game.player.Player;
 import forge.game.player.RegisteredPlayer;
+import forge.game.spellability.LandAbility;
 import forge.game.spellability.SpellAbility;
 import forge.game.spellability.SpellAbilityStackInstance;
 import forge.game.staticability.StaticAbility;
@@ -84,6 +89,8 @@ public class GameCopier {
         GameRules currentRules = origGame.getRules();
         Match newMatch = new Match(currentRules, newPlayers, origGame.getView().getTitle());
         Game newGame = new Game(newPlayers, currentRules, newMatch);
+        // nobody ever looks at a simulated game
+        newGame.setHeadless(true);
 
         for (int i = 0; i < origGame.getPlayers().size(); i++) {
             Player origPlayer = origGame.getPlayers().get(i);
@@ -283,6 +290,38 @@ public class GameCopier {
     private static PaperCard hidden_info_card = new PaperCard(CardRules.fromScript(Lists.newArrayList("Name:hidden", "Types:Artifact", "Oracle:")), "", CardRarity.Common);
     private static final boolean PRUNE_HIDDEN_INFO = false;
     private static final boolean USE_FROM_PAPER_CARD = true;
+    private static final boolean USE_CARD_PROTOTYPES = true;
+
+    // Pristine cards read once per paper card and never put into a game. Copies are made from their
+    // already built traits, so a simulated game doesn't parse every card script again.
+    // Weak keys compare by identity, which is needed because PaperCard.equals ignores the functional variant,
+    // and the cache is bounded so cards from earlier matches don't stay around for the life of the JVM.
+    private static final int MAX_PROTOTYPES = 1024;
+    private static final LoadingCache<PaperCard, Card> prototypes = CacheBuilder.newBuilder()
+            .weakKeys()
+            .softValues()
+            .maximumSize(MAX_PROTOTYPES)
+            .build(CacheLoader.from(p -> Card.fromPaperCard(p, null)));
+
+    private static Card copyFromPrototype(Game newGame, Player newOwner, PaperCard pc) {
+        Card proto = prototypes.getUnchecked(pc);
+        Card newCard = CardCopyService.copyStats(proto, newOwner, true, newGame);
+        newCard.setGamePieceType(proto.getGamePieceType());
+        // playing a land isn't an intrinsic ability, so the copied traits leave it out
+        for (final CardStateName state : proto.getStates()) {
+            for (final SpellAbility sa : proto.getState(state).getNonManaAbilities()) {
+                if (sa.isLandAbility()) {
+                    final CardState newState = newCard.getState(state);
+                    final SpellAbility landSa = new LandAbility(newCard);
+                    landSa.setCardState(newState);
+                    newState.addSpellAbility(landSa);
+                }
+            }
+        }
+        newCard.updateStateForView();
+        return newCard;
+    }
+
     private Card createCardCopy(Game newGame, Player newOwner, Card c, Player aiPlayer) {
         if (c.isToken() && !c.isImmutable()) {
             Card result = new TokenInfo(c).makeOneToken(newOwner);
@@ -295,6 +334,8 @@ public class GameCopier {
                 // TODO also check REVEALED_CARDS memory
                 newCard = new Card(newGame.nextCardId(), hidden_info_card, newGame);
                 newCard.setOwner(newOwner);
+            } else if (USE_CARD_PROTOTYPES && c.getPaperCard() instanceof PaperCard) {
+                newCard = copyFromPrototype(newGame, newOwner, (PaperCard) c.getPaperCard());
             } else {
                 newCard = Card.fromPaperCard(c.getPaperCard(), newOwner);
             }
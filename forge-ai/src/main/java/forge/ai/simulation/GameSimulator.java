@@ -32,32 +32,41 @@ public class GameSimulator {
 
     public GameSimulator(SimulationController controller, Game origGame, Player origAiPlayer, PhaseType advanceToPhase) {
         this.controller = controller;
-        copier = new GameCopier(origGame);
-        simGame = copier.makeCopy(advanceToPhase, origAiPlayer);
+        final GameSimulator outer = enterDebugOutput();
+        try {
+            // Candidates may be simulated on several threads at once, each starting from the same
+            // original game. Copying and scoring it touch lazily built caches, so only one at a time.
+            synchronized (origGame) {
+                copier = new GameCopier(origGame);
+                simGame = copier.makeCopy(advanceToPhase, origAiPlayer);
 
-        aiPlayer = (Player) copier.find(origAiPlayer);
-        eval = new GameStateEvaluator();
+                aiPlayer = (Player) copier.find(origAiPlayer);
+                eval = new GameStateEvaluator();
 
-        origLines = new ArrayList<>();
-        debugLines = origLines;
+                origLines = new ArrayList<>();
+                debugLines = origLines;
 
-        debugPrint = false;
-        origScore = eval.getScoreForGameState(origGame, origAiPlayer);
+                debugPrint = false;
+                origScore = eval.getScoreForGameState(origGame, origAiPlayer);
 
-        if (advanceToPhase == null) {
-            ensureGameCopyScoreMatches(origGame, origAiPlayer);
-        }
+                if (advanceToPhase == null) {
+                    ensureGameCopyScoreMatches(origGame, origAiPlayer);
+                }
 
-        // If the stack on the original game is not empty, resolve it
-        // first and get the updated eval score, since this is what we'll
-        // want to compare to the eval score after simulating.
-        if (COPY_STACK && !origGame.getStackZone().isEmpty()) {
-            origLines = new ArrayList<>();
-            debugLines = origLines;
-            Game copyOrigGame = copier.makeCopy();
-            Player copyOrigAiPlayer = copyOrigGame.getPlayers().get(1);
-            resolveStack(copyOrigGame, copyOrigGame.getPlayers().get(0));
-            origScore = eval.getScoreForGameState(copyOrigGame, copyOrigAiPlayer);
+                // If the stack on the original game is not empty, resolve it
+                // first and get the updated eval score, since this is what we'll
+                // want to compare to the eval score after simulating.
+                if (COPY_STACK && !origGame.getStackZone().isEmpty()) {
+                    origLines = new ArrayList<>();
+                    debugLines = origLines;
+                    Game copyOrigGame = copier.makeCopy();
+                    Player copyOrigAiPlayer = copyOrigGame.getPlayers().get(1);
+                    resolveStack(copyOrigGame, copyOrigGame.getPlayers().get(0));
+                    origScore = eval.getScoreForGameState(copyOrigGame, copyOrigAiPlayer);
+                }
+            }
+        } finally {
+            debugOutput.set(outer);
         }
 
         debugPrint = false;
@@ -115,17 +124,39 @@ public class GameSimulator {
         }
     }
 
-    public static boolean debugPrint;
-    public static List<String> debugLines;
+    // Debug output goes to the simulator working on the current thread, so simulations running
+    // in parallel keep their output apart.
+    private static final ThreadLocal<GameSimulator> debugOutput = new ThreadLocal<>();
+    private boolean debugPrint;
+    private List<String> debugLines;
+
+    public void setDebugPrint(boolean debugPrint) {
+        this.debugPrint = debugPrint;
+    }
+
     public static void debugPrint(String str) {
-        if (debugPrint) {
+        GameSimulator simulator = debugOutput.get();
+        if (simulator == null) {
+            return;
+        }
+        if (simulator.debugPrint) {
             System.out.println(str);
         }
-        if (debugLines != null) {
-            debugLines.add(str);
+        if (simulator.debugLines != null) {
+            simulator.debugLines.add(str);
         }
     }
 
+    /**
+     * Makes this simulator receive the debug output of the current thread.
+     * @return the simulator that received it before, to be restored afterwards
+     */
+    private GameSimulator enterDebugOutput() {
+        GameSimulator outer = debugOutput.get();
+        debugOutput.set(this);
+        return outer;
+    }
+
     private SpellAbility findSaInSimGame(final SpellAbility sa) {
         // is already an ability from sim game
         if (sa.getHostCard().getGame().equals(this.simGame)) {
@@ -157,6 +188,15 @@ public class GameSimulator {
         return simulateSpellAbility(origSa, this.eval, resolve);
     }
     public Score simulateSpellAbility(SpellAbility origSa, GameStateEvaluator eval, boolean resolve) {
+        final GameSimulator outer = enterDebugOutput();
+        try {
+            return simulateSpellAbilityImpl(origSa, eval, resolve);
+        } finally {
+            debugOutput.set(outer);
+        }
+    }
+
+    private Score simulateSpellAbilityImpl(SpellAbility origSa, GameStateEvaluator eval, boolean resolve) {
         SpellAbility sa;
         if (origSa.isLandAbility()) {
             Card hostCard = (Card) copier.find(origSa.getHostCard());
@@ -228,7 +268,16 @@ public class GameSimulator {
             debugLines = simLines;
             debugPrint = false;
         }
-        Score score = eval.getScoreForGameState(simGame, aiPlayer);
+        // the same position is often reached by playing the same spells in a different order
+        boolean useTranspositions = controller.getTranspositionTable() != null && eval == this.eval && simLines == null;
+        long stateHash = useTranspositions ? GameStateHasher.hash(simGame, aiPlayer) : 0;
+        Score score = useTranspositions ? controller.getCachedEvaluation(stateHash) : null;
+        if (score == null) {
+            score = eval.getScoreForGameState(simGame, aiPlayer);
+            if (useTranspositions) {
+                controller.cacheEvaluation(stateHash, score);
+            }
+        }
         if (simLines != null) {
             debugLines = null;
             debugPrint = true;
@@ -236,13 +285,18 @@ public class GameSimulator {
         }
         controller.possiblyCacheResult(score, origSa);
         if (controller.shouldRecurse() && !simGame.isGameOver()) {
-            controller.push(sa, score, this);
-            SpellAbilityPicker sim = new SpellAbilityPicker(simGame, aiPlayer);
-            SpellAbility nextSa = sim.chooseSpellAbilityToPlay(controller);
-            if (nextSa != null) {
-                score = sim.getScoreForChosenAbility();
+            Score known = useTranspositions ? controller.getCachedSearchResult(stateHash) : null;
+            if (known != null) {
+                score = known;
+            } else {
+                controller.push(sa, score, this, stateHash);
+                SpellAbilityPicker sim = new SpellAbilityPicker(simGame, aiPlayer);
+                SpellAbility nextSa = sim.chooseSpellAbilityToPlay(controller);
+                if (nextSa != null) {
+                    score = sim.getScoreForChosenAbility();
+                }
+                controller.pop(score, nextSa);
             }
-            controller.pop(score, nextSa);
         }
 
         return score;
@@ -0,0 +1,112 @@
+package forge.ai.simulation;
+
+import java.util.Map;
+
+import forge.game.Game;
+import forge.game.GameObject;
+import forge.game.card.Card;
+import forge.game.card.CounterType;
+import forge.game.keyword.KeywordInterface;
+import forge.game.phase.PhaseHandler;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.zone.ZoneType;
+
+/**
+ * Zobrist-style hash of the parts of a game state that matter to the simulation search:
+ * zones, tapped state, counters, life, phase and stack.
+ * <p>
+ * Every feature is turned into a pseudo random 64 bit key and the keys are summed. Unlike the
+ * classic XOR the sum doesn't cancel out two identical cards, and it doesn't depend on the order
+ * cards are stored in, so the same position reached by playing spells in a different order hashes
+ * the same. Ordered zones (library, stack) mix the position into the key.
+ */
+public final class GameStateHasher {
+    private static final ZoneType[] UNORDERED_ZONES = { ZoneType.Hand, ZoneType.Graveyard, ZoneType.Exile, ZoneType.Command };
+
+    private GameStateHasher() {
+    }
+
+    public static long hash(final Game game, final Player aiPlayer) {
+        final PhaseHandler ph = game.getPhaseHandler();
+        long h = key(1, ph.getPhase() == null ? -1 : ph.getPhase().ordinal(), ph.getTurn());
+        h += key(2, idOf(ph.getPlayerTurn()), idOf(aiPlayer));
+
+        for (final Player p : game.getPlayers()) {
+            h += key(3, p.getId(), p.getLife());
+            h += key(4, p.getId(), p.getPoisonCounters());
+            h += key(5, p.getId(), p.getLandsPlayedThisTurn());
+            h += key(6, p.getId(), p.getManaPool().totalMana());
+            for (final ZoneType zone : UNORDERED_ZONES) {
+                for (final Card c : p.getCardsIn(zone)) {
+                    h += key(7, zone.ordinal(), p.getId(), c.getName().hashCode());
+                }
+            }
+            int pos = 0;
+            for (final Card c : p.getCardsIn(ZoneType.Library)) {
+                h += key(8, pos++, p.getId(), c.getName().hashCode());
+            }
+        }
+
+        for (final Card c : game.getCardsIn(ZoneType.Battlefield)) {
+            h += hashPermanent(c);
+        }
+
+        int pos = 0;
+        for (final SpellAbilityStackInstance si : game.getStack()) {
+            final SpellAbility sa = si.getSpellAbility();
+            long k = key(9, pos++, idOf(sa.getActivatingPlayer()), sa.getHostCard() == null ? 0 : sa.getHostCard().getName().hashCode());
+            k += key(10, sa.getDescription().hashCode());
+            if (sa.getTargets() != null) {
+                for (final GameObject o : sa.getTargets()) {
+                    k += o instanceof Card ? key(17, ((Card) o).getName().hashCode()) : key(18, o instanceof Player ? ((Player) o).getId() : 0);
+                }
+            }
+            h += mix(k);
+        }
+        return h;
+    }
+
+    private static long hashPermanent(final Card c) {
+        long h = key(11, c.getName().hashCode(), idOf(c.getController()), c.getCurrentStateName().ordinal());
+        h = mix(h + key(12, c.isTapped() ? 1 : 0, c.isSick() ? 1 : 0, c.isFaceDown() ? 1 : 0));
+        h = mix(h + key(13, c.getNetPower(), c.getNetToughness(), c.getDamage()));
+        final Card attachedTo = c.getAttachedTo();
+        if (attachedTo != null) {
+            h = mix(h + key(14, attachedTo.getName().hashCode(), idOf(attachedTo.getController())));
+        }
+        // counters and keywords are sets, so they're summed before being mixed into the card
+        long sub = 0;
+        for (final Map.Entry<CounterType, Integer> e : c.getCounters().entrySet()) {
+            sub += key(15, e.getKey().toString().hashCode(), e.getValue());
+        }
+        for (final KeywordInterface ki : c.getKeywords()) {
+            sub += key(16, ki.getOriginal().hashCode());
+        }
+        return mix(h + sub);
+    }
+
+    private static int idOf(final Player p) {
+        return p == null ? -1 : p.getId();
+    }
+
+    private static long key(final int kind, final long a) {
+        return mix(kind * 0x9E3779B97F4A7C15L + a);
+    }
+
+    private static long key(final int kind, final long a, final long b) {
+        return mix(key(kind, a) + b);
+    }
+
+    private static long key(final int kind, final long a, final long b, final long c) {
+        return mix(key(kind, a, b) + c);
+    }
+
+    /** SplitMix64 finalizer, spreads small inputs over all 64 bits. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -129,6 +129,18 @@ public class Plan {
             this.choices.add(choice.getName());
         }
 
+        /** Copies a decision so it follows a different one, used to reuse a continuation found earlier. */
+        public Decision(Decision other, Decision prevDecision) {
+            this.initialScore = other.initialScore;
+            this.prevDecision = prevDecision;
+            this.saRef = other.saRef;
+            this.xMana = other.xMana;
+            this.targets = other.targets;
+            this.choices = other.choices == null ? null : new ArrayList<>(other.choices);
+            this.modes = other.modes;
+            this.modesStr = other.modesStr;
+        }
+
         public Decision(Score initialScore, Decision prevDecision, int[] modes, String modesStr) {
             this.initialScore = initialScore;
             this.prevDecision = prevDecision;
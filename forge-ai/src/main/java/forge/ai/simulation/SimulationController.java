@@ -12,7 +12,7 @@ import forge.game.spellability.SpellAbility;
 
 public class SimulationController {
     private static boolean DEBUG = false;
-    private static int MAX_DEPTH = 3;
+    private static final int DEFAULT_MAX_DEPTH = 3;
 
     private List<Plan.Decision> currentStack;
     private List<Score> scoreStack;
@@ -21,6 +21,23 @@ public class SimulationController {
     private Score bestScore;
     private List<CachedEffect> effectCache = new ArrayList<>();
     private GameObject[] currentHostAndTarget;
+    private long deadline; // 0 means no time limit
+    private int forkedCacheSize;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private TranspositionTable transpositions;
+    private List<SearchNode> searchStack = new ArrayList<>();
+
+    private static class SearchNode {
+        final long stateHash;
+        final Plan.Decision decision;
+        final Plan.Decision bestSequenceBefore;
+
+        SearchNode(long stateHash, Plan.Decision decision, Plan.Decision bestSequenceBefore) {
+            this.stateHash = stateHash;
+            this.decision = decision;
+            this.bestSequenceBefore = bestSequenceBefore;
+        }
+    }
 
     private static class CachedEffect {
         final GameObject hostCard;
@@ -46,12 +63,76 @@ public class SimulationController {
         currentStack = new ArrayList<>();
     }
     
+    /**
+     * Creates a controller for evaluating one top-level candidate, possibly on its own thread.
+     * The fork starts from this controller's state with its own caches, and is folded back in with {@link #merge}.
+     */
+    public SimulationController fork() {
+        SimulationController child = new SimulationController(getCurrentScore());
+        child.scoreStack = new ArrayList<>(scoreStack);
+        child.simulatorStack = new ArrayList<>(simulatorStack);
+        child.currentStack = new ArrayList<>(currentStack);
+        child.bestScore = bestScore;
+        child.bestSequence = bestSequence;
+        child.effectCache = new ArrayList<>(effectCache);
+        child.forkedCacheSize = effectCache.size();
+        child.deadline = deadline;
+        child.maxDepth = maxDepth;
+        child.searchStack = new ArrayList<>(searchStack);
+        // each fork gets its own table, sharing one would make the result depend on thread timing
+        if (transpositions != null) {
+            child.transpositions = new TranspositionTable(transpositions.getCapacity());
+        }
+        return child;
+    }
+
+    /**
+     * Folds the result of a fork back in. Forks must be merged in candidate order
+     * so that ties are resolved the same way as a sequential evaluation.
+     */
+    public void merge(SimulationController child) {
+        if (child.bestScore.value > bestScore.value) {
+            bestScore = child.bestScore;
+            bestSequence = child.bestSequence;
+        }
+        for (int i = child.forkedCacheSize; i < child.effectCache.size(); i++) {
+            effectCache.add(child.effectCache.get(i));
+        }
+        if (transpositions != null && child.transpositions != null) {
+            transpositions.addCounts(child.transpositions);
+        }
+    }
+
+    public void setTimeBudget(long millis) {
+        deadline = millis > 0 ? System.currentTimeMillis() + millis : 0;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Enables remembering evaluations and search results of states reached more than once.
+     * @param capacity the maximum number of states to remember, 0 to disable
+     */
+    public void setTranspositionTableSize(int capacity) {
+        transpositions = capacity > 0 ? new TranspositionTable(capacity) : null;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositions;
+    }
+
+    public boolean isOutOfTime() {
+        return deadline != 0 && System.currentTimeMillis() > deadline;
+    }
+
     private int getRecursionDepth() {
         return scoreStack.size() - 1;
     }
 
     public boolean shouldRecurse() {
-        return bestScore.value != Integer.MAX_VALUE && getRecursionDepth() < MAX_DEPTH;
+        return bestScore.value != Integer.MAX_VALUE && getRecursionDepth() < maxDepth && !isOutOfTime();
     }
 
     public Plan.Decision getLastDecision() {
@@ -163,8 +244,16 @@ public class SimulationController {
     }
 
     public void push(SpellAbility sa, Score score, GameSimulator simulator) {
+        push(sa, score, simulator, 0);
+    }
+
+    /**
+     * @param stateHash hash of the state searched below, its result is remembered on {@link #pop}; 0 if not hashed
+     */
+    public void push(SpellAbility sa, Score score, GameSimulator simulator, long stateHash) {
         GameSimulator.debugPrint("Recursing DEPTH=" + getRecursionDepth());
         GameSimulator.debugPrint("  With: " + sa);
+        searchStack.add(new SearchNode(stateHash, getLastDecision(), bestSequence));
         scoreStack.add(score);
         simulatorStack.add(simulator);
     }
@@ -172,9 +261,77 @@ public class SimulationController {
     public void pop(Score score, SpellAbility nextSa) {
         scoreStack.remove(scoreStack.size() - 1);
         simulatorStack.remove(simulatorStack.size() - 1);
+        SearchNode node = searchStack.remove(searchStack.size() - 1);
+        // a search cut short by the time budget is shallower than it claims, don't remember it
+        if (transpositions != null && node.stateHash != 0 && !isOutOfTime()) {
+            List<Plan.Decision> continuation = getContinuationBelow(node);
+            transpositions.putSearchResult(node.stateHash, getRemainingDepth(), score, continuation, continuation != null ? bestScore : null);
+        }
         GameSimulator.debugPrint("DEPTH"+getRecursionDepth()+" best score " + score + " " + nextSa);
     }
 
+    private int getRemainingDepth() {
+        return maxDepth - getRecursionDepth();
+    }
+
+    /**
+     * Returns the decisions made below the node if the best sequence was improved while searching it.
+     */
+    private List<Plan.Decision> getContinuationBelow(SearchNode node) {
+        if (bestSequence == node.bestSequenceBefore) {
+            return null;
+        }
+        List<Plan.Decision> continuation = new ArrayList<>();
+        for (Plan.Decision d = bestSequence; d != null; d = d.prevDecision) {
+            if (d == node.decision) {
+                Collections.reverse(continuation);
+                return continuation;
+            }
+            continuation.add(d);
+        }
+        // the new best sequence isn't below this node
+        return null;
+    }
+
+    public Score getCachedEvaluation(long stateHash) {
+        return transpositions == null ? null : transpositions.getEvaluation(stateHash);
+    }
+
+    public void cacheEvaluation(long stateHash, Score score) {
+        if (transpositions != null) {
+            transpositions.putEvaluation(stateHash, score);
+        }
+    }
+
+    /**
+     * Looks up a state that was already searched at least as deep as it would be now. On a hit the
+     * remembered best continuation is attached to the current decision, as if it had been searched again.
+     * @return the score of the search, or null if the state has to be searched
+     */
+    public Score getCachedSearchResult(long stateHash) {
+        if (transpositions == null) {
+            return null;
+        }
+        TranspositionTable.Entry entry = transpositions.getSearchResult(stateHash, getRemainingDepth());
+        if (entry == null) {
+            return null;
+        }
+        List<Plan.Decision> continuation = entry.getContinuation();
+        if (continuation != null) {
+            Plan.Decision prev = getLastDecision();
+            for (Plan.Decision d : continuation) {
+                prev = new Plan.Decision(d, prev);
+            }
+            Score continuationScore = entry.getContinuationScore();
+            if (prev.initialScore.value < continuationScore.value && continuationScore.value > bestScore.value) {
+                bestScore = continuationScore;
+                bestSequence = prev;
+            }
+        }
+        GameSimulator.debugPrint("DEPTH" + getRecursionDepth() + " transposition, score " + entry.getSearchScore());
+        return entry.getSearchScore();
+    }
+
     public GameObject[] getOriginalHostCardAndTarget(SpellAbility sa) {
         SpellAbility saOrSubSa = sa;
         while (saOrSubSa != null && !saOrSubSa.usesTargeting()) {
@@ -5,12 +5,19 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import forge.ai.AiController;
 import forge.ai.AiPlayDecision;
+import forge.ai.AiProps;
 import forge.ai.ComputerUtil;
 import forge.ai.ComputerUtilAbility;
 import forge.ai.ComputerUtilCard;
 import forge.ai.ComputerUtilCost;
+import forge.ai.PlayerControllerAi;
 import forge.ai.ability.ChangeZoneAi;
 import forge.ai.ability.LearnAi;
 import forge.ai.simulation.GameStateEvaluator.Score;
@@ -38,7 +45,7 @@ public class SpellAbilityPicker {
     private SpellAbilityChoicesIterator interceptor;
 
     private Plan plan;
-    private int numSimulations;
+    private final AtomicInteger numSimulations = new AtomicInteger();
 
     public SpellAbilityPicker(Game game, Player player) {
         this.game = game;
@@ -102,7 +109,7 @@ public class SpellAbilityPicker {
         if (controller != null) {
             // This is a recursion during a higher-level simulation. Just return the head of the best
             // sequence directly, no need to create a Plan object.
-            return chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, null);
+            return chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, null, 0);
         }
 
         printPhaseInfo();
@@ -116,7 +123,18 @@ public class SpellAbilityPicker {
 
     private Plan formulatePlanWithPhase(Score origGameScore, List<SpellAbility> candidateSAs, PhaseType phase) {
         SimulationController controller = new SimulationController(origGameScore);
-        SpellAbility sa = chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, phase);
+        int threads = 1;
+        AiController aic = getAiController();
+        if (aic != null) {
+            controller.setTimeBudget(aic.getIntProperty(AiProps.SIMULATION_TIME_BUDGET_MS));
+            controller.setMaxDepth(aic.getIntProperty(AiProps.SIMULATION_MAX_DEPTH));
+            controller.setTranspositionTableSize(aic.getIntProperty(AiProps.SIMULATION_TRANSPOSITION_TABLE_SIZE));
+            threads = Math.max(1, aic.getIntProperty(AiProps.SIMULATION_PARALLEL_THREADS));
+        }
+        SpellAbility sa = chooseSpellAbilityToPlayImpl(controller, candidateSAs, origGameScore, phase, threads);
+        if (controller.getTranspositionTable() != null) {
+            print("Transposition table: " + controller.getTranspositionTable());
+        }
         if (sa != null) {
             return controller.getBestPlan();
         }
@@ -185,14 +203,39 @@ public class SpellAbilityPicker {
         plan = bestPlan;
     }
 
-    private SpellAbility chooseSpellAbilityToPlayImpl(SimulationController controller, List<SpellAbility> candidateSAs, Score origGameScore, PhaseType phase) {
+    private AiController getAiController() {
+        if (player.getController() instanceof PlayerControllerAi) {
+            return ((PlayerControllerAi) player.getController()).getAi();
+        }
+        return null;
+    }
+
+    /**
+     * @param threads how many threads to evaluate the candidates on, 1 or less to evaluate them in turn
+     */
+    private SpellAbility chooseSpellAbilityToPlayImpl(SimulationController controller, List<SpellAbility> candidateSAs, Score origGameScore, PhaseType phase, int threads) {
         long startTime = System.currentTimeMillis();
 
         SpellAbility bestSa = null;
         Score bestSaValue = origGameScore;
         print("Evaluating... (orig score = " + origGameScore +  ")");
-        for (int i = 0; i < candidateSAs.size(); i++) {
-            Score value = evaluateSa(controller, phase, candidateSAs, i);
+        // Draw the seeds up front, in the same order evaluateSa would, so that each
+        // candidate simulates the same random outcomes on either path.
+        long[] seeds = new long[candidateSAs.size()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = MyRandom.getRandom().nextLong();
+        }
+        Score[] values;
+        if (threads > 1 && candidateSAs.size() > 1) {
+            values = evaluateOnForks(controller, phase, candidateSAs, seeds, Math.min(threads, candidateSAs.size()));
+        } else {
+            values = new Score[candidateSAs.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = evaluateSaInTime(controller, phase, candidateSAs, i, seeds[i]);
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            Score value = values[i];
             if (value.value > bestSaValue.value) {
                 bestSaValue = value;
                 bestSa = candidateSAs.get(i);
@@ -361,34 +404,109 @@ public class SpellAbilityPicker {
         return AiPlayDecision.WillPlay;
     }
 
+    /**
+     * Evaluates each candidate in parallel on its own fork of the controller, merged back in candidate order
+     * once all are done. As no candidate sees what the others left in the effect cache and the transposition
+     * table, the pick doesn't depend on how the threads were scheduled, but it can differ from the one made
+     * when evaluating in turn on a shared controller. Parallel results are only reproducible between parallel runs.
+     */
+    private Score[] evaluateOnForks(final SimulationController controller, final PhaseType phase, final List<SpellAbility> saList, final long[] seeds, int workers) {
+        final SimulationController[] forks = new SimulationController[saList.size()];
+        for (int i = 0; i < forks.length; i++) {
+            forks[i] = controller.fork();
+        }
+        final Score[] values = new Score[saList.size()];
+        evaluateInParallel(forks, phase, saList, seeds, values, workers);
+        for (SimulationController fork : forks) {
+            controller.merge(fork);
+        }
+        return values;
+    }
+
+    /**
+     * Runs the given number of tasks on the shared pool, each taking the next candidate not started yet.
+     */
+    private void evaluateInParallel(final SimulationController[] forks, final PhaseType phase, final List<SpellAbility> saList, final long[] seeds, final Score[] values, int workers) {
+        final AtomicInteger nextIndex = new AtomicInteger();
+        final List<Future<?>> results = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            results.add(SimulationPool.POOL.submit(() -> {
+                for (int i = nextIndex.getAndIncrement(); i < values.length; i = nextIndex.getAndIncrement()) {
+                    values[i] = evaluateSaInTime(forks[i], phase, saList, i, seeds[i]);
+                }
+            }));
+        }
+
+        // join every task before returning, even when one of them failed
+        RuntimeException failure = null;
+        for (Future<?> result : results) {
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new RuntimeException(e);
+                }
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // One pool for all games and AI profiles, never resized or shut down. Each decision limits
+    // itself to the number of threads its profile asks for by the number of tasks it submits.
+    private static final class SimulationPool {
+        static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    private Score evaluateSaInTime(final SimulationController controller, PhaseType phase, List<SpellAbility> saList, int saIndex, long randomSeedToUse) {
+        // Once the time budget is spent, candidates that weren't started yet are skipped.
+        // Those already running finish their choices but stop recursing (see shouldRecurse).
+        if (controller.isOutOfTime()) {
+            return new Score(Integer.MIN_VALUE);
+        }
+        return evaluateSa(controller, phase, saList, saIndex, randomSeedToUse);
+    }
+
     public Score evaluateSa(final SimulationController controller, PhaseType phase, List<SpellAbility> saList, int saIndex) {
+        return evaluateSa(controller, phase, saList, saIndex, MyRandom.getRandom().nextLong());
+    }
+
+    private Score evaluateSa(final SimulationController controller, PhaseType phase, List<SpellAbility> saList, int saIndex, long randomSeedToUse) {
         controller.evaluateSpellAbility(saList, saIndex);
         SpellAbility sa = saList.get(saIndex);
 
         // Use a deterministic random seed when evaluating different choices of a spell ability.
         // This is needed as otherwise random effects may result in a different number of choices
         // each iteration, which will break the logic in SpellAbilityChoicesIterator.
-        Random origRandom = MyRandom.getRandom();
-        long randomSeedToUse = origRandom.nextLong();
+        // The seeded random is only installed for this thread, so candidates can be
+        // simulated in parallel without messing up global state.
+        Random origThreadRandom = MyRandom.getThreadRandom();
 
         Score bestScore = new Score(Integer.MIN_VALUE);
         final SpellAbilityChoicesIterator choicesIterator = new SpellAbilityChoicesIterator(controller);
         Score lastScore;
-        do {
-            // TODO: MyRandom should be an instance on the game object, so that we could do
-            // simulations in parallel without messing up global state.
-            MyRandom.setRandom(new Random(randomSeedToUse));
-            GameSimulator simulator = new GameSimulator(controller, game, player, phase);
-            simulator.setInterceptor(choicesIterator);
-            // I feel like something here is making a wrong assumption about what the target is
-            lastScore = simulator.simulateSpellAbility(sa);
-            numSimulations++;
-            if (lastScore.value > bestScore.value) {
-                bestScore = lastScore;
-            }
-        } while (choicesIterator.advance(lastScore));
+        try {
+            do {
+                MyRandom.setThreadRandom(new Random(randomSeedToUse));
+                GameSimulator simulator = new GameSimulator(controller, game, player, phase);
+                simulator.setInterceptor(choicesIterator);
+                // I feel like something here is making a wrong assumption about what the target is
+                lastScore = simulator.simulateSpellAbility(sa);
+                numSimulations.incrementAndGet();
+                if (lastScore.value > bestScore.value) {
+                    bestScore = lastScore;
+                }
+            } while (choicesIterator.advance(lastScore));
+        } finally {
+            MyRandom.setThreadRandom(origThreadRandom);
+        }
         controller.doneEvaluating(bestScore);
-        MyRandom.setRandom(origRandom);
         return bestScore;
     }
 
@@ -466,6 +584,6 @@ public class SpellAbilityPicker {
     }
 
     public int getNumSimulations() {
-        return numSimulations;
+        return numSimulations.get();
     }
 }
@@ -0,0 +1,119 @@
+package forge.ai.simulation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import forge.ai.simulation.GameStateEvaluator.Score;
+
+/**
+ * Bounded table of results keyed by {@link GameStateHasher} hashes, least recently used entries
+ * are dropped first. It remembers the evaluation of a simulated state, and the score and best
+ * continuation found by searching below it, so that positions reached again through a different
+ * ordering of the same spells don't have to be evaluated or searched again.
+ */
+public class TranspositionTable {
+    public static class Entry {
+        private Score evaluation;
+        private Score searchScore;
+        private int searchDepth = -1;
+        private List<Plan.Decision> continuation;
+        private Score continuationScore;
+
+        public Score getSearchScore() {
+            return searchScore;
+        }
+
+        public Score getContinuationScore() {
+            return continuationScore;
+        }
+
+        /** @return the decisions below the searched state leading to the best score, or null if none of them improved it */
+        public List<Plan.Decision> getContinuation() {
+            return continuation;
+        }
+    }
+
+    private final int capacity;
+    private final Map<Long, Entry> entries;
+    private int evalLookups;
+    private int evalHits;
+    private int searchLookups;
+    private int searchHits;
+
+    public TranspositionTable(final int capacity) {
+        this.capacity = capacity;
+        entries = new LinkedHashMap<Long, Entry>(Math.min(capacity, 1024), 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    private Entry getOrCreate(final long hash) {
+        return entries.computeIfAbsent(hash, h -> new Entry());
+    }
+
+    public Score getEvaluation(final long hash) {
+        evalLookups++;
+        final Entry e = entries.get(hash);
+        if (e == null || e.evaluation == null) {
+            return null;
+        }
+        evalHits++;
+        return e.evaluation;
+    }
+
+    public void putEvaluation(final long hash, final Score score) {
+        getOrCreate(hash).evaluation = score;
+    }
+
+    /**
+     * @param depth how many levels the caller would search below this state
+     * @return an entry that was searched at least as deep, or null
+     */
+    public Entry getSearchResult(final long hash, final int depth) {
+        searchLookups++;
+        final Entry e = entries.get(hash);
+        if (e == null || e.searchDepth < depth) {
+            return null;
+        }
+        searchHits++;
+        return e;
+    }
+
+    public void putSearchResult(final long hash, final int depth, final Score score, final List<Plan.Decision> continuation, final Score continuationScore) {
+        final Entry e = getOrCreate(hash);
+        if (depth >= e.searchDepth) {
+            e.searchDepth = depth;
+            e.searchScore = score;
+            e.continuation = continuation;
+            e.continuationScore = continuationScore;
+        }
+    }
+
+    /** Adds the lookups and hits of a table that was searched separately, for reporting. */
+    public void addCounts(final TranspositionTable other) {
+        evalLookups += other.evalLookups;
+        evalHits += other.evalHits;
+        searchLookups += other.searchLookups;
+        searchHits += other.searchHits;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d entries, evaluations %d/%d hits, searches %d/%d hits",
+                entries.size(), evalHits, evalLookups, searchHits, searchLookups);
+    }
+}
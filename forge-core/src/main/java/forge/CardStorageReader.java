@@ -73,6 +73,9 @@ public class CardStorageReader {
 
     private final boolean loadCardsLazily;
 
+    private CardStorageSnapshot snapshot;
+    private Map<String, CardStorageSnapshot.Entry> capturedScripts;
+
     public CardStorageReader(final String cardDataDir, final CardStorageReader.ProgressObserver progressObserver, boolean loadCardsLazily) {
         this.progressObserver = progressObserver != null ? progressObserver : CardStorageReader.ProgressObserver.emptyObserver;
         this.cardsfolder = new File(cardDataDir);
@@ -103,6 +106,14 @@ public class CardStorageReader {
         this.charset = Charset.forName(CardStorageReader.DEFAULT_CHARSET_NAME);
     } // CardReader()
 
+    /**
+     * Enables the compiled card snapshot: cards are read from the given file when it matches the
+     * current scripts, and the file is (re)written after a full load otherwise.
+     */
+    public void setSnapshotFile(final File snapshotFile) {
+        this.snapshot = snapshotFile == null ? null : new CardStorageSnapshot(snapshotFile);
+    }
+
     private List<CardRules> loadCardsInRange(final List<File> files, final int from, final int to) {
         final CardRules.Reader rulesReader = new CardRules.Reader();
 
@@ -114,6 +125,17 @@ public class CardStorageReader {
         return result;
     }
 
+    private List<CardRules> loadCardsInRangeFromSnapshot(final List<CardStorageSnapshot.Entry> entries, final int from, final int to) {
+        final CardRules.Reader rulesReader = new CardRules.Reader();
+
+        final List<CardRules> result = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            final CardStorageSnapshot.Entry entry = entries.get(i);
+            result.add(rulesReader.readCard(entry.getLines(), entry.getName()));
+        }
+        return result;
+    }
+
     private List<CardRules> loadCardsInRangeFromZip(final List<ZipEntry> files, final int from, final int to) {
         final CardRules.Reader rulesReader = new CardRules.Reader();
 
@@ -240,6 +262,27 @@ public class CardStorageReader {
         }
  
         final List<File> allFiles = collectCardFiles(new ArrayList<>(), this.cardsfolder);
+
+        byte[] fingerprint = null;
+        if (snapshot != null) {
+            fingerprint = makeFingerprint(allFiles);
+            final StopWatch sw = new StopWatch();
+            sw.start();
+            final List<CardStorageSnapshot.Entry> entries = snapshot.read(fingerprint);
+            if (entries != null) {
+                int parts = Math.max(1, Math.min(NUMBER_OF_PARTS, entries.size() / 100));
+                final CountDownLatch cdlSnapshot = new CountDownLatch(parts);
+                final List<Callable<List<CardRules>>> taskSnapshot = makeTaskListForSnapshot(entries, cdlSnapshot);
+                progressObserver.setOperationName(localizer.getMessage("splash.loading.cards-archive"), true);
+                progressObserver.report(0, taskSnapshot.size());
+                executeLoadTask(result, taskSnapshot, cdlSnapshot);
+                sw.stop();
+                System.out.printf("Read cards: %s scripts from snapshot %s in %d ms%n", entries.size(), snapshot.getFile().getName(), sw.getTime());
+                return result;
+            }
+            capturedScripts = new ConcurrentHashMap<>();
+        }
+
         if (!allFiles.isEmpty()) {
             int fileParts = zip == null ? NUMBER_OF_PARTS : 1 + NUMBER_OF_PARTS / 3;
             if (allFiles.size() < fileParts * 100) {
@@ -271,9 +314,38 @@ public class CardStorageReader {
             System.out.printf("Read cards: %s archived files in %d ms (%d parts) %s%n", this.zip.size(), timeOnParse, taskZip.size(), useThreadPool ? "using thread pool" : "in same thread");
         }
 
+        if (capturedScripts != null) {
+            // sorted by source path, so that identical sources produce identical snapshots
+            snapshot.write(fingerprint, new TreeMap<>(capturedScripts).values());
+            capturedScripts = null;
+        }
+
         return result;
     }
 
+    /**
+     * Fingerprints the scripts the snapshot was built from: entry name, CRC and size for archived
+     * scripts, path, size and modification time for loose files (hashing their content would mean
+     * reading every file, which is what the snapshot is there to avoid).
+     */
+    private byte[] makeFingerprint(final List<File> allFiles) {
+        final CardStorageSnapshot.Fingerprint fp = new CardStorageSnapshot.Fingerprint();
+        fp.add(cardsfolder.getAbsolutePath());
+        final List<File> sortedFiles = new ArrayList<>(allFiles);
+        sortedFiles.sort(Comparator.comparing(File::getPath));
+        for (final File f : sortedFiles) {
+            fp.add(f.getPath()).add(f.length()).add(f.lastModified());
+        }
+        if (zip != null) {
+            final List<ZipEntry> entries = getZipEntries();
+            entries.sort(Comparator.comparing(ZipEntry::getName));
+            for (final ZipEntry ze : entries) {
+                fp.add(ze.getName()).add(ze.getCrc()).add(ze.getSize());
+            }
+        }
+        return fp.toBytes();
+    }
+
     private List<ZipEntry> getZipEntries() {
         ZipEntry entry;
         final List<ZipEntry> entries = new ArrayList<>();
@@ -329,6 +401,24 @@ public class CardStorageReader {
         return tasks;
     }
 
+    private List<Callable<List<CardRules>>> makeTaskListForSnapshot(final List<CardStorageSnapshot.Entry> entries, final CountDownLatch cdl) {
+        final int totalFiles = entries.size();
+        final int maxParts = (int) cdl.getCount();
+        final int filesPerPart = totalFiles / maxParts;
+        final List<Callable<List<CardRules>>> tasks = new ArrayList<>();
+        for (int iPart = 0; iPart < maxParts; iPart++) {
+            final int from = iPart * filesPerPart;
+            final int till = iPart == maxParts - 1 ? totalFiles : from + filesPerPart;
+            tasks.add(() -> {
+                final List<CardRules> res = loadCardsInRangeFromSnapshot(entries, from, till);
+                cdl.countDown();
+                progressObserver.report(maxParts - (int)cdl.getCount(), maxParts);
+                return res;
+            });
+        }
+        return tasks;
+    }
+
     private List<Callable<List<CardRules>>> makeTaskListForFiles(final List<File> allFiles, final CountDownLatch cdl) {
         final int totalFiles = allFiles.size();
         final int maxParts = (int) cdl.getCount();
@@ -376,6 +466,20 @@ public class CardStorageReader {
         return FileUtil.readAllLines(new InputStreamReader(inputStream, this.charset), true);
     }
 
+    private void captureScript(final String source, final String name, final List<String> lines) {
+        final Map<String, CardStorageSnapshot.Entry> captured = capturedScripts;
+        if (captured == null) {
+            return;
+        }
+        final List<String> significant = new ArrayList<>(lines.size());
+        for (final String line : lines) {
+            if (!line.isEmpty() && line.charAt(0) != '#') {
+                significant.add(line);
+            }
+        }
+        captured.put(source, new CardStorageSnapshot.Entry(name, significant));
+    }
+
     /**
      * Load a card from a txt file.
      *
@@ -385,7 +489,9 @@ public class CardStorageReader {
         try (InputStream fileInputStream = java.nio.file.Files.newInputStream(file.toPath())) {
             reader.reset();
             final List<String> lines = readScript(fileInputStream);
-            return reader.readCard(lines, Files.getNameWithoutExtension(file.getName()));
+            final String name = Files.getNameWithoutExtension(file.getName());
+            captureScript(file.getPath(), name, lines);
+            return reader.readCard(lines, name);
         } catch (final FileNotFoundException ex) {
             throw new RuntimeException("CardReader : run error -- file not found: " + file.getPath(), ex);
         } catch (final Exception ex) {
@@ -404,7 +510,10 @@ public class CardStorageReader {
     protected final CardRules loadCard(final CardRules.Reader rulesReader, final ZipEntry entry) {
         try (InputStream zipInputStream = this.zip.getInputStream(entry)) {
             rulesReader.reset();
-            return rulesReader.readCard(readScript(zipInputStream), Files.getNameWithoutExtension(entry.getName()));
+            final List<String> lines = readScript(zipInputStream);
+            final String name = Files.getNameWithoutExtension(entry.getName());
+            captureScript("zip:" + entry.getName(), name, lines);
+            return rulesReader.readCard(lines, name);
         } catch (final IOException exn) {
             throw new RuntimeException(exn);
         }
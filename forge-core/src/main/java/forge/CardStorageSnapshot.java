@@ -0,0 +1,197 @@
+/*
+ * Forge: Play Magic: the Gathering.
+ * Copyright (C) 2011  Forge Team
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package forge;
+
+import forge.util.BuildInfo;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Compiled snapshot of a card script folder.
+ * <p>
+ * The snapshot keeps the significant lines (no blanks, no comments) of every card script in one
+ * binary file, so a later start can skip walking and opening tens of thousands of small files.
+ * The file is only accepted if its format version, Forge version and source fingerprint all match.
+ */
+public final class CardStorageSnapshot {
+    private static final int MAGIC = 0x46435353; // "FCSS"
+    /** Bump whenever the layout below changes. */
+    private static final int FORMAT_VERSION = 1;
+
+    public static final class Entry {
+        private final String name;
+        private final List<String> lines;
+
+        public Entry(final String name, final List<String> lines) {
+            this.name = name;
+            this.lines = lines;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getLines() {
+            return lines;
+        }
+    }
+
+    private final File file;
+
+    public CardStorageSnapshot(final File file) {
+        this.file = file;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Builds an incremental fingerprint of the card sources.
+     * Callers feed it one record per script so the order must be stable between runs.
+     */
+    public static final class Fingerprint {
+        private final MessageDigest digest;
+
+        public Fingerprint() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+            add(BuildInfo.getVersionString());
+        }
+
+        public Fingerprint add(final String value) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return this;
+        }
+
+        public Fingerprint add(final long value) {
+            for (int i = 0; i < 8; i++) {
+                digest.update((byte) (value >>> (i * 8)));
+            }
+            return this;
+        }
+
+        public byte[] toBytes() {
+            return digest.digest();
+        }
+    }
+
+    /**
+     * Reads the snapshot through a memory-mapped buffer.
+     *
+     * @return the stored entries, or null if the file is missing, corrupt or stale
+     */
+    public List<Entry> read(final byte[] expectedFingerprint) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            final byte[] fingerprint = new byte[buf.getInt()];
+            buf.get(fingerprint);
+            if (!Arrays.equals(fingerprint, expectedFingerprint)) {
+                return null;
+            }
+
+            final int count = buf.getInt();
+            final List<Entry> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final String name = readString(buf);
+                final int nLines = buf.getInt();
+                final List<String> lines = new ArrayList<>(nLines);
+                for (int j = 0; j < nLines; j++) {
+                    lines.add(readString(buf));
+                }
+                result.add(new Entry(name, lines));
+            }
+            return result;
+        } catch (final IOException | RuntimeException e) {
+            // a damaged snapshot is not fatal, the scripts will be read again
+            System.err.printf("Ignoring card snapshot %s: %s%n", file.getAbsolutePath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot atomically, replacing any previous file.
+     */
+    public void write(final byte[] fingerprint, final Collection<Entry> entries) {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            System.err.println("Cannot create folder for card snapshot: " + parent.getAbsolutePath());
+            return;
+        }
+        final File tmp = new File(file.getPath() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(fingerprint.length);
+                out.write(fingerprint);
+                out.writeInt(entries.size());
+                for (final Entry e : entries) {
+                    writeString(out, e.getName());
+                    out.writeInt(e.getLines().size());
+                    for (final String line : e.getLines()) {
+                        writeString(out, line);
+                    }
+                }
+            }
+            java.nio.file.Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            System.err.printf("Could not write card snapshot %s: %s%n", file.getAbsolutePath(), e);
+            tmp.delete();
+        }
+    }
+
+    private static String readString(final ByteBuffer buf) {
+        final int len = buf.getInt();
+        if (len < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[len];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -32,6 +32,8 @@ import java.util.Random;
 public class MyRandom {
     /** Constant <code>random</code>. */
     private static Random random = new SecureRandom();
+    /** Per-thread override, so simulations on worker threads don't share one sequence. */
+    private static final ThreadLocal<Random> threadRandom = new ThreadLocal<>();
 
     /**
      * <p>
@@ -52,7 +54,8 @@ public class MyRandom {
      * @return the random
      */
     public static Random getRandom() {
-        return MyRandom.random;
+        final Random r = threadRandom.get();
+        return r != null ? r : MyRandom.random;
     }
 
     /**
@@ -63,11 +66,32 @@ public class MyRandom {
         MyRandom.random = random;
     }
 
+    /**
+     * Gets the random provider installed for the current thread only.
+     * @return the thread's random, or null if the thread uses the shared one
+     */
+    public static Random getThreadRandom() {
+        return threadRandom.get();
+    }
+
+    /**
+     * Sets a random provider for the current thread only. Used for deterministic simulation
+     * that may run on several threads at once. Pass null to fall back to the shared one.
+     * @param random the random
+     */
+    public static void setThreadRandom(Random random) {
+        if (random == null) {
+            threadRandom.remove();
+        } else {
+            threadRandom.set(random);
+        }
+    }
+
     public static int[] splitIntoRandomGroups(final int value, final int numGroups) {
         int[] groups = new int[numGroups];
         
         for (int i = 0; i < value; i++) {
-            groups[random.nextInt(numGroups)]++;
+            groups[getRandom().nextInt(numGroups)]++;
         }
 
         return groups;
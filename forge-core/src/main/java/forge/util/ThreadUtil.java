@@ -29,6 +29,29 @@ public class ThreadUtil {
 
     private final static ExecutorService gameThreadPool = Executors.newCachedThreadPool(new WorkerThreadFactory("Game"));
     private static ExecutorService getGameThreadPool() { return gameThreadPool; }
+    // game threads of their own, e.g. for one table of a server hosting several matches
+    public static ExecutorService newGameThreadPool(final String name) {
+        return newGameThreadPool(name, false);
+    }
+    // virtual threads are much cheaper to keep parked while waiting for a remote player,
+    // they need Java 21 so platform threads are used when running on an older version
+    public static ExecutorService newGameThreadPool(final String name, final boolean virtual) {
+        final ThreadFactory virtualThreads = virtual ? getVirtualThreadFactory("Game-" + name + "-") : null;
+        if (virtualThreads != null) {
+            return Executors.newCachedThreadPool(virtualThreads);
+        }
+        return Executors.newCachedThreadPool(new WorkerThreadFactory("Game-" + name));
+    }
+    private static ThreadFactory getVirtualThreadFactory(final String prefix) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+    }
     private final static ScheduledExecutorService scheduledPool = Executors.newScheduledThreadPool(2, new WorkerThreadFactory("Delayed"));
     private static ScheduledExecutorService getScheduledPool() { return scheduledPool; }
 
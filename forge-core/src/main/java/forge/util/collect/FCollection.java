@@ -1,11 +1,17 @@
 package forge.util.collect;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -19,12 +25,14 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
-import com.google.common.collect.Sets;
 
 /**
  * Collection with unique elements ({@link Set}) that maintains the order in
  * which the elements are added to it ({@link List}).
  *
+ * The elements are kept in an array, so getting one by index doesn't walk a
+ * list and there is no node object per element.
+ *
  * This object is serializable if all elements it contains are.
  *
  * @param <T> the type of the elements this collection contains.
@@ -40,15 +48,24 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
         return (FCollection<T>) EMPTY;
     }
 
+    /**
+     * Written like the {@link HashSet} and {@link LinkedList} this collection used to
+     * be made of, so peers running an older version can still read it.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("set", Set.class),
+        new ObjectStreamField("list", LinkedList.class)
+    };
+
     /**
      * The {@link Set} representation of this collection.
      */
-    private final Set<T> set = Sets.newHashSet();
+    private OpenHashSet<T> set = new OpenHashSet<>();
 
     /**
      * The {@link List} representation of this collection.
      */
-    private final LinkedList<T> list = Lists.newLinkedList();
+    private ArrayList<T> list = new ArrayList<>();
 
     /**
      * Create an empty {@link FCollection}.
@@ -169,7 +186,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public T getFirst() {
-        return list.getFirst();
+        if (list.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return list.get(0);
     }
 
     /**
@@ -180,7 +200,10 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public T getLast() {
-        return list.getLast();
+        if (list.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return list.get(list.size() - 1);
     }
 
     /**
@@ -219,7 +242,27 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public Iterator<T> iterator() {
-        return list.iterator();
+        final Iterator<T> it = list.iterator();
+        return new Iterator<T>() {
+            private T last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+                set.remove(last);
+            }
+        };
     }
 
     /**
@@ -293,6 +336,7 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public boolean addAll(final Collection<? extends T> c) {
+        list.ensureCapacity(list.size() + c.size());
         return addAll((Iterable<? extends T>) c);
     }
 
@@ -533,8 +577,30 @@ public class FCollection<T> implements List<T>, /*Set<T>,*/ FCollectionView<T>,
      */
     @Override
     public Iterable<T> threadSafeIterable() {
-        //create a new linked list for iterating to make it thread safe and avoid concurrent modification exceptions
-        return Iterables.unmodifiableIterable(new LinkedList<>(list));
+        //create a copy for iterating to make it thread safe and avoid concurrent modification exceptions
+        return Iterables.unmodifiableIterable(new ArrayList<>(list));
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("set", new HashSet<>(list));
+        fields.put("list", new LinkedList<>(list));
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final List<T> read = (List<T>) fields.get("list", null);
+        set = new OpenHashSet<>();
+        list = new ArrayList<>(read == null ? 0 : read.size());
+        if (read != null) {
+            for (final T e : read) {
+                if (set.add(e)) {
+                    list.add(e);
+                }
+            }
+        }
     }
 
     @Override
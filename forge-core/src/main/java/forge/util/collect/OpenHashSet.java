@@ -0,0 +1,187 @@
+package forge.util.collect;
+
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash set keeping its elements in a single array with linear probing, instead of a node object per element
+ * like {@link java.util.HashSet}. Used as the set part of {@link FCollection}.
+ * <p>
+ * Removed elements leave a marker behind until the table is rebuilt, so removing through the iterator is simple.
+ * Iteration order is that of the table and means nothing.
+ *
+ * @param <T> the type of the elements.
+ */
+final class OpenHashSet<T> extends AbstractSet<T> {
+    private static final int MIN_CAPACITY = 8;
+    /** stands in for null, which is a valid element */
+    private static final Object NULL = new Object();
+    private static final Object REMOVED = new Object();
+    /** shared by all empty sets, many collections never get an element */
+    private static final Object[] EMPTY_TABLE = {};
+
+    private Object[] table = EMPTY_TABLE;
+    private int size;
+    /** elements and removal markers in the table, which decide when it's rebuilt */
+    private int used;
+    private int modCount;
+
+    private static Object mask(final Object o) {
+        return o == null ? NULL : o;
+    }
+
+    private static int hash(final Object o) {
+        final int h = o.hashCode();
+        // spread the bits, ids are often small consecutive numbers
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(final Object masked) {
+        final Object[] tab = table;
+        if (tab.length == 0) {
+            return -1;
+        }
+        final int mask = tab.length - 1;
+        int i = hash(masked) & mask;
+        Object cur;
+        while ((cur = tab[i]) != null) {
+            if (cur != REMOVED && (cur == masked || masked.equals(cur))) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return indexOf(mask(o)) >= 0;
+    }
+
+    @Override
+    public boolean add(final T e) {
+        final Object masked = mask(e);
+        if (indexOf(masked) >= 0) {
+            return false;
+        }
+        if ((used + 1) * 3 > table.length * 2) {
+            // grow only if the table is full of elements, not of removal markers
+            rehash(table.length == 0 ? MIN_CAPACITY : size * 3 >= table.length ? table.length * 2 : table.length);
+        }
+        final Object[] tab = table;
+        final int mask = tab.length - 1;
+        int i = hash(masked) & mask;
+        while (tab[i] != null && tab[i] != REMOVED) {
+            i = (i + 1) & mask;
+        }
+        if (tab[i] == null) {
+            used++;
+        }
+        tab[i] = masked;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        final int i = indexOf(mask(o));
+        if (i < 0) {
+            return false;
+        }
+        removeAt(i);
+        return true;
+    }
+
+    private void removeAt(final int i) {
+        table[i] = REMOVED;
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        if (used == 0) {
+            return;
+        }
+        table = EMPTY_TABLE;
+        size = 0;
+        used = 0;
+        modCount++;
+    }
+
+    private void rehash(final int capacity) {
+        final Object[] old = table;
+        final Object[] tab = new Object[capacity];
+        final int mask = capacity - 1;
+        for (final Object o : old) {
+            if (o != null && o != REMOVED) {
+                int i = hash(o) & mask;
+                while (tab[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                tab[i] = o;
+            }
+        }
+        table = tab;
+        used = size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int next = advance(0);
+            private int last = -1;
+            private int expectedModCount = modCount;
+
+            private int advance(int i) {
+                final Object[] tab = table;
+                while (i < tab.length && (tab[i] == null || tab[i] == REMOVED)) {
+                    i++;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < table.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= table.length) {
+                    throw new NoSuchElementException();
+                }
+                last = next;
+                next = advance(next + 1);
+                final Object o = table[last];
+                return o == NULL ? null : (T) o;
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                // leaves a marker, so nothing moves under the iterator
+                removeAt(last);
+                expectedModCount = modCount;
+                last = -1;
+            }
+        };
+    }
+}
@@ -35,12 +35,15 @@ import forge.game.phase.PhaseHandler;
 import forge.game.phase.PhaseType;
 import forge.game.phase.Untap;
 import forge.game.player.*;
+import forge.game.replacement.ReplacementEffectIndex;
 import forge.game.replacement.ReplacementHandler;
 import forge.game.spellability.SpellAbility;
 import forge.game.spellability.SpellAbilityStackInstance;
 import forge.game.staticability.StaticAbilityCantChangeDayTime;
+import forge.game.staticability.StaticAbilityIndex;
 import forge.game.trigger.TriggerHandler;
 import forge.game.trigger.TriggerType;
+import forge.game.zone.CardIdIndex;
 import forge.game.zone.CostPaymentStack;
 import forge.game.zone.MagicStack;
 import forge.game.zone.Zone;
@@ -54,14 +57,15 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents the state of a <i>single game</i>, a new instance is created for each game.
  */
 public class Game {
 
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /** The ID. */
     private int id;
@@ -85,6 +89,9 @@ public class Game {
     private final StaticEffects staticEffects = new StaticEffects();
     private final TriggerHandler triggerHandler = new TriggerHandler(this);
     private final ReplacementHandler replacementHandler = new ReplacementHandler(this);
+    private final StaticAbilityIndex staticAbilityIndex = new StaticAbilityIndex(this);
+    private final ReplacementEffectIndex replacementEffectIndex = new ReplacementEffectIndex(this);
+    private final CardIdIndex cardIdIndex = new CardIdIndex(this);
     private final EventBus events = new EventBus("game events");
     private final GameLog gameLog = new GameLog();
 
@@ -124,6 +131,9 @@ public class Game {
     private int numPiledGuessedSA;
 
     private long timestamp = 0;
+    private long characteristicsEpoch = 0;
+    private long eventCount = 0;
+    private boolean headless = false;
     public final GameAction action;
     private final Match match;
     private GameStage age = GameStage.BeforeMulligan;
@@ -546,6 +556,45 @@ public class Game {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Cards keep their type, color and power/toughness as long as this doesn't change.
+     */
+    public final long getCharacteristicsEpoch() {
+        return characteristicsEpoch;
+    }
+    /**
+     * Called whenever something the characteristics of a card are derived from changes.
+     */
+    public final void nextCharacteristicsEpoch() {
+        characteristicsEpoch++;
+    }
+
+    /**
+     * A headless game has nobody looking at it, like an AI simulation or a match run from the command line.
+     * Its cards don't keep the names, types, colors, keywords and power/toughness of their views up to date.
+     */
+    public final boolean isHeadless() {
+        return headless;
+    }
+    /**
+     * Turning headless off, for example because a gui attaches to the game, brings all views up to date.
+     */
+    public final void setHeadless(final boolean headless0) {
+        if (headless == headless0) {
+            return;
+        }
+        headless = headless0;
+        if (!headless) {
+            forEachCardInGame(new Visitor<Card>() {
+                @Override
+                public boolean visit(final Card c) {
+                    c.updateStaleView();
+                    return true;
+                }
+            }, true);
+        }
+    }
+
     public final GameOutcome getOutcome() {
         return outcome;
     }
@@ -554,6 +603,18 @@ public class Game {
         return maingame;
     }
 
+    public StaticAbilityIndex getStaticAbilityIndex() {
+        return staticAbilityIndex;
+    }
+
+    public ReplacementEffectIndex getReplacementEffectIndex() {
+        return replacementEffectIndex;
+    }
+
+    public CardIdIndex getCardIdIndex() {
+        return cardIdIndex;
+    }
+
     public ReplacementHandler getReplacementHandler() {
         return replacementHandler;
     }
@@ -647,34 +708,12 @@ public class Game {
         return cards;
     }
 
-    private static class CardStateVisitor extends Visitor<Card> {
-        Card found = null;
-        Card old = null;
-
-        private CardStateVisitor(final Card card) {
-            this.old = card;
-        }
-
-        @Override
-        public boolean visit(Card object) {
-            if (object.equals(old)) {
-                found = object;
-            }
-            return found == null;
-        }
-
-        public Card getFound(final Card notFound) {
-            return found == null ? notFound : found;
-        }
-    }
-
     public Card getCardState(final Card card) {
         return getCardState(card, card);
     }
     public Card getCardState(final Card card, final Card notFound) {
-        CardStateVisitor visit = new CardStateVisitor(card);
-        this.forEachCardInGame(visit);
-        return visit.getFound(notFound);
+        final Card found = findById(card.getId());
+        return found != null && found.equals(card) ? found : notFound;
     }
 
     private static class CardIdVisitor extends Visitor<Card> {
@@ -702,21 +741,38 @@ public class Game {
         if (view == null) {
             return null;
         }
-        CardIdVisitor visit = new CardIdVisitor(view.getId());
+        final Zone zone;
         if (ZoneType.Stack.equals(view.getZone())) {
-            visit.visitAll(getStackZone());
+            zone = getStackZone();
         } else if (view.getController() != null && view.getZone() != null) {
-            visit.visitAll(getPlayer(view.getController()).getZone(view.getZone()));
+            zone = getPlayer(view.getController()).getZone(view.getZone());
         } else { // fallback if view doesn't has controller or zone set for some reason
-            forEachCardInGame(visit);
+            return findById(view.getId());
         }
+        final Card found = cardIdIndex.get(view.getId(), zone);
+        if (found != null) {
+            return found;
+        }
+        // not all zones are indexed
+        CardIdVisitor visit = new CardIdVisitor(view.getId());
+        visit.visitAll(zone);
         return visit.getFound();
     }
 
     public Card findById(int id) {
-        CardIdVisitor visit = new CardIdVisitor(id);
-        this.forEachCardInGame(visit);
-        return visit.getFound();
+        final Card found = cardIdIndex.get(id);
+        if (found != null) {
+            return found;
+        }
+        // tokens about to be created aren't in any zone yet
+        for (final Player p : getPlayers()) {
+            for (final Card c : p.getInboundTokens()) {
+                if (c.getId() == id) {
+                    return c;
+                }
+            }
+        }
+        return null;
     }
 
     public void forEachCardInGame(Visitor<Card> visitor) {
@@ -979,6 +1035,7 @@ public class Game {
 
         ingamePlayers.remove(p);
         lostPlayers.add(p);
+        staticAbilityIndex.invalidate();
 
         final Map<AbilityKey, Object> runParams = AbilityKey.mapFromPlayer(p);
         getTriggerHandler().runTrigger(TriggerType.LosesGame, runParams, false);
@@ -989,8 +1046,15 @@ public class Game {
      * The events are sent to UI, log and sound system. Network listeners are under development.
      */
     public void fireEvent(final Event event) {
+        eventCount++;
         events.post(event);
     }
+    /**
+     * @return how many events were fired, anything a player could notice about the game fires one.
+     */
+    public long getEventCount() {
+        return eventCount;
+    }
     public void subscribeToEvents(final Object subscriber) {
         events.register(subscriber);
     }
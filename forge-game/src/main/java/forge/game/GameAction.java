@@ -45,6 +45,7 @@ import forge.game.spellability.SpellPermanent;
 import forge.game.spellability.TargetRestrictions;
 import forge.game.staticability.StaticAbility;
 import forge.game.staticability.StaticAbilityCantAttackBlock;
+import forge.game.staticability.StaticAbilityContinuous;
 import forge.game.staticability.StaticAbilityLayer;
 import forge.game.trigger.TriggerType;
 import forge.game.zone.PlayerZone;
@@ -69,6 +70,12 @@ public class GameAction {
     private final Game game;
 
     private boolean holdCheckingStaticAbilities = false;
+    private boolean verifyStaticAbilities = false;
+
+    private static final Comparator<StaticAbility> CONTINUOUS_ORDER = (a, b) -> ComparisonChain.start()
+            .compareTrueFirst(a.hasParam("CharacteristicDefining"), b.hasParam("CharacteristicDefining"))
+            .compare(a.getHostCard().getLayerTimestamp(), b.getHostCard().getLayerTimestamp())
+            .result();
 
     public GameAction(Game game0) {
         game = game0;
@@ -1061,19 +1068,25 @@ public class GameAction {
         return holdCheckingStaticAbilities;
     }
 
+    /**
+     * Debug mode: whenever checkStaticAbilities only applies again the continuous abilities that changed, apply all
+     * of them again from scratch too and throw an {@link IllegalStateException} if the cards don't end up the same.
+     */
+    public final void setVerifyStaticAbilities(final boolean verify) {
+        verifyStaticAbilities = verify;
+    }
+
     // This doesn't check layers or if the ability gets removed by other effects
     public boolean hasStaticAbilityAffectingZone(ZoneType zone, StaticAbilityLayer layer) {
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions("Continuous")) {
-                    continue;
-                }
-                if (layer != null && !stAb.getLayers().contains(layer)) {
-                    continue;
-                }
-                if (ZoneType.listValueOf(stAb.getParamOrDefault("AffectedZone", ZoneType.Battlefield.toString())).contains(zone)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get("Continuous")) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (layer != null && !stAb.getLayers().contains(layer)) {
+                continue;
+            }
+            if (ZoneType.listValueOf(stAb.getParamOrDefault("AffectedZone", ZoneType.Battlefield.toString())).contains(zone)) {
+                return true;
             }
         }
         return false;
@@ -1094,17 +1107,86 @@ public class GameAction {
         }
         game.getTracker().freeze(); //prevent views flickering during while updating for state-based effects
 
-        // remove old effects
-        game.getStaticEffects().clearStaticEffects(affectedCards);
+        final FCollection<StaticAbility> staticAbilities = new FCollection<>();
+        final CardCollection staticList = new CardCollection();
 
-        for (final Player p : game.getPlayers()) {
-            p.clearStaticAbilities();
+        // preList means that this is run by a pre Check with LKI objects, those always get everything applied again
+        if (preList.isEmpty() && updateContinuousAbilities(staticAbilities, staticList, affectedCards)) {
+            if (verifyStaticAbilities) {
+                verifyContinuousAbilities(affectedCards);
+            }
+        } else {
+            staticAbilities.clear();
+            staticList.clear();
+            applyContinuousAbilities(staticAbilities, staticList, affectedCards, preList);
         }
 
-        // search for cards with static abilities
-        final FCollection<StaticAbility> staticAbilities = new FCollection<>();
-        final CardCollection staticList = new CardCollection();
+        for (final Card c : staticList) {
+            List<Object[]> toRemove = Lists.newArrayList();
+            for (Object[] staticCheck : c.getStaticCommandList()) {
+                final String leftVar = (String) staticCheck[0];
+                final String rightVar = (String) staticCheck[1];
+                final Card affected = (Card) staticCheck[2];
+                // calculate the affected card
+                final int sVar = AbilityUtils.calculateAmount(affected, leftVar, null);
+                final String svarOperator = rightVar.substring(0, 2);
+                final String svarOperand = rightVar.substring(2);
+                final int operandValue = AbilityUtils.calculateAmount(c, svarOperand, null);
+                if (Expressions.compare(sVar, svarOperator, operandValue)) {
+                    ((GameCommand) staticCheck[3]).run();
+                    toRemove.add(staticCheck);
+                    affectedCards.add(c);
+                }
+            }
+            c.getStaticCommandList().removeAll(toRemove);
+        }
 
+        // preList means that this is run by a pre Check with LKI objects
+        // in that case Always trigger should not Run
+        if (preList.isEmpty()) {
+            for (Player p : game.getPlayers()) {
+                for (Card c : p.getCardsIn(ZoneType.Battlefield).threadSafeIterable()) {
+                    if (!c.getController().equals(p)) {
+                        controllerChangeZoneCorrection(c);
+                        affectedCards.add(c);
+                    }
+                    if (c.isCreature() && c.isPaired()) {
+                        Card partner = c.getPairedWith();
+                        if (!partner.isCreature() || c.getController() != partner.getController() || !c.isInPlay()) {
+                            c.setPairedWith(null);
+                            partner.setPairedWith(null);
+                            affectedCards.add(c);
+                        }
+                    }
+                }
+            }
+
+            final Map<AbilityKey, Object> runParams = AbilityKey.newMap();
+            game.getTriggerHandler().runTrigger(TriggerType.Always, runParams, false);
+
+            game.getTriggerHandler().runTrigger(TriggerType.Immediate, runParams, false);
+        }
+
+        // Update P/T and type in the view only once after all the cards have been processed, to avoid flickering
+        for (Card c : affectedCards) {
+            c.updateNameforView();
+            c.updatePowerToughnessForView();
+            c.updateTypesForView();
+            c.updateAbilityTextForView(); // only update keywords and text for view to avoid flickering
+        }
+
+        // TODO filter out old copies from zone change
+
+        if (runEvents && !affectedCards.isEmpty()) {
+            game.fireEvent(new GameEventCardStatsChanged(affectedCards));
+        }
+        game.getTracker().unfreeze();
+    }
+
+    /**
+     * Search the cards for continuous abilities and for cards with static commands.
+     */
+    private void collectStaticAbilities(final FCollection<StaticAbility> staticAbilities, final CardCollection staticList, final CardCollectionView preList) {
         game.forEachCardInGame(new Visitor<Card>() {
             @Override
             public boolean visit(final Card c) {
@@ -1121,12 +1203,23 @@ public class GameAction {
                  return true;
             }
         }, true);
+    }
+
+    private void applyContinuousAbilities(final FCollection<StaticAbility> staticAbilities, final CardCollection staticList,
+            final Set<Card> affectedCards, final CardCollectionView preList) {
+        // the layers are applied again from scratch, so nothing cached from them may survive
+        game.nextCharacteristicsEpoch();
 
-        final Comparator<StaticAbility> comp = (a, b) -> ComparisonChain.start()
-                .compareTrueFirst(a.hasParam("CharacteristicDefining"), b.hasParam("CharacteristicDefining"))
-                .compare(a.getHostCard().getLayerTimestamp(), b.getHostCard().getLayerTimestamp())
-                .result();
-        staticAbilities.sort(comp);
+        // remove old effects
+        game.getStaticEffects().clearStaticEffects(affectedCards);
+
+        for (final Player p : game.getPlayers()) {
+            p.clearStaticAbilities();
+        }
+
+        // search for cards with static abilities
+        collectStaticAbilities(staticAbilities, staticList, preList);
+        staticAbilities.sort(CONTINUOUS_ORDER);
 
         final Map<StaticAbility, CardCollectionView> affectedPerAbility = Maps.newHashMap();
         for (final StaticAbilityLayer layer : StaticAbilityLayer.CONTINUOUS_LAYERS) {
@@ -1162,67 +1255,117 @@ public class GameAction {
                 Iterables.addAll(affectedCards, affected);
             }
         }
+    }
 
-        for (final Card c : staticList) {
-            List<Object[]> toRemove = Lists.newArrayList();
-            for (Object[] staticCheck : c.getStaticCommandList()) {
-                final String leftVar = (String) staticCheck[0];
-                final String rightVar = (String) staticCheck[1];
-                final Card affected = (Card) staticCheck[2];
-                // calculate the affected card
-                final int sVar = AbilityUtils.calculateAmount(affected, leftVar, null);
-                final String svarOperator = rightVar.substring(0, 2);
-                final String svarOperand = rightVar.substring(2);
-                final int operandValue = AbilityUtils.calculateAmount(c, svarOperand, null);
-                if (Expressions.compare(sVar, svarOperator, operandValue)) {
-                    ((GameCommand) staticCheck[3]).run();
-                    toRemove.add(staticCheck);
-                    affectedCards.add(c);
-                }
+    /**
+     * Applies again only the continuous abilities whose affected cards changed since the last check, when all of them
+     * are {@link StaticAbilityContinuous#isIndependent independent}. An independent ability only reads the type,
+     * color and controller of cards, which no other independent ability changes except for characteristic-defining
+     * ones, and those are applied first.
+     *
+     * @return false if that can't be done, then everything has to be applied again.
+     */
+    private boolean updateContinuousAbilities(final FCollection<StaticAbility> staticAbilities, final CardCollection staticList,
+            final Set<Card> affectedCards) {
+        final StaticEffects effects = game.getStaticEffects();
+        for (final StaticEffect se : effects.getEffects()) {
+            if (!StaticAbilityContinuous.isIndependent(se.getAbility())) {
+                return false;
             }
-            c.getStaticCommandList().removeAll(toRemove);
         }
 
-        // preList means that this is run by a pre Check with LKI objects
-        // in that case Always trigger should not Run
-        if (preList.isEmpty()) {
-            for (Player p : game.getPlayers()) {
-                for (Card c : p.getCardsIn(ZoneType.Battlefield).threadSafeIterable()) {
-                    if (!c.getController().equals(p)) {
-                        controllerChangeZoneCorrection(c);
-                        affectedCards.add(c);
-                    }
-                    if (c.isCreature() && c.isPaired()) {
-                        Card partner = c.getPairedWith();
-                        if (!partner.isCreature() || c.getController() != partner.getController() || !c.isInPlay()) {
-                            c.setPairedWith(null);
-                            partner.setPairedWith(null);
-                            affectedCards.add(c);
-                        }
-                    }
-                }
+        // independent effects don't add or remove abilities other than by keywords, and those aren't independent,
+        // so there's no need to remove the effects before looking at the abilities of the cards
+        collectStaticAbilities(staticAbilities, staticList, CardCollection.EMPTY);
+        for (final StaticAbility stAb : staticAbilities) {
+            // an ability that can't apply where its host is doesn't matter, whatever it does
+            if (stAb.isInEffectZone() && !StaticAbilityContinuous.isIndependent(stAb)) {
+                return false;
             }
+        }
 
-            final Map<AbilityKey, Object> runParams = AbilityKey.newMap();
-            game.getTriggerHandler().runTrigger(TriggerType.Always, runParams, false);
+        final Set<Card> changed = Sets.newLinkedHashSet();
+        final List<StaticAbility> active = Lists.newArrayList();
+        for (final StaticAbility stAb : staticAbilities) {
+            if (stAb.checkConditions()) {
+                active.add(stAb);
+            }
+        }
+        for (final StaticEffect se : Lists.newArrayList(effects.getEffects())) {
+            if (!active.contains(se.getAbility())) {
+                Iterables.addAll(changed, effects.removeStaticEffect(se.getAbility(), false));
+            }
+        }
 
-            game.getTriggerHandler().runTrigger(TriggerType.Immediate, runParams, false);
+        active.sort(CONTINUOUS_ORDER);
+        for (final StaticAbility stAb : active) {
+            final CardCollectionView affected = StaticAbilityContinuous.getAffectedCards(stAb, CardCollection.EMPTY);
+            final StaticEffect se = effects.getEffect(stAb);
+            if (se != null && se.getTimestamp() == stAb.getHostCard().getLayerTimestamp()
+                    && se.getAffectedCards().size() == affected.size() && Iterables.all(affected, se.getAffectedCards()::contains)
+                    && !hasCantHaveKeyword(affected)) {
+                continue;
+            }
+            if (se != null) {
+                Iterables.addAll(changed, effects.removeStaticEffect(stAb, false));
+            }
+            for (final StaticAbilityLayer layer : StaticAbilityLayer.CONTINUOUS_LAYERS) {
+                if (stAb.getLayers().contains(layer)) {
+                    stAb.applyContinuousAbility(layer, affected);
+                }
+            }
+            Iterables.addAll(changed, affected);
         }
 
-        // Update P/T and type in the view only once after all the cards have been processed, to avoid flickering
-        for (Card c : affectedCards) {
-            c.updateNameforView();
-            c.updatePowerToughnessForView();
-            c.updateTypesForView();
-            c.updateAbilityTextForView(); // only update keywords and text for view to avoid flickering
+        for (final Card c : changed) {
+            c.updateKeywordsCache(c.getCurrentState());
         }
+        affectedCards.addAll(changed);
+        return true;
+    }
 
-        // TODO filter out old copies from zone change
+    private static boolean hasCantHaveKeyword(final CardCollectionView cards) {
+        // something else may have taken away a keyword since it was added
+        for (final Card c : cards) {
+            if (!c.getCantHaveKeyword().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        if (runEvents && !affectedCards.isEmpty()) {
-            game.fireEvent(new GameEventCardStatsChanged(affectedCards));
+    /**
+     * Applies all continuous abilities again from scratch after they were updated by
+     * {@link #updateContinuousAbilities}, and fails if any card ends up different.
+     */
+    private void verifyContinuousAbilities(final Set<Card> affectedCards) {
+        final Map<Card, String> updated = describeCharacteristics();
+        applyContinuousAbilities(new FCollection<>(), new CardCollection(), affectedCards, CardCollection.EMPTY);
+        final Map<Card, String> applied = describeCharacteristics();
+        for (final Map.Entry<Card, String> e : applied.entrySet()) {
+            if (!e.getValue().equals(updated.get(e.getKey()))) {
+                throw new IllegalStateException("Continuous abilities updated as " + updated.get(e.getKey())
+                        + " but applied as " + e.getValue());
+            }
         }
-        game.getTracker().unfreeze();
+    }
+
+    private Map<Card, String> describeCharacteristics() {
+        final Map<Card, String> result = Maps.newHashMap();
+        game.forEachCardInGame(new Visitor<Card>() {
+            @Override
+            public boolean visit(final Card c) {
+                final StringBuilder sb = new StringBuilder();
+                sb.append(c).append(' ').append(c.getName()).append(' ').append(c.getType()).append(' ').append(c.getColor())
+                        .append(' ').append(c.getNetPower()).append('/').append(c.getNetToughness());
+                for (final KeywordInterface kw : c.getKeywords()) {
+                    sb.append(' ').append(kw.getOriginal());
+                }
+                result.put(c, sb.toString());
+                return true;
+            }
+        }, true);
+        return result;
     }
 
     public final boolean checkStateEffects(final boolean runEvents) {
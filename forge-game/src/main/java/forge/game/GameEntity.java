@@ -88,7 +88,11 @@ public abstract class GameEntity extends GameObject implements IIdentifiable {
             return 0;
         }
 
-        for (final Card ca : getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
+        for (final Card ca : getGame().getReplacementEffectIndex().getCards(ReplacementType.DamageDone, false)) {
+            // as if looking at the cards in these zones, without phased out ones
+            if (ca.getZone() == null || !ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(ca.getZone().getZoneType()) || ca.isPhasedOut()) {
+                continue;
+            }
             for (final ReplacementEffect re : ca.getReplacementEffects()) {
                 if (!re.getMode().equals(ReplacementType.DamageDone) ||
                         (!re.hasParam("PreventionEffect") && !re.hasParam("Prevent"))) {
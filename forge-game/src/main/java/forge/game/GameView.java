@@ -21,6 +21,7 @@ import forge.game.zone.MagicStack;
 import forge.trackable.TrackableCollection;
 import forge.trackable.TrackableObject;
 import forge.trackable.TrackableProperty;
+import forge.trackable.Tracker;
 import forge.util.collect.FCollectionView;
 
 public class GameView extends TrackableObject {
@@ -29,6 +30,13 @@ public class GameView extends TrackableObject {
     private final transient Game game; //TODO: Remove this when possible before network support added
     private final transient Match match; //TODO: Remove this when possible before network support added
 
+    // used by the network client to recreate a view received from the server
+    public GameView(final int id0, final Tracker tracker) {
+        super(id0, tracker);
+        match = null;
+        game = null;
+    }
+
     public GameView(final Game game) {
         super(game.getId(), game.getTracker());
         match = game.getMatch();
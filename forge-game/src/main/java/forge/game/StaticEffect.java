@@ -96,6 +96,13 @@ public class StaticEffect {
         return this.source;
     }
 
+    /**
+     * @return the {@link StaticAbility} this is the effect of.
+     */
+    public final StaticAbility getAbility() {
+        return this.ability;
+    }
+
     /**
      * <p>
      * Getter for the field <code>affectedCards</code>.
@@ -171,6 +178,18 @@ public class StaticEffect {
      * @return a {@link CardCollectionView} of all affected cards.
      */
     final CardCollectionView remove() {
+        return remove(true);
+    }
+
+    /**
+     * Undo everything that was changed by this effect.
+     *
+     * @param updateCards
+     *            whether to update the keywords and view of the affected cards, when false the caller has to
+     *            do that itself once it's done removing effects.
+     * @return a {@link CardCollectionView} of all affected cards.
+     */
+    final CardCollectionView remove(final boolean updateCards) {
         final CardCollectionView affectedCards = getAffectedCards();
         final List<Player> affectedPlayers = getAffectedPlayers();
 
@@ -294,7 +313,9 @@ public class StaticEffect {
 
             affectedCard.removeChangedSVars(getTimestamp(), ability.getId());
 
-            affectedCard.updateAbilityTextForView(); // need to update keyword cache for clean reapply
+            if (updateCards) {
+                affectedCard.updateAbilityTextForView(); // need to update keyword cache for clean reapply
+            }
         }
         return affectedCards;
     }
@@ -22,8 +22,11 @@ import java.util.Set;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
 import forge.game.staticability.StaticAbility;
 
 /**
@@ -39,12 +42,25 @@ public class StaticEffects {
     // **************** StaticAbility system **************************
     private final Map<StaticAbility, StaticEffect> staticEffects = Maps.newHashMap();
 
+    /**
+     * Remove all static effects. The keywords of each card they affected are updated once all of them are
+     * gone, instead of once per effect, the view of those cards is left to the caller.
+     *
+     * @param affectedCards
+     *            the cards the effects were removed from are added to it.
+     */
     public final void clearStaticEffects(final Set<Card> affectedCards) {
-        // remove all static effects
+        final Set<Card> removedFrom = Sets.newLinkedHashSet();
         for (final StaticEffect se : staticEffects.values()) {
-            Iterables.addAll(affectedCards, se.remove());
+            Iterables.addAll(removedFrom, se.remove(false));
         }
         this.staticEffects.clear();
+
+        for (final Card c : removedFrom) {
+            // need to update keyword cache for clean reapply
+            c.updateKeywordsCache(c.getCurrentState());
+        }
+        affectedCards.addAll(removedFrom);
     }
 
     /**
@@ -64,6 +80,13 @@ public class StaticEffects {
         return newEffect;
     }
 
+    /**
+     * @return the effect of the given static ability, or null if it has none.
+     */
+    public final StaticEffect getEffect(final StaticAbility staticAbility) {
+        return staticEffects.get(staticAbility);
+    }
+
     public Iterable<StaticEffect> getEffects() {
         return staticEffects.values();
     }
@@ -76,4 +99,20 @@ public class StaticEffects {
         currentEffect.remove();
         return true;
     }
+
+    /**
+     * Remove the effect of a static ability, if it has one.
+     *
+     * @param updateCards
+     *            whether to update the keywords and view of the affected cards, when false the caller has to
+     *            do that itself.
+     * @return the cards the effect was removed from.
+     */
+    public final CardCollectionView removeStaticEffect(final StaticAbility staticAbility, final boolean updateCards) {
+        final StaticEffect currentEffect = staticEffects.remove(staticAbility);
+        if (currentEffect == null) {
+            return CardCollection.EMPTY;
+        }
+        return currentEffect.remove(updateCards);
+    }
 }
@@ -413,14 +413,13 @@ public class AbilityUtils {
         final Game game = card.getGame();
 
         // Strip and save sign for calculations
-        final boolean startsWithPlus = amount.charAt(0) == '+';
-        final boolean startsWithMinus = amount.charAt(0) == '-';
-        if (startsWithPlus || startsWithMinus) { amount = amount.substring(1); }
-        int multiplier = startsWithMinus ? -1 : 1;
+        final SVarExpressions.Amount parsedAmount = SVarExpressions.amount(amount);
+        amount = parsedAmount.reference;
+        int multiplier = parsedAmount.multiplier;
 
         // return result soon for plain numbers
-        if (StringUtils.isNumeric(amount)) {
-            int val = Integer.parseInt(amount);
+        if (parsedAmount.constant) {
+            int val = parsedAmount.value;
             if (maxto) {
                 val = Math.max(val, 0);
             }
@@ -429,7 +428,7 @@ public class AbilityUtils {
 
         // Try to fetch variable, try ability first, then card.
         String svarval = null;
-        if (amount.indexOf('$') > 0) { // when there is a dollar sign, it's not a reference, it's a raw value!
+        if (parsedAmount.raw) { // when there is a dollar sign, it's not a reference, it's a raw value!
             svarval = amount;
         }
         else if (ability != null) {
@@ -453,22 +452,23 @@ public class AbilityUtils {
         }
 
         // Handle numeric constant coming in svar value
-        if (StringUtils.isNumeric(svarval)) {
-            int val = Integer.parseInt(svarval);
+        final SVarExpressions.Value value = SVarExpressions.value(svarval);
+        if (value.constant) {
+            int val = value.value;
             if (maxto) {
                 val = Math.max(val, 0);
             }
             return val * multiplier;
         }
 
-        // Parse Object$Property string
-        final String[] calcX = svarval.split("\\$", 2);
-
         // Incorrect parses mean zero.
-        if (calcX.length == 1 || calcX[1].equals("none")) {
+        if (value.none) {
             return 0;
         }
 
+        // Parse Object$Property string, a copy as the trigger context may change it
+        final String[] calcX = {value.object, value.property};
+
         // modify amount string for text changes
         calcX[1] = applyAbilityTextChangeEffects(calcX[1], ability);
 
@@ -480,9 +480,8 @@ public class AbilityUtils {
         } else if (calcX[0].startsWith("Number")) {
             val = xCount(card, svarval, ability);
         } else if (calcX[0].startsWith("SVar")) {
-            final String[] l = calcX[1].split("/");
-            final String m = CardFactoryUtil.extractOperators(calcX[1]);
-            val = doXMath(calculateAmount(card, l[0], ability), m, card, ability);
+            final SVarExpressions.Count svar = SVarExpressions.count(calcX[1]);
+            val = doXMath(calculateAmount(card, svar.base, ability), svar.operators, card, ability);
         } else if (calcX[0].startsWith("PlayerCount")) {
             final String hType = calcX[0].substring(11);
             final FCollection<Player> players = new FCollection<>();
@@ -667,9 +666,9 @@ public class AbilityUtils {
                 // TriggerCount is similar to a regular Count, but just
                 // pulls Integer Values from Trigger objects
                 final SpellAbility root = sa.getRootAbility();
-                final String[] l = calcX[1].split("/");
-                final String m = CardFactoryUtil.extractOperators(calcX[1]);
-                final Object to = root.getTriggeringObject(AbilityKey.fromString(l[0]));
+                final SVarExpressions.Count counted = SVarExpressions.count(calcX[1]);
+                final String m = counted.operators;
+                final Object to = root.getTriggeringObject(AbilityKey.fromString(counted.base));
                 Integer count = null;
                 if (to instanceof Iterable<?>) {
                     @SuppressWarnings("unchecked")
@@ -689,9 +688,9 @@ public class AbilityUtils {
                 // ReplaceCount is similar to a regular Count, but just
                 // pulls Integer Values from Replacement objects
                 final SpellAbility root = sa.getRootAbility();
-                final String[] l = calcX[1].split("/");
-                final String m = CardFactoryUtil.extractOperators(calcX[1]);
-                final Integer count = (Integer) root.getReplacingObject(AbilityKey.fromString(l[0]));
+                final SVarExpressions.Count counted = SVarExpressions.count(calcX[1]);
+                final String m = counted.operators;
+                final Integer count = (Integer) root.getReplacingObject(AbilityKey.fromString(counted.base));
 
                 val = doXMath(ObjectUtils.firstNonNull(count, 0), m, card, ability);
             } else { // these ones only for handling lists
@@ -1588,8 +1587,9 @@ public class AbilityUtils {
      */
     public static int xCount(Card c, final String s, final CardTraitBase ctb) {
         final String s2 = applyAbilityTextChangeEffects(s, ctb);
-        final String[] l = s2.split("/");
-        final String expr = CardFactoryUtil.extractOperators(s2);
+        final SVarExpressions.Count parsed = SVarExpressions.count(s2);
+        final String[] l = {parsed.base};
+        final String expr = parsed.operators;
 
         Player player = null;
         if (ctb != null) {
@@ -1617,8 +1617,7 @@ public class AbilityUtils {
             return doXMath(xCount(c, v, ctb), expr, c, ctb);
         }
 
-        final String[] sq;
-        sq = l[0].split("\\.");
+        final String[] sq = parsed.parts;
 
         final Game game = c.getGame();
 
@@ -3254,67 +3253,7 @@ public class AbilityUtils {
         if (operators == null || operators.equals("none")) {
             return num;
         }
-
-        final String[] s = operators.split("\\.");
-        int secondaryNum = 0;
-
-        try {
-            if (s.length == 2) {
-                secondaryNum = Integer.parseInt(s[1]);
-            }
-        } catch (final Exception e) {
-            secondaryNum = calculateAmount(c, s[1], ctb);
-        }
-
-        if (s[0].contains("Plus")) {
-            return num + secondaryNum;
-        } else if (s[0].contains("NMinus")) {
-            return secondaryNum - num;
-        } else if (s[0].contains("Minus")) {
-            return num - secondaryNum;
-        } else if (s[0].contains("Twice")) {
-            return num * 2;
-        } else if (s[0].contains("Thrice")) {
-            return num * 3;
-        } else if (s[0].contains("HalfUp")) {
-            return (int) (Math.ceil(num / 2.0));
-        } else if (s[0].contains("HalfDown")) {
-            return (int) (Math.floor(num / 2.0));
-        } else if (s[0].contains("ThirdUp")) {
-            return (int) (Math.ceil(num / 3.0));
-        } else if (s[0].contains("ThirdDown")) {
-            return (int) (Math.floor(num / 3.0));
-        } else if (s[0].contains("Negative")) {
-            return num * -1;
-        } else if (s[0].contains("Times")) {
-            return num * secondaryNum;
-        } else if (s[0].contains("DivideEvenlyUp")) {
-            if (secondaryNum == 0) {
-                return 0;
-            }
-            return num / secondaryNum + (num % secondaryNum == 0 ? 0 : 1);
-        } else if (s[0].contains("DivideEvenlyDown")) {
-            if (secondaryNum == 0) {
-                return 0;
-            }
-            return num / secondaryNum;
-        } else if (s[0].contains("Mod")) {
-            return num % secondaryNum;
-        } else if (s[0].contains("Abs")) {
-            return Math.abs(num);
-        } else if (s[0].contains("LimitMax")) {
-            if (num < secondaryNum) {
-                return num;
-            }
-            return secondaryNum;
-        } else if (s[0].contains("LimitMin")) {
-            if (num > secondaryNum) {
-                return num;
-            }
-            return secondaryNum;
-        } else {
-            return num;
-        }
+        return SVarExpressions.operation(operators).apply(num, c, ctb);
     }
 
     /**
@@ -3925,10 +3864,9 @@ public class AbilityUtils {
         // "Named <CARDNAME> in all graveyards" - Count$NamedAllYards.<CARDNAME>
 
         if (sq[0].contains("Named")) {
-            if (sq[1].equals("CARDNAME")) {
-                sq[1] = c.getName();
-            }
-            someCards = CardLists.filter(someCards, CardPredicates.nameEquals(sq[1]));
+            // sq is shared by every card with the same text, see SVarExpressions.Count
+            final String name = sq[1].equals("CARDNAME") ? c.getName() : sq[1];
+            someCards = CardLists.filter(someCards, CardPredicates.nameEquals(name));
         }
 
         // Refined qualities
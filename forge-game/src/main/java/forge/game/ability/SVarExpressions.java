@@ -0,0 +1,209 @@
+package forge.game.ability;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import forge.game.CardTraitBase;
+import forge.game.card.Card;
+import forge.game.card.CardFactoryUtil;
+
+/**
+ * The parts of amounts and SVar values used by {@link AbilityUtils#calculateAmount} and {@link AbilityUtils#xCount},
+ * split up once and kept by their text.
+ * <p>
+ * Since they are kept by text and not by the card or ability they came from, an SVar changed by an effect
+ * simply has a different text and there is nothing to invalidate.
+ */
+final class SVarExpressions {
+    /** Texts built at runtime, with numbers or names in them, shouldn't pile up forever. */
+    private static final int MAX_CACHED = 20000;
+
+    private static final Map<String, Amount> amounts = new ConcurrentHashMap<>();
+    private static final Map<String, Value> values = new ConcurrentHashMap<>();
+    private static final Map<String, Count> counts = new ConcurrentHashMap<>();
+    private static final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    private SVarExpressions() {
+    }
+
+    private static <T> T get(final Map<String, T> cache, final String text, final Function<String, T> parse) {
+        T result = cache.get(text);
+        if (result == null) {
+            if (cache.size() >= MAX_CACHED) {
+                cache.clear();
+            }
+            result = parse.apply(text);
+            cache.put(text, result);
+        }
+        return result;
+    }
+
+    /**
+     * An amount like {@code 3}, {@code -X} or {@code Count$CardPower}.
+     */
+    static final class Amount {
+        final int multiplier;
+        /** The amount without its sign. */
+        final String reference;
+        final boolean constant;
+        final int value;
+        /** when there is a dollar sign, it's not a reference, it's a raw value! */
+        final boolean raw;
+
+        private Amount(final String amount) {
+            // Strip and save sign for calculations
+            final boolean startsWithPlus = amount.charAt(0) == '+';
+            final boolean startsWithMinus = amount.charAt(0) == '-';
+            reference = startsWithPlus || startsWithMinus ? amount.substring(1) : amount;
+            multiplier = startsWithMinus ? -1 : 1;
+            constant = StringUtils.isNumeric(reference);
+            value = constant ? Integer.parseInt(reference) : 0;
+            raw = reference.indexOf('$') > 0;
+        }
+    }
+
+    /**
+     * The value of an SVar, a number or {@code Object$Property}.
+     */
+    static final class Value {
+        final boolean constant;
+        final int value;
+        /** Incorrect parses mean zero. */
+        final boolean none;
+        final String object;
+        final String property;
+
+        private Value(final String svarval) {
+            constant = StringUtils.isNumeric(svarval);
+            value = constant ? Integer.parseInt(svarval) : 0;
+            final String[] calcX = svarval.split("\\$", 2);
+            none = calcX.length == 1 || calcX[1].equals("none");
+            object = calcX[0];
+            property = none ? null : calcX[1];
+        }
+    }
+
+    /**
+     * The argument of {@link AbilityUtils#xCount}, like {@code Valid Creature.YouCtrl/Plus.1}.
+     */
+    static final class Count {
+        /** The part before the operators. */
+        final String base;
+        final String operators;
+        /** The base without {@code Count$}, split on dots. Shared by everything with the same text, never written to. */
+        final String[] parts;
+
+        private Count(final String s) {
+            base = s.split("/")[0];
+            operators = CardFactoryUtil.extractOperators(s);
+            parts = (base.startsWith("Count$") ? base.substring(6) : base).split("\\.");
+        }
+    }
+
+    /**
+     * The operators of {@link AbilityUtils#doXMath}, like {@code Plus.1} or {@code Times.X}.
+     */
+    static final class Operation {
+        private enum Operator {
+            None, Plus, NMinus, Minus, Twice, Thrice, HalfUp, HalfDown, ThirdUp, ThirdDown, Negative, Times,
+            DivideEvenlyUp, DivideEvenlyDown, Mod, Abs, LimitMax, LimitMin
+        }
+
+        private final Operator operator;
+        private final int secondary;
+        /** The second operand if it isn't a number and has to be calculated each time. */
+        private final String secondaryAmount;
+
+        private Operation(final String operators) {
+            final String[] s = operators.split("\\.");
+            Operator op = Operator.None;
+            // same order as before so names containing others still match the same operator
+            for (final Operator o : Operator.values()) {
+                if (o != Operator.None && s[0].contains(o.name())) {
+                    op = o;
+                    break;
+                }
+            }
+            operator = op;
+            int n = 0;
+            String amount = null;
+            if (s.length == 2) {
+                try {
+                    n = Integer.parseInt(s[1]);
+                } catch (final NumberFormatException e) {
+                    amount = s[1];
+                }
+            }
+            secondary = n;
+            secondaryAmount = amount;
+        }
+
+        int apply(final int num, final Card c, final CardTraitBase ctb) {
+            final int secondaryNum = secondaryAmount == null ? secondary : AbilityUtils.calculateAmount(c, secondaryAmount, ctb);
+
+            switch (operator) {
+                case Plus:
+                    return num + secondaryNum;
+                case NMinus:
+                    return secondaryNum - num;
+                case Minus:
+                    return num - secondaryNum;
+                case Twice:
+                    return num * 2;
+                case Thrice:
+                    return num * 3;
+                case HalfUp:
+                    return (int) (Math.ceil(num / 2.0));
+                case HalfDown:
+                    return (int) (Math.floor(num / 2.0));
+                case ThirdUp:
+                    return (int) (Math.ceil(num / 3.0));
+                case ThirdDown:
+                    return (int) (Math.floor(num / 3.0));
+                case Negative:
+                    return num * -1;
+                case Times:
+                    return num * secondaryNum;
+                case DivideEvenlyUp:
+                    if (secondaryNum == 0) {
+                        return 0;
+                    }
+                    return num / secondaryNum + (num % secondaryNum == 0 ? 0 : 1);
+                case DivideEvenlyDown:
+                    if (secondaryNum == 0) {
+                        return 0;
+                    }
+                    return num / secondaryNum;
+                case Mod:
+                    return num % secondaryNum;
+                case Abs:
+                    return Math.abs(num);
+                case LimitMax:
+                    return Math.min(num, secondaryNum);
+                case LimitMin:
+                    return Math.max(num, secondaryNum);
+                default:
+                    return num;
+            }
+        }
+    }
+
+    static Amount amount(final String amount) {
+        return get(amounts, amount, Amount::new);
+    }
+
+    static Value value(final String svarval) {
+        return get(values, svarval, Value::new);
+    }
+
+    static Count count(final String s) {
+        return get(counts, s, Count::new);
+    }
+
+    static Operation operation(final String operators) {
+        return get(operations, operators, Operation::new);
+    }
+}
@@ -91,7 +91,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     private CardDamageHistory damageHistory = new CardDamageHistory();
     // Hidden keywords won't be displayed on the card
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, List<String>> hiddenExtrinsicKeywords = TreeBasedTable.create();
+    private final Table<Long, Long, List<String>> hiddenExtrinsicKeywords = LazyTable.tree();
 
     // cards attached or otherwise linked to this card
     private CardCollection hauntedBy, devouredCards, exploitedCards, delvedCards, imprintedCards,
@@ -120,46 +120,46 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     protected CardChangedType changedTypeByText; // Layer 3 by Text Change
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardChangedType> changedCardTypesByText = TreeBasedTable.create(); // Layer 3
-    private final Table<Long, Long, CardChangedType> changedCardTypesCharacterDefining = TreeBasedTable.create(); // Layer 4 CDA
-    private final Table<Long, Long, CardChangedType> changedCardTypes = TreeBasedTable.create(); // Layer 4
+    private final Table<Long, Long, CardChangedType> changedCardTypesByText = LazyTable.tree(); // Layer 3
+    private final Table<Long, Long, CardChangedType> changedCardTypesCharacterDefining = LazyTable.tree(); // Layer 4 CDA
+    private final Table<Long, Long, CardChangedType> changedCardTypes = LazyTable.tree(); // Layer 4
 
-    private final Table<Long, Long, CardChangedName> changedCardNames = TreeBasedTable.create(); // Layer 3
-    private final Table<Long, Long, KeywordsChange> changedCardKeywordsByText = TreeBasedTable.create(); // Layer 3 by Text Change
+    private final Table<Long, Long, CardChangedName> changedCardNames = LazyTable.tree(); // Layer 3
+    private final Table<Long, Long, KeywordsChange> changedCardKeywordsByText = LazyTable.tree(); // Layer 3 by Text Change
     protected KeywordsChange changedCardKeywordsByWord = new KeywordsChange(ImmutableList.<KeywordInterface>of(), ImmutableList.<KeywordInterface>of(), false); // Layer 3 by Word Change
-    private final Table<Long, Long, KeywordsChange> changedCardKeywords = TreeBasedTable.create(); // Layer 6
+    private final Table<Long, Long, KeywordsChange> changedCardKeywords = LazyTable.tree(); // Layer 6
 
     // stores the keywords created by static abilities
     private final Map<Triple<String, Long, Long>, KeywordInterface> storedKeywords = Maps.newHashMap();
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardTraitChanges> changedCardTraitsByText = TreeBasedTable.create(); // Layer 3 by Text Change
-    private final Table<Long, Long, CardTraitChanges> changedCardTraits = TreeBasedTable.create(); // Layer 6
+    private final Table<Long, Long, CardTraitChanges> changedCardTraitsByText = LazyTable.tree(); // Layer 3 by Text Change
+    private final Table<Long, Long, CardTraitChanges> changedCardTraits = LazyTable.tree(); // Layer 6
 
     // stores the card traits created by static abilities
-    private final Table<StaticAbility, String, SpellAbility> storedSpellAbility = TreeBasedTable.create();
-    private final Table<StaticAbility, String, Trigger> storedTrigger = TreeBasedTable.create();
-    private final Table<StaticAbility, String, ReplacementEffect> storedReplacementEffect = TreeBasedTable.create();
-    private final Table<StaticAbility, String, StaticAbility> storedStaticAbility = TreeBasedTable.create();
+    private final Table<StaticAbility, String, SpellAbility> storedSpellAbility = LazyTable.tree();
+    private final Table<StaticAbility, String, Trigger> storedTrigger = LazyTable.tree();
+    private final Table<StaticAbility, String, ReplacementEffect> storedReplacementEffect = LazyTable.tree();
+    private final Table<StaticAbility, String, StaticAbility> storedStaticAbility = LazyTable.tree();
 
-    private final Table<StaticAbility, SpellAbility, SpellAbility> storedSpellAbililityByText = HashBasedTable.create();
-    private final Table<StaticAbility, String, SpellAbility> storedSpellAbililityGainedByText = TreeBasedTable.create();
-    private final Table<StaticAbility, Trigger, Trigger> storedTriggerByText = HashBasedTable.create();
-    private final Table<StaticAbility, ReplacementEffect, ReplacementEffect> storedReplacementEffectByText = HashBasedTable.create();
-    private final Table<StaticAbility, StaticAbility, StaticAbility> storedStaticAbilityByText = HashBasedTable.create();
+    private final Table<StaticAbility, SpellAbility, SpellAbility> storedSpellAbililityByText = LazyTable.hash();
+    private final Table<StaticAbility, String, SpellAbility> storedSpellAbililityGainedByText = LazyTable.tree();
+    private final Table<StaticAbility, Trigger, Trigger> storedTriggerByText = LazyTable.hash();
+    private final Table<StaticAbility, ReplacementEffect, ReplacementEffect> storedReplacementEffectByText = LazyTable.hash();
+    private final Table<StaticAbility, StaticAbility, StaticAbility> storedStaticAbilityByText = LazyTable.hash();
 
     private final Map<Triple<String, Long, Long>, KeywordInterface> storedKeywordByText = Maps.newHashMap();
 
     // x=timestamp y=StaticAbility id
-    private final Table<Long, Long, CardColor> changedCardColorsByText = TreeBasedTable.create(); // Layer 3 by Text Change
-    private final Table<Long, Long, CardColor> changedCardColorsCharacterDefining = TreeBasedTable.create(); // Layer 5 CDA
-    private final Table<Long, Long, CardColor> changedCardColors = TreeBasedTable.create(); // Layer 5
+    private final Table<Long, Long, CardColor> changedCardColorsByText = LazyTable.tree(); // Layer 3 by Text Change
+    private final Table<Long, Long, CardColor> changedCardColorsCharacterDefining = LazyTable.tree(); // Layer 5 CDA
+    private final Table<Long, Long, CardColor> changedCardColors = LazyTable.tree(); // Layer 5
 
-    protected final Table<Long, Long, ManaCost> changedCardManaCost = TreeBasedTable.create(); // Layer 3
+    protected final Table<Long, Long, ManaCost> changedCardManaCost = LazyTable.tree(); // Layer 3
 
     private final NavigableMap<Long, CardCloneStates> clonedStates = Maps.newTreeMap(); // Layer 1
 
-    private final Table<Long, Long, Map<String, String>> changedSVars = TreeBasedTable.create();
+    private final Table<Long, Long, Map<String, String>> changedSVars = LazyTable.tree();
 
     private final Map<Long, PlayerCollection> mayLook = Maps.newHashMap();
     private final PlayerCollection mayLookFaceDownExile = new PlayerCollection();
@@ -262,10 +262,23 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // stack of set power/toughness
     // x=timestamp y=StaticAbility id
-    private Table<Long, Long, Pair<Integer,Integer>> newPTText = TreeBasedTable.create(); // Text Change Layer 3
-    private Table<Long, Long, Pair<Integer,Integer>> newPTCharacterDefining = TreeBasedTable.create(); // Layer 7a
-    private Table<Long, Long, Pair<Integer,Integer>> newPT = TreeBasedTable.create(); // Layer 7b
-    private Table<Long, Long, Pair<Integer,Integer>> boostPT = TreeBasedTable.create(); // Layer 7c
+    private Table<Long, Long, Pair<Integer,Integer>> newPTText = LazyTable.tree(); // Text Change Layer 3
+    private Table<Long, Long, Pair<Integer,Integer>> newPTCharacterDefining = LazyTable.tree(); // Layer 7a
+    private Table<Long, Long, Pair<Integer,Integer>> newPT = LazyTable.tree(); // Layer 7b
+    private Table<Long, Long, Pair<Integer,Integer>> boostPT = LazyTable.tree(); // Layer 7c
+
+    // what the layers above make of this card, kept while the characteristics epoch of the game stays the same
+    private long typeColorEpoch = -1;
+    private CardState typeColorState;
+    private CardTypeView cachedType;
+    private ColorSet cachedColor;
+    private long ptEpoch = -1;
+    private CardState ptState;
+    private int cachedCurrentPower;
+    private int cachedCurrentToughness;
+    private int cachedTempPowerBoost;
+    private int cachedTempToughnessBoost;
+    private boolean cachedPTSwitched;
 
     private final Map<Card, Integer> assignedDamageMap = Maps.newTreeMap();
     private Map<Integer, Integer> damage = Maps.newHashMap();
@@ -334,6 +347,16 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     private CardRules cardRules;
     private final CardView view;
+    /** the parts of the view a headless game skipped updating */
+    private int staleViewParts;
+    private boolean updatingStaleView;
+    private static final int VIEW_NAME = 1;
+    private static final int VIEW_MANA_COST = 1 << 1;
+    private static final int VIEW_TYPE = 1 << 2;
+    private static final int VIEW_COLOR = 1 << 3;
+    private static final int VIEW_KEYWORDS = 1 << 4;
+    private static final int VIEW_PT = 1 << 5;
+    private static final int VIEW_COUNTERS = 1 << 6;
 
     private SpellAbility[] basicLandAbilities = new SpellAbility[MagicColor.WUBRG.length];
 
@@ -349,10 +372,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     private final Map<SpellAbility, List<String>> chosenModesYourCombat = Maps.newHashMap();
     private final Map<SpellAbility, List<String>> chosenModesYourLastCombat = Maps.newHashMap();
 
-    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesTurnStatic = HashBasedTable.create();
-    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesGameStatic = HashBasedTable.create();
-    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesYourCombatStatic = HashBasedTable.create();
-    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesYourLastCombatStatic = HashBasedTable.create();
+    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesTurnStatic = LazyTable.hash();
+    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesGameStatic = LazyTable.hash();
+    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesYourCombatStatic = LazyTable.hash();
+    private final Table<SpellAbility, StaticAbility, List<String>> chosenModesYourLastCombatStatic = LazyTable.hash();
 
     private CombatLki combatLKI;
 
@@ -492,6 +515,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         // For Ertai's Meddling a morph spell
         currentState = CardUtil.getFaceDownCharacteristic(this, CardStateName.Original);
         states.put(CardStateName.Original, currentState);
+        updateAbilityIndexes();
     }
 
     public boolean setState(final CardStateName state, boolean updateView) {
@@ -531,6 +555,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
         currentStateName = state;
         currentState = getState(state);
+        updateAbilityIndexes();
 
         if (updateView) {
             view.updateState(this);
@@ -593,6 +618,64 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         view.updateState(this);
     }
 
+    /**
+     * @return true if the view shouldn't be updated now, because the game is headless.
+     * The view is then brought up to date by {@link #updateStaleView()}.
+     */
+    private boolean skipViewUpdate(final int part) {
+        if (game == null || !game.isHeadless() || updatingStaleView) {
+            return false;
+        }
+        staleViewParts |= part;
+        return true;
+    }
+
+    /**
+     * Brings the parts of the view a headless game skipped up to date.
+     */
+    public final void updateStaleView() {
+        if (staleViewParts == 0) {
+            return;
+        }
+        final int parts = staleViewParts;
+        staleViewParts = 0;
+        updatingStaleView = true;
+        try {
+            // the latest update of each part is all that's needed
+            if ((parts & VIEW_NAME) != 0) {
+                updateNameforView();
+            }
+            if ((parts & VIEW_MANA_COST) != 0) {
+                updateManaCostForView();
+            }
+            if ((parts & VIEW_TYPE) != 0) {
+                updateTypesForView();
+            }
+            if ((parts & VIEW_COLOR) != 0) {
+                updateColorForView();
+            }
+            if ((parts & VIEW_KEYWORDS) != 0) {
+                updateKeywords();
+            }
+            if ((parts & VIEW_PT) != 0) {
+                updatePTforView();
+            }
+            if ((parts & VIEW_COUNTERS) != 0) {
+                updatePowerToughnessForView();
+            }
+        } finally {
+            updatingStaleView = false;
+        }
+    }
+
+    /**
+     * @return the view, up to date even if the game is headless. For game logic that reads from it.
+     */
+    public final CardView getUpdatedView() {
+        updateStaleView();
+        return view;
+    }
+
     // The following methods are used to selectively update certain view components (text,
     // P/T, card types) in order to avoid card flickering due to aggressive full update
     public void updateAbilityTextForView() {
@@ -601,14 +684,23 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void updateManaCostForView() {
+        if (skipViewUpdate(VIEW_MANA_COST)) {
+            return;
+        }
         currentState.getView().updateManaCost(this);
     }
 
     public final void updatePowerToughnessForView() {
+        if (skipViewUpdate(VIEW_COUNTERS)) {
+            return;
+        }
         view.updateCounters(this);
     }
 
     public final void updateTypesForView() {
+        if (skipViewUpdate(VIEW_TYPE)) {
+            return;
+        }
         currentState.getView().updateType(currentState);
     }
 
@@ -985,6 +1077,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public void updateNameforView() {
+        if (skipViewUpdate(VIEW_NAME)) {
+            return;
+        }
         currentState.getView().updateName(currentState);
     }
 
@@ -1824,6 +1919,15 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return delta;
     }
 
+    @Override
+    public void setCounters(final CounterType counterType, final Integer num) {
+        super.setCounters(counterType, num);
+        // these come with replacement effects, see updateReplacementEffects
+        if (counterType.is(CounterEnumType.SHIELD) || counterType.is(CounterEnumType.STUN) || counterType.is(CounterEnumType.FINALITY)) {
+            updateAbilityIndexes();
+        }
+    }
+
     @Override
     public final void setCounters(final Map<CounterType, Integer> allCounters) {
         boolean changed = false;
@@ -1834,6 +1938,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
         counters = allCounters;
         view.updateCounters(this);
+        updateAbilityIndexes();
 
         for (CounterType ct : counters.keySet()) {
             if (addCounterTimestamp(ct, false)) {
@@ -1851,6 +1956,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         if (counters.isEmpty()) { return; }
         counters.clear();
         view.updateCounters(this);
+        updateAbilityIndexes();
 
         boolean changed = false;
         for (CounterType ct : Lists.newArrayList(counterTypeTimestamps.keySet())) {
@@ -2985,41 +3091,37 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
         // CantBlockBy static abilities
         if (game != null && isCreature() && isInPlay()) {
-            for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-                if (equals(ca)) {
+            final StaticAbilityIndex index = game.getStaticAbilityIndex();
+            for (final StaticAbility stAb : Iterables.concat(index.get("CantBlockBy"), index.get(StaticAbilityCantAttackBlock.MinMaxBlockerMode))) {
+                if (equals(stAb.getHostCard()) || !stAb.checkConditions()) {
                     continue;
                 }
-                for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                    if (!stAb.checkConditions()) {
+
+                boolean found = false;
+                if (stAb.checkMode("CantBlockBy")) {
+                    if (!stAb.hasParam("ValidAttacker") || (stAb.hasParam("ValidBlocker") && stAb.getParam("ValidBlocker").equals("Creature.Self"))) {
                         continue;
                     }
-
-                    boolean found = false;
-                    if (stAb.checkMode("CantBlockBy")) {
-                        if (!stAb.hasParam("ValidAttacker") || (stAb.hasParam("ValidBlocker") && stAb.getParam("ValidBlocker").equals("Creature.Self"))) {
-                            continue;
-                        }
-                        if (stAb.matchesValidParam("ValidAttacker", this)) {
-                            found = true;
-                        }
-                    } else if (stAb.checkMode(StaticAbilityCantAttackBlock.MinMaxBlockerMode)) {
-                        if (stAb.matchesValidParam("ValidCard", this)) {
-                            found = true;
-                        }
+                    if (stAb.matchesValidParam("ValidAttacker", this)) {
+                        found = true;
                     }
+                } else if (stAb.checkMode(StaticAbilityCantAttackBlock.MinMaxBlockerMode)) {
+                    if (stAb.matchesValidParam("ValidCard", this)) {
+                        found = true;
+                    }
+                }
 
-                    if (found) {
-                        final Card host = stAb.getHostCard();
+                if (found) {
+                    final Card host = stAb.getHostCard();
 
-                        String currentName = host.getName();
-                        String desc = TextUtil.fastReplace(stAb.toString(), "CARDNAME", currentName);
-                        desc = TextUtil.fastReplace(desc, "NICKNAME", Lang.getInstance().getNickName(currentName));
-                        if (host.getEffectSource() != null) {
-                            desc = TextUtil.fastReplace(desc, "EFFECTSOURCE", host.getEffectSource().getName());
-                        }
-                        sb.append(desc);
-                        sb.append(linebreak);
+                    String currentName = host.getName();
+                    String desc = TextUtil.fastReplace(stAb.toString(), "CARDNAME", currentName);
+                    desc = TextUtil.fastReplace(desc, "NICKNAME", Lang.getInstance().getNickName(currentName));
+                    if (host.getEffectSource() != null) {
+                        desc = TextUtil.fastReplace(desc, "EFFECTSOURCE", host.getEffectSource().getName());
                     }
+                    sb.append(desc);
+                    sb.append(linebreak);
                 }
             }
         }
@@ -3791,7 +3893,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
         owner = owner0;
         view.updateOwner(this);
+        updateController();
+    }
+
+    private void updateController() {
         view.updateController(this);
+        if (game != null) {
+            game.getTriggerHandler().controllerChanged(this);
+        }
     }
 
     public final Player getController() {
@@ -3812,17 +3921,17 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         tempControllers.clear();
         controller = player;
         controllerTimestamp = tstamp;
-        view.updateController(this);
+        updateController();
     }
 
     public final void addTempController(final Player player, final long tstamp) {
         tempControllers.put(tstamp, player);
-        view.updateController(this);
+        updateController();
     }
 
     public final void removeTempController(final long tstamp) {
         if (tempControllers.remove(tstamp) != null) {
-            view.updateController(this);
+            updateController();
         }
     }
 
@@ -3833,21 +3942,21 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             changed = true;
         }
         if (changed) {
-            view.updateController(this);
+            updateController();
         }
     }
 
     public final void clearTempControllers() {
         if (tempControllers.isEmpty()) { return; }
         tempControllers.clear();
-        view.updateController(this);
+        updateController();
     }
 
     public final void clearControllers() {
         if (tempControllers.isEmpty() && controller == null) { return; }
         tempControllers.clear();
         controller = null;
-        view.updateController(this);
+        updateController();
     }
 
     public boolean mayPlayerLook(final Player player) {
@@ -4140,6 +4249,17 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return getType(currentState);
     }
     public final CardTypeView getType(CardState state) {
+        if (!isTypeColorCached(state)) {
+            return getTypeWithChanges(state);
+        }
+        CardTypeView type = cachedType;
+        if (type == null) {
+            type = getTypeWithChanges(state);
+            cachedType = type;
+        }
+        return type;
+    }
+    private CardTypeView getTypeWithChanges(CardState state) {
         final Iterable<CardChangedType> changedCardTypes = getChangedCardTypes();
         if (Iterables.isEmpty(changedCardTypes)) {
             return state.getType();
@@ -4147,6 +4267,34 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return state.getType().getTypeWithChanges(changedCardTypes);
     }
 
+    /**
+     * @return false if there is nothing to keep the cached type and color of the given state in,
+     * otherwise the cache has been cleared if it was for another state or epoch.
+     */
+    private boolean isTypeColorCached(CardState state) {
+        if (game == null) {
+            return false;
+        }
+        final long epoch = game.getCharacteristicsEpoch();
+        if (epoch != typeColorEpoch || state != typeColorState) {
+            cachedType = null;
+            cachedColor = null;
+            typeColorState = state;
+            typeColorEpoch = epoch;
+        }
+        return true;
+    }
+
+    /**
+     * Anything the type, color or power and toughness of a card are derived from has changed,
+     * so none of the values cached by the cards of this game can be used anymore.
+     */
+    final void characteristicsChanged() {
+        if (game != null) {
+            game.nextCharacteristicsEpoch();
+        }
+    }
+
     public final CardTypeView getOriginalType() {
         return getOriginalType(currentState);
     }
@@ -4196,6 +4344,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             changed = true;
         changedCardTypes.clear();
 
+        if (changed) {
+            characteristicsChanged();
+            updateAbilityIndexes();
+        }
         return changed;
     }
 
@@ -4214,6 +4366,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             changed = true;
         changedCardColors.clear();
 
+        if (changed) {
+            characteristicsChanged();
+        }
         return changed;
     }
 
@@ -4253,12 +4408,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
                 EnumSet.of(RemoveType.SuperTypes,
                         RemoveType.CardTypes,
                         RemoveType.SubTypes)));
+        characteristicsChanged();
 
         // setting card type via text, does overwrite any other word change effects?
         this.changedTextColors.addEmpty(timestamp, staticId);
         this.changedTextTypes.addEmpty(timestamp, staticId);
 
         this.updateChangedText();
+        updateAbilityIndexes();
 
         if (updateView) {
             updateTypesForView();
@@ -4270,6 +4427,8 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             final long timestamp, final long staticId, final boolean updateView, final boolean cda) {
         (cda ? changedCardTypesCharacterDefining : changedCardTypes).put(timestamp, staticId, new CardChangedType(
                 addType, removeType, addAllCreatureTypes, remove));
+        characteristicsChanged();
+        updateAbilityIndexes();
         if (updateView) {
             updateTypesForView();
         }
@@ -4298,6 +4457,10 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         boolean removed = false;
         removed |= changedCardTypes.remove(timestamp, staticId) != null;
         removed |= changedCardTypesCharacterDefining.remove(timestamp, staticId) != null;
+        if (removed) {
+            characteristicsChanged();
+            updateAbilityIndexes();
+        }
         if (removed && updateView) {
             updateTypesForView();
         }
@@ -4305,11 +4468,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     public void addColorByText(final ColorSet color, final long timestamp, final long staticId) {
         changedCardColorsByText.put(timestamp, staticId, new CardColor(color, false));
+        characteristicsChanged();
         updateColorForView();
     }
 
     public final void addColor(final ColorSet color, final boolean addToColors, final long timestamp, final long staticId, final boolean cda) {
         (cda ? changedCardColorsCharacterDefining : changedCardColors).put(timestamp, staticId, new CardColor(color, addToColors));
+        characteristicsChanged();
         updateColorForView();
     }
 
@@ -4320,11 +4485,15 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         removed |= changedCardColorsCharacterDefining.remove(timestampIn, staticId) != null;
 
         if (removed) {
+            characteristicsChanged();
             updateColorForView();
         }
     }
 
     public final void updateColorForView() {
+        if (skipViewUpdate(VIEW_COLOR)) {
+            return;
+        }
         currentState.getView().updateColors(this);
         currentState.getView().updateHasChangeColors(!Iterables.isEmpty(getChangedCardColors()));
     }
@@ -4340,6 +4509,17 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return getColor(currentState);
     }
     public final ColorSet getColor(CardState state) {
+        if (!isTypeColorCached(state)) {
+            return getColorWithChanges(state);
+        }
+        ColorSet color = cachedColor;
+        if (color == null) {
+            color = getColorWithChanges(state);
+            cachedColor = color;
+        }
+        return color;
+    }
+    private ColorSet getColorWithChanges(CardState state) {
         byte colors = state.getColor();
         for (final CardColor cc : getChangedCardColors()) {
             if (cc.isAdditional()) {
@@ -4497,6 +4677,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     public final void setPTTable(Table<Long, Long, Pair<Integer, Integer>> table) {
         newPT.clear();
         newPT.putAll(table);
+        characteristicsChanged();
     }
 
     public final Table<Long, Long, Pair<Integer, Integer>> getSetPTCharacterDefiningTable() {
@@ -4506,10 +4687,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     public final void setPTCharacterDefiningTable(Table<Long, Long, Pair<Integer, Integer>> table) {
         newPTCharacterDefining.clear();
         newPTCharacterDefining.putAll(table);
+        characteristicsChanged();
     }
 
     public final void addNewPTByText(final Integer power, final Integer toughness, final long timestamp, final long staticId) {
         newPTText.put(timestamp, staticId, Pair.of(power, toughness));
+        characteristicsChanged();
         updatePTforView();
     }
 
@@ -4518,6 +4701,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
     public final void addNewPT(final Integer power, final Integer toughness, final long timestamp, final long staticId, final boolean cda) {
         (cda ? newPTCharacterDefining : newPT).put(timestamp, staticId, Pair.of(power, toughness));
+        characteristicsChanged();
         updatePTforView();
     }
 
@@ -4529,11 +4713,15 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         removed |= newPTCharacterDefining.remove(timestamp, staticId) != null;
 
         if (removed) {
+            characteristicsChanged();
             updatePTforView();
         }
     }
 
     public void updatePTforView() {
+        if (skipViewUpdate(VIEW_PT)) {
+            return;
+        }
         getView().updateLethalDamage(this);
         currentState.getView().updatePower(this);
         currentState.getView().updateToughness(this);
@@ -4557,10 +4745,16 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             changed = true;
             newPT.clear();
         }
+        if (changed) {
+            characteristicsChanged();
+        }
         return changed;
     }
 
     public final int getCurrentPower() {
+        return isPTCached() ? cachedCurrentPower : getCurrentPowerWithChanges();
+    }
+    private int getCurrentPowerWithChanges() {
         int total = getBasePower();
         for (Pair<Integer, Integer> p : getPTIterable()) {
             if (p.getLeft() != null) {
@@ -4570,6 +4764,34 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return total;
     }
 
+    /**
+     * @return false if there is nothing to keep the cached power and toughness in,
+     * otherwise they have been worked out again if the state or epoch changed.
+     */
+    private boolean isPTCached() {
+        if (game == null) {
+            return false;
+        }
+        final long epoch = game.getCharacteristicsEpoch();
+        if (epoch != ptEpoch || currentState != ptState) {
+            cachedCurrentPower = getCurrentPowerWithChanges();
+            cachedCurrentToughness = getCurrentToughnessWithChanges();
+            cachedTempPowerBoost = getTempPowerBoostWithChanges();
+            cachedTempToughnessBoost = getTempToughnessBoostWithChanges();
+            cachedPTSwitched = isPTSwitchedWithChanges();
+            ptState = currentState;
+            ptEpoch = epoch;
+        }
+        return true;
+    }
+
+    private boolean isPTSwitched() {
+        return isPTCached() ? cachedPTSwitched : isPTSwitchedWithChanges();
+    }
+    private boolean isPTSwitchedWithChanges() {
+        return getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0;
+    }
+
     public final StatBreakdown getUnswitchedPowerBreakdown() {
         // 208.3 A noncreature permanent has no power or toughness
         if (isInPlay() && !isCreature()) {
@@ -4588,19 +4810,22 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final StatBreakdown getNetPowerBreakdown() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedToughnessBreakdown();
         }
         return getUnswitchedPowerBreakdown();
     }
     public final int getNetPower() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedToughness();
         }
         return getUnswitchedPower();
     }
 
     public final int getCurrentToughness() {
+        return isPTCached() ? cachedCurrentToughness : getCurrentToughnessWithChanges();
+    }
+    private int getCurrentToughnessWithChanges() {
         int total = getBaseToughness();
         for (Pair<Integer, Integer> p : getPTIterable()) {
             if (p.getRight() != null) {
@@ -4652,7 +4877,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final StatBreakdown getNetToughnessBreakdown() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
+        if (isPTSwitched()) {
             return getUnswitchedPowerBreakdown();
         }
         return getUnswitchedToughnessBreakdown();
@@ -4767,6 +4992,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     // for cards like Giant Growth, etc.
     public final int getTempPowerBoost() {
+        return isPTCached() ? cachedTempPowerBoost : getTempPowerBoostWithChanges();
+    }
+    private int getTempPowerBoostWithChanges() {
         int result = 0;
         for (Pair<Integer, Integer> pair : boostPT.values()) {
             if (pair.getLeft() != null) {
@@ -4777,6 +5005,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final int getTempToughnessBoost() {
+        return isPTCached() ? cachedTempToughnessBoost : getTempToughnessBoostWithChanges();
+    }
+    private int getTempToughnessBoostWithChanges() {
         int result = 0;
         for (Pair<Integer, Integer> pair : boostPT.values()) {
             if (pair.getRight() != null) {
@@ -4788,10 +5019,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     public void addPTBoost(final Integer power, final Integer toughness, final long timestamp, final long staticId) {
         boostPT.put(timestamp, staticId, Pair.of(power, toughness));
+        characteristicsChanged();
     }
 
     public void removePTBoost(final long timestamp, final long staticId) {
-        boostPT.remove(timestamp, staticId);
+        if (boostPT.remove(timestamp, staticId) != null) {
+            characteristicsChanged();
+        }
     }
 
     public Table<Long, Long, Pair<Integer, Integer>> getPTBoostTable() {
@@ -4801,6 +5035,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     public void setPTBoost(Table<Long, Long, Pair<Integer, Integer>> table) {
         this.boostPT.clear();
         boostPT.putAll(table);
+        characteristicsChanged();
     }
 
     public final boolean isUntapped() {
@@ -4885,12 +5120,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         for (Table.Cell<Long, Long, CardTraitChanges> e : changes.cellSet()) {
             changedCardTraitsByText.put(e.getRowKey(), e.getColumnKey(), e.getValue().copy(this, true));
         }
+        updateAbilityIndexes();
     }
     public final void addChangedCardTraitsByText(Collection<SpellAbility> spells,
             Collection<Trigger> trigger, Collection<ReplacementEffect> replacements, Collection<StaticAbility> statics, long timestamp, long staticId) {
         changedCardTraitsByText.put(timestamp, staticId, new CardTraitChanges(
             spells, null, trigger, replacements, statics, true, false
         ));
+        updateAbilityIndexes();
         // update view
         updateAbilityTextForView();
     }
@@ -5041,12 +5278,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         changedCardTraits.put(timestamp, staticId, new CardTraitChanges(
             spells, removedAbilities, trigger, replacements, statics, removeAll, removeNonMana
         ));
+        updateAbilityIndexes();
         // update view
         updateAbilityTextForView();
     }
 
     public final void addChangedCardTraits(CardTraitChanges ctc, long timestamp, long staticId) {
         changedCardTraits.put(timestamp, staticId, ctc);
+        updateAbilityIndexes();
         // update view
         updateAbilityTextForView();
     }
@@ -5055,6 +5294,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         boolean changed = false;
         changed |= changedCardTraitsByText.remove(timestamp, staticId) != null;
         changed |= changedCardTraits.remove(timestamp, staticId) != null;
+        if (changed) {
+            updateAbilityIndexes();
+        }
         return changed;
     }
 
@@ -5078,6 +5320,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         for (Table.Cell<Long, Long, CardTraitChanges> e : changes.cellSet()) {
             changedCardTraits.put(e.getRowKey(), e.getColumnKey(), e.getValue().copy(this, true));
         }
+        updateAbilityIndexes();
     }
 
     public boolean clearChangedCardTraits() {
@@ -5090,6 +5333,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
             changed = true;
         }
         changedCardTraits.clear();
+        if (changed) {
+            updateAbilityIndexes();
+        }
         return changed;
     }
 
@@ -5138,6 +5384,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     }
 
     public final void updateKeywords() {
+        if (skipViewUpdate(VIEW_KEYWORDS)) {
+            // the view would have updated the keywords the game goes by
+            updateKeywordsCache(getCurrentState());
+            return;
+        }
         getCurrentState().getView().updateKeywords(this, getCurrentState());
         getView().updateLethalDamage(this);
     }
@@ -5391,6 +5642,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
 
         this.changedTypeByText = new CardChangedType(new CardType(toAdd, true), new CardType(toRemove, true), false, EnumSet.noneOf(RemoveType.class));
+        characteristicsChanged();
 
         currentState.updateChangedText();
 
@@ -5586,6 +5838,21 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         }
     }
 
+    /**
+     * Call whenever the static or replacement abilities or the triggers of this card may have changed,
+     * see {@link StaticAbilityIndex}, {@link ReplacementEffectIndex} and {@link TriggerHandler#cardChanged}.
+     */
+    void updateAbilityIndexes() {
+        if (game == null || currentZone == null) {
+            return;
+        }
+        game.getReplacementEffectIndex().changed(this);
+        game.getTriggerHandler().cardChanged(this);
+        if (ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(currentZone.getZoneType())) {
+            game.getStaticAbilityIndex().invalidate();
+        }
+    }
+
     public final boolean isPermanent() {
         return !isImmutable() && (isInPlay() || getType().isPermanent());
     }
@@ -5678,6 +5945,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         if (phasedOut == phasedOut0) { return; }
         phasedOut = phasedOut0;
         view.updatePhasedOut(this);
+        if (game != null) {
+            game.getTriggerHandler().cardChanged(this);
+        }
     }
 
     public final void phase(final boolean fromUntapStep) {
@@ -5900,63 +6170,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     // Takes one argument like Permanent.Blue+withFlying
     @Override
     public final boolean isValid(final String restriction, final Player sourceController, final Card source, CardTraitBase spellAbility) {
-        // Inclusive restrictions are Card types
-        final String[] incR = restriction.split("\\.", 2);
-
-        boolean testFailed = false;
-        if (incR[0].startsWith("!")) {
-            testFailed = true; // a bit counter logical))
-            incR[0] = incR[0].substring(1); // consume negation sign
-        }
-
-        if (incR[0].equals("Spell")) {
-            if (!isSpell()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Permanent")) {
-            if (!isPermanent()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Effect")) {
-            if (!isImmutable()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Emblem")) {
-            if (!isEmblem()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Boon")) {
-            if (!isBoon()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("card") || incR[0].equals("Card")) {
-            if (isImmutable()) {
-                return testFailed;
-            }
-        } else if (incR[0].equals("Any")) {
-            if (!(isCreature() || isPlaneswalker() || isBattle())) {
-                return false;
-            }
-            //todo further check for Effect API and other replacement Effect
-            /*if (spellAbility == null)
-                return false;
-            ApiType apiType = ((SpellAbility) spellAbility).getApi();
-            if (!(ApiType.DealDamage.equals(apiType) || ApiType.PreventDamage.equals(apiType)))
-                return false;*/
-        } else if (!getType().hasStringType(incR[0])) {
-            return testFailed; // Check for wrong type
-        }
-
-        if (incR.length > 1) {
-            final String excR = incR[1];
-            final String[] exRs = excR.split("\\+"); // Exclusive Restrictions are ...
-            for (String exR : exRs) {
-                if (!hasProperty(exR, sourceController, source, spellAbility)) {
-                    return testFailed;
-                }
-            }
-        }
-        return !testFailed;
+        return CardRestriction.of(restriction).test(this, sourceController, source, spellAbility);
     }
 
     // Takes arguments like Blue or withFlying
@@ -7514,6 +7728,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
 
     public void dangerouslySetGame(Game newGame) {
         game = newGame;
+        // the epochs of another game say nothing
+        typeColorEpoch = -1;
+        ptEpoch = -1;
     }
 
     public List<SpellAbility> getAllPossibleAbilities(final Player player, final boolean removeUnplayable) {
@@ -7592,13 +7809,17 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
         return CardFactory.getCard(pc, owner, owner == null ? null : owner.getGame());
     }
 
-    private static final Map<PaperCard, Card> cp2card = Maps.newHashMap();
+    // games on several threads may ask for the same card, the first one created is kept
+    private static final Map<PaperCard, Card> cp2card = Maps.newConcurrentMap();
     public static Card getCardForUi(IPaperCard pc) {
         if (pc instanceof PaperCard) {
             Card res = cp2card.get(pc);
             if (res == null) {
                 res = fromPaperCard(pc, null);
-                cp2card.put((PaperCard) pc, res);
+                final Card known = cp2card.putIfAbsent((PaperCard) pc, res);
+                if (known != null) {
+                    res = known;
+                }
             }
             return res;
         }
@@ -7764,10 +7985,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     public void setChangedCardTypes(Table<Long, Long, CardChangedType> changedCardTypes) {
         this.changedCardTypes.clear();
         this.changedCardTypes.putAll(changedCardTypes);
+        characteristicsChanged();
     }
     public void setChangedCardTypesCharacterDefining(Table<Long, Long, CardChangedType> changedCardTypes) {
         this.changedCardTypesCharacterDefining.clear();
         this.changedCardTypesCharacterDefining.putAll(changedCardTypes);
+        characteristicsChanged();
     }
 
     public void setChangedCardKeywords(Table<Long, Long, KeywordsChange> changedCardKeywords) {
@@ -7780,10 +8003,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars, ITr
     public void setChangedCardColors(Table<Long, Long, CardColor> changedCardColors) {
         this.changedCardColors.clear();
         this.changedCardColors.putAll(changedCardColors);
+        characteristicsChanged();
     }
     public void setChangedCardColorsCharacterDefining(Table<Long, Long, CardColor> changedCardColors) {
         this.changedCardColorsCharacterDefining.clear();
         this.changedCardColorsCharacterDefining.putAll(changedCardColors);
+        characteristicsChanged();
     }
 
     public void cleanupCopiedChangesFrom(Card c) {
@@ -105,6 +105,11 @@ public class CardCopyService {
     }
 
     public static Card copyStats(final Card in, final Player newOwner, boolean assignNewId) {
+        return copyStats(in, newOwner, assignNewId, in.getGame());
+    }
+
+    // Copies every state of the card including its traits, so the result is built without re-reading the card script
+    public static Card copyStats(final Card in, final Player newOwner, boolean assignNewId, final Game toGame) {
         int id = in.getId();
         if (assignNewId) {
             id = newOwner == null ? 0 : newOwner.getGame().nextCardId();
@@ -113,7 +118,7 @@ public class CardCopyService {
         if(in instanceof DetachedCardEffect)
             c = new DetachedCardEffect((DetachedCardEffect) in, assignNewId);
         else
-            c = new Card(id, in.getPaperCard(), in.getGame());
+            c = new Card(id, in.getPaperCard(), toGame);
 
         c.setOwner(newOwner);
         c.setSetCode(in.getSetCode());
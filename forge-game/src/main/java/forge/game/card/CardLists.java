@@ -70,7 +70,7 @@ public class CardLists {
     public static final Comparator<Card> PowerComparator = Comparator.comparingInt(Card::getNetCombatDamage);
     public static final Comparator<Card> CmcComparatorInv = Comparator.<Card>comparingInt(Card::getCMC).reversed();
 
-    public static final Comparator<Card> TextLenComparator = Comparator.comparingInt(a -> a.getView().getText().length());
+    public static final Comparator<Card> TextLenComparator = Comparator.comparingInt(a -> a.getUpdatedView().getText().length());
 
     /**
      * <p>
@@ -0,0 +1,234 @@
+package forge.game.card;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import forge.card.CardType;
+import forge.card.ColorSet;
+import forge.card.MagicColor;
+import forge.game.CardTraitBase;
+import forge.game.player.Player;
+
+/**
+ * A restriction like {@code Creature.YouCtrl+nonToken} as used by {@link Card#isValid}, split up once
+ * and kept by its text.
+ * <p>
+ * The most common properties are checked directly, all others still go through
+ * {@link CardProperty#cardHasProperty} but without splitting the restriction again on every call.
+ */
+final class CardRestriction {
+    /** Restrictions built at runtime, like {@code Card.CardUID_123}, shouldn't pile up forever. */
+    private static final int MAX_CACHED = 20000;
+    private static final Map<String, CardRestriction> cache = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    private interface Property {
+        boolean test(Card card, Player sourceController, Card source, CardTraitBase spellAbility);
+    }
+
+    private enum Kind {
+        SPELL, PERMANENT, EFFECT, EMBLEM, BOON, CARD, ANY, TYPE
+    }
+
+    private final boolean negated;
+    private final Kind kind;
+    private final String type;
+    private final Property[] properties;
+
+    static CardRestriction of(final String restriction) {
+        CardRestriction result = cache.get(restriction);
+        if (result == null) {
+            if (cache.size() >= MAX_CACHED) {
+                cache.clear();
+            }
+            result = new CardRestriction(restriction);
+            cache.put(restriction, result);
+        }
+        return result;
+    }
+
+    private CardRestriction(final String restriction) {
+        // Inclusive restrictions are Card types
+        final String[] incR = restriction.split("\\.", 2);
+
+        negated = incR[0].startsWith("!");
+        type = negated ? incR[0].substring(1) : incR[0];
+        switch (type) {
+            case "Spell":
+                kind = Kind.SPELL;
+                break;
+            case "Permanent":
+                kind = Kind.PERMANENT;
+                break;
+            case "Effect":
+                kind = Kind.EFFECT;
+                break;
+            case "Emblem":
+                kind = Kind.EMBLEM;
+                break;
+            case "Boon":
+                kind = Kind.BOON;
+                break;
+            case "card":
+            case "Card":
+                kind = Kind.CARD;
+                break;
+            case "Any":
+                kind = Kind.ANY;
+                break;
+            default:
+                kind = Kind.TYPE;
+        }
+
+        if (incR.length > 1) {
+            // Exclusive Restrictions are ...
+            final String[] exRs = incR[1].split("\\+");
+            properties = new Property[exRs.length];
+            for (int i = 0; i < exRs.length; i++) {
+                properties[i] = compileProperty(exRs[i]);
+            }
+        } else {
+            properties = new Property[0];
+        }
+    }
+
+    boolean test(final Card card, final Player sourceController, final Card source, final CardTraitBase spellAbility) {
+        final boolean matches;
+        switch (kind) {
+            case SPELL:
+                matches = card.isSpell();
+                break;
+            case PERMANENT:
+                matches = card.isPermanent();
+                break;
+            case EFFECT:
+                matches = card.isImmutable();
+                break;
+            case EMBLEM:
+                matches = card.isEmblem();
+                break;
+            case BOON:
+                matches = card.isBoon();
+                break;
+            case CARD:
+                matches = !card.isImmutable();
+                break;
+            case ANY:
+                if (!(card.isCreature() || card.isPlaneswalker() || card.isBattle())) {
+                    return false;
+                }
+                matches = true;
+                break;
+            default:
+                matches = card.getType().hasStringType(type);
+        }
+        if (!matches) {
+            return negated;
+        }
+
+        for (final Property p : properties) {
+            if (!p.test(card, sourceController, source, spellAbility)) {
+                return negated;
+            }
+        }
+        return !negated;
+    }
+
+    /**
+     * Same as {@link Card#hasProperty}, with the most common properties looked at directly.
+     */
+    private static Property compileProperty(final String property) {
+        if (property.startsWith("!")) {
+            final Property p = plainProperty(property.substring(1));
+            return (card, sourceController, source, spellAbility) -> !p.test(card, sourceController, source, spellAbility);
+        }
+        return plainProperty(property);
+    }
+
+    private static Property plainProperty(final String property) {
+        final Property direct = directProperty(property);
+        if (direct == null) {
+            return (card, sourceController, source, spellAbility) -> CardProperty.cardHasProperty(card, property, sourceController, source, spellAbility);
+        }
+        // CR 702.25b if card is phased out it will not count unless specifically asked for
+        return (card, sourceController, source, spellAbility) -> !card.isPhasedOut() && direct.test(card, sourceController, source, spellAbility);
+    }
+
+    /**
+     * @return the check of a property that would otherwise go a long way down
+     * {@link CardProperty#cardHasProperty} or {@link forge.game.ForgeScript#cardStateHasProperty},
+     * or null to leave it to them.
+     */
+    private static Property directProperty(final String property) {
+        switch (property) {
+            case "YouCtrl":
+                return (card, sourceController, source, spellAbility) -> controllerOf(card).equals(sourceController);
+            case "YouDontCtrl":
+                return (card, sourceController, source, spellAbility) -> !controllerOf(card).equals(sourceController);
+            case "OppCtrl":
+                return (card, sourceController, source, spellAbility) -> controllerOf(card).getOpponents().contains(sourceController);
+            case "YouOwn":
+                return (card, sourceController, source, spellAbility) -> card.getOwner().equals(sourceController);
+            case "attacking":
+                return (card, sourceController, source, spellAbility) -> card.getGame().getCombat() != null && card.isAttacking();
+            case "Other":
+                return (card, sourceController, source, spellAbility) -> !card.equals(source);
+            case "Self":
+                return (card, sourceController, source, spellAbility) -> card.equals(source);
+            case "tapped":
+                return (card, sourceController, source, spellAbility) -> card.isTapped();
+            case "untapped":
+                return (card, sourceController, source, spellAbility) -> card.isUntapped();
+            case "token":
+                return (card, sourceController, source, spellAbility) -> card.isToken() || card.isTokenCard();
+            case "nonToken":
+                return (card, sourceController, source, spellAbility) -> !card.isToken() && !card.isTokenCard();
+            case "Colorless":
+                return (card, sourceController, source, spellAbility) -> colorOf(card).isColorless();
+            case "nonColorless":
+                return (card, sourceController, source, spellAbility) -> !colorOf(card).isColorless();
+            case "MultiColor":
+                return (card, sourceController, source, spellAbility) -> colorOf(card).isMulticolor();
+            case "MonoColor":
+                return (card, sourceController, source, spellAbility) -> colorOf(card).isMonoColor();
+            default:
+                break;
+        }
+
+        if (property.startsWith("without")) {
+            final String keyword = property.substring(7);
+            return (card, sourceController, source, spellAbility) -> !card.hasStartOfUnHiddenKeyword(keyword);
+        }
+        if (property.startsWith("with")) {
+            final String keyword = property.substring(4);
+            return (card, sourceController, source, spellAbility) -> card.hasStartOfUnHiddenKeyword(keyword);
+        }
+
+        final boolean non = property.startsWith("non");
+        final String name = non ? property.substring(3) : property;
+        switch (name) {
+            case "White":
+            case "Blue":
+            case "Black":
+            case "Red":
+            case "Green":
+                final byte color = MagicColor.fromName(name);
+                return (card, sourceController, source, spellAbility) -> non != colorOf(card).hasAnyColor(color);
+            default:
+                break;
+        }
+        if (CardType.CoreType.isValidEnum(name) || CardType.Supertype.isValidEnum(name)) {
+            return (card, sourceController, source, spellAbility) -> non != card.getCurrentState().getTypeWithChanges().hasStringType(name);
+        }
+        return null;
+    }
+
+    private static Player controllerOf(final Card card) {
+        // lki can't be null but it does return this
+        return card.getGame().getChangeZoneLKIInfo(card).getController();
+    }
+
+    private static ColorSet colorOf(final Card card) {
+        return card.getColor(card.getCurrentState());
+    }
+}
@@ -132,7 +132,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
 
     public CardTypeView getTypeWithChanges() {
-        return getType().getTypeWithChanges(card.getChangedCardTypes());
+        return card.getType(this);
     }
 
     public final CardTypeView getType() {
@@ -140,11 +140,15 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
     public final void addType(String type0) {
         if (type.add(type0)) {
+            card.characteristicsChanged();
+            card.updateAbilityIndexes();
             view.updateType(this);
         }
     }
     public final void addType(Iterable<String> type0) {
         if (type.addAll(type0)) {
+            card.characteristicsChanged();
+            card.updateAbilityIndexes();
             view.updateType(this);
         }
     }
@@ -156,11 +160,16 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
         if (type0.isEmpty() && type.isEmpty()) { return; }
         type.clear();
         type.addAll(type0);
+        card.characteristicsChanged();
+        // planeswalkers, battles and sagas enter with counters
+        card.updateAbilityIndexes();
         view.updateType(this);
     }
 
     public final void removeType(final CardType.Supertype st) {
         if (type.remove(st)) {
+            card.characteristicsChanged();
+            card.updateAbilityIndexes();
             view.updateType(this);
         }
     }
@@ -170,10 +179,13 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
         if (sanisfy) {
             type.sanisfySubtypes();
         }
+        card.characteristicsChanged();
+        card.updateAbilityIndexes();
     }
 
     public final void setCreatureTypes(Collection<String> ctypes) {
         if (type.setCreatureTypes(ctypes)) {
+            card.characteristicsChanged();
             view.updateType(this);
         }
     }
@@ -191,10 +203,12 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
     public final void addColor(final byte color) {
         this.color |= color;
+        card.characteristicsChanged();
         view.updateColors(card);
     }
     public final void setColor(final byte color) {
         this.color = color;
+        card.characteristicsChanged();
         view.updateColors(card);
     }
 
@@ -223,6 +237,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     public final void setBasePower(final int basePower0) {
         if (basePower == basePower0) { return; }
         basePower = basePower0;
+        card.characteristicsChanged();
         view.updatePower(this);
     }
 
@@ -232,6 +247,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     public final void setBaseToughness(final int baseToughness0) {
         if (baseToughness == baseToughness0) { return; }
         baseToughness = baseToughness0;
+        card.characteristicsChanged();
         view.updateToughness(this);
     }
 
@@ -283,7 +299,16 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
     }
 
     public final void setCachedKeywords(final KeywordCollection col) {
+        final boolean same = cachedKeywords != null && Iterables.elementsEqual(cachedKeywords.getValues(), col.getValues());
         cachedKeywords = col;
+        if (same) {
+            // the very same keyword instances, with the same static abilities
+            return;
+        }
+        // the power and toughness might be switched by one of them
+        card.characteristicsChanged();
+        // keywords bring static and replacement abilities of their own
+        card.updateAbilityIndexes();
     }
 
     public final boolean hasKeyword(Keyword key) {
@@ -485,16 +510,22 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
         return result;
     }
     public final boolean addStaticAbility(StaticAbility stab) {
-        return staticAbilities.add(stab);
+        final boolean added = staticAbilities.add(stab);
+        card.updateAbilityIndexes();
+        return added;
     }
     public final boolean removeStaticAbility(StaticAbility stab) {
-        return staticAbilities.remove(stab);
+        final boolean removed = staticAbilities.remove(stab);
+        card.updateAbilityIndexes();
+        return removed;
     }
     public final void setStaticAbilities(final Iterable<StaticAbility> staticAbilities0) {
         staticAbilities = new FCollection<>(staticAbilities0);
+        card.updateAbilityIndexes();
     }
     public final void clearStaticAbilities() {
         staticAbilities.clear();
+        card.updateAbilityIndexes();
     }
 
     public final String getImageKey() {
@@ -541,13 +572,18 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
         return result;
     }
     public boolean addReplacementEffect(final ReplacementEffect replacementEffect) {
-        return replacementEffects.add(replacementEffect);
+        final boolean added = replacementEffects.add(replacementEffect);
+        card.updateAbilityIndexes();
+        return added;
     }
     public boolean removeReplacementEffect(final ReplacementEffect replacementEffect) {
-        return replacementEffects.remove(replacementEffect);
+        final boolean removed = replacementEffects.remove(replacementEffect);
+        card.updateAbilityIndexes();
+        return removed;
     }
     public void clearReplacementEffects() {
         replacementEffects.clear();
+        card.updateAbilityIndexes();
     }
 
     public final boolean hasReplacementEffect(final ReplacementEffect re) {
@@ -686,6 +722,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
                 staticAbilities.add(sa.copy(card, lki));
             }
         }
+        card.updateAbilityIndexes();
         if (lki) {
             if (source.loyaltyRep != null) {
                 loyaltyRep = source.loyaltyRep.copy(card, true);
@@ -733,6 +770,7 @@ public class CardState extends GameObject implements IHasSVars, ITranslatable {
                 staticAbilities.add(sa.copy(card, lki));
             }
         }
+        card.updateAbilityIndexes();
     }
 
     public CardState copy(final Card host, CardStateName name, final boolean lki) {
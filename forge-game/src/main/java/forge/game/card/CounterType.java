@@ -22,8 +22,15 @@ public class CounterType implements Comparable<CounterType>, Serializable {
             "Flying", "First Strike", "Double Strike", "Deathtouch", "Exalted", "Haste", "Hexproof",
             "Indestructible", "Lifelink", "Menace", "Reach", "Shadow", "Trample", "Vigilance");
 
-    private static Map<CounterEnumType, CounterType> eMap = Maps.newEnumMap(CounterEnumType.class);
-    private static Map<String, CounterType> sMap = Maps.newHashMap();
+    // filled up front and then only read, the names are cached as they are met, by games on any thread
+    private static final Map<CounterEnumType, CounterType> eMap = Maps.newEnumMap(CounterEnumType.class);
+    private static final Map<String, CounterType> sMap = Maps.newConcurrentMap();
+
+    static {
+        for (CounterEnumType e : CounterEnumType.values()) {
+            eMap.put(e, new CounterType(e, null));
+        }
+    }
 
     private CounterType(CounterEnumType e, String s) {
         this.eVal = e;
@@ -31,17 +38,11 @@ public class CounterType implements Comparable<CounterType>, Serializable {
     }
 
     public static CounterType get(CounterEnumType e) {
-        if (!eMap.containsKey(e)) {
-            eMap.put(e, new CounterType(e, null));
-        }
         return eMap.get(e);
     }
 
     public static CounterType get(String s) {
-        if (!sMap.containsKey(s)) {
-            sMap.put(s, new CounterType(null, s));
-        }
-        return sMap.get(s);
+        return sMap.computeIfAbsent(s, k -> new CounterType(null, k));
     }
 
     public static CounterType getType(String name) {
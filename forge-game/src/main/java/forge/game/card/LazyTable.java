@@ -0,0 +1,119 @@
+package forge.game.card;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ForwardingTable;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
+import com.google.common.collect.TreeBasedTable;
+
+/**
+ * A table that only creates its backing table when something is first put into it.
+ * <p>
+ * Most cards spend the game in library or hand and never get a layered effect, so their
+ * change tables would otherwise just sit there empty. Until the first put every card
+ * shares the same empty table for reading.
+ */
+final class LazyTable<R, C, V> extends ForwardingTable<R, C, V> {
+    private final Supplier<Table<R, C, V>> factory;
+    private Table<R, C, V> table;
+
+    private LazyTable(final Supplier<Table<R, C, V>> factory) {
+        this.factory = factory;
+    }
+
+    /** Lazy version of {@link TreeBasedTable#create()}. */
+    @SuppressWarnings("rawtypes")
+    static <R extends Comparable, C extends Comparable, V> LazyTable<R, C, V> tree() {
+        return new LazyTable<>(TreeBasedTable::create);
+    }
+
+    /** Lazy version of {@link HashBasedTable#create()}. */
+    static <R, C, V> LazyTable<R, C, V> hash() {
+        return new LazyTable<>(HashBasedTable::create);
+    }
+
+    @Override
+    protected Table<R, C, V> delegate() {
+        return table == null ? ImmutableTable.of() : table;
+    }
+
+    private Table<R, C, V> table() {
+        if (table == null) {
+            table = factory.get();
+        }
+        return table;
+    }
+
+    @Override
+    public V put(final R rowKey, final C columnKey, final V value) {
+        return table().put(rowKey, columnKey, value);
+    }
+
+    @Override
+    public void putAll(final Table<? extends R, ? extends C, ? extends V> other) {
+        if (table == null && other.isEmpty()) {
+            return;
+        }
+        table().putAll(other);
+    }
+
+    @Override
+    public V remove(final Object rowKey, final Object columnKey) {
+        return table == null ? null : table.remove(rowKey, columnKey);
+    }
+
+    @Override
+    public void clear() {
+        if (table != null) {
+            table.clear();
+        }
+    }
+
+    // the views of the shared empty table can't even be asked to remove nothing
+
+    @Override
+    public Map<C, V> row(final R rowKey) {
+        return table == null ? Collections.emptyMap() : table.row(rowKey);
+    }
+
+    @Override
+    public Map<R, V> column(final C columnKey) {
+        return table == null ? Collections.emptyMap() : table.column(columnKey);
+    }
+
+    @Override
+    public Set<Cell<R, C, V>> cellSet() {
+        return table == null ? Collections.emptySet() : table.cellSet();
+    }
+
+    @Override
+    public Set<R> rowKeySet() {
+        return table == null ? Collections.emptySet() : table.rowKeySet();
+    }
+
+    @Override
+    public Set<C> columnKeySet() {
+        return table == null ? Collections.emptySet() : table.columnKeySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return table == null ? Collections.emptyList() : table.values();
+    }
+
+    @Override
+    public Map<R, Map<C, V>> rowMap() {
+        return table == null ? Collections.emptyMap() : table.rowMap();
+    }
+
+    @Override
+    public Map<C, Map<R, V>> columnMap() {
+        return table == null ? Collections.emptyMap() : table.columnMap();
+    }
+}
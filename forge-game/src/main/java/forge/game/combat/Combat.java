@@ -67,6 +67,8 @@ public class Combat {
     // List holds creatures who have dealt 1st strike damage to disallow them deal damage on regular basis (unless they have double-strike KW)
     private CardCollection combatantsThatDealtFirstStrikeDamage = new CardCollection();
 
+    private long changeCount = 0;
+
     public Combat(final Player attacker) {
         playerWhoAttacks = attacker;
         legacyOrderCombatants = playerWhoAttacks.getGame().getRules().hasOrderCombatants();
@@ -113,6 +115,7 @@ public class Combat {
     }
 
     public void initConstraints() {
+        changed();
         attackableEntries.clear();
         // Create keys for all possible attack targets
         attackableEntries.addAll(CombatUtil.getAllPossibleDefenders(playerWhoAttacks));
@@ -142,7 +145,20 @@ public class Combat {
         return sb.toString();
     }
 
+    /**
+     * @return how often attackers, blockers, defenders or their order changed, so what was worked out about
+     * this combat can be kept until it changes.
+     */
+    public final long getChangeCount() {
+        return changeCount;
+    }
+
+    private void changed() {
+        changeCount++;
+    }
+
     public void endCombat() {
+        changed();
         //backup attackers and blockers
         CardCollection attackers = getAttackers();
         CardCollection blockers = getAllBlockers();
@@ -252,6 +268,7 @@ public class Combat {
             System.out.println("Trying to add Attacker " + c + " to missing defender " + defender);
             return;
         }
+        changed();
 
         // This is trying to fix the issue of an attacker existing in two bands at once
         AttackingBand existingBand = getBandOfAttacker(c);
@@ -363,11 +380,13 @@ public class Combat {
 
     // Some cards in Alpha may UNBLOCK an attacker, so second parameter is not always-true
     public final void setBlocked(final Card attacker, boolean value) {
+        changed();
         getBandOfAttackerNotNull(attacker).setBlocked(value); // called by Curtain of Light, Dazzling Beauty, Trap Runner
     }
 
     public final void addBlocker(final Card attacker, final Card blocker) {
         final AttackingBand band = getBandOfAttackerNotNull(attacker);
+        changed();
         blockedBands.put(band, blocker);
         // If damage is already assigned, add this blocker as a "late entry"
         if (blockersOrderedForDamageAssignment.containsKey(attacker)) {
@@ -379,6 +398,7 @@ public class Combat {
     // remove blocker from specific attacker
     public final void removeBlockAssignment(final Card attacker, final Card blocker) {
         AttackingBand band = getBandOfAttackerNotNull(attacker);
+        changed();
         Collection<Card> cc = blockedBands.get(band);
         if (cc != null) {
             cc.remove(blocker);
@@ -388,6 +408,7 @@ public class Combat {
 
     // remove blocker from everywhere
     public final void undoBlockingAssignment(final Card blocker) {
+        changed();
         CardCollection toRemove = new CardCollection(blocker);
         blockedBands.values().removeAll(toRemove);
         blocker.updateBlockingForView();
@@ -483,6 +504,7 @@ public class Combat {
 
     /** If there are multiple blockers, the Attacker declares the Assignment Order */
     public void orderBlockersForDamageAssignment(Card attacker, CardCollection blockers) { // this method performs controller's role
+        changed();
         if (blockers.size() <= 1 || !this.legacyOrderCombatants) {
             blockersOrderedForDamageAssignment.put(attacker, new CardCollection(blockers));
             return;
@@ -517,6 +539,7 @@ public class Combat {
      * @param blocker the blocking creature.
      */
     public void addBlockerToDamageAssignmentOrder(Card attacker, Card blocker) {
+        changed();
         final CardCollection oldBlockers = blockersOrderedForDamageAssignment.get(attacker);
     	if (oldBlockers == null || oldBlockers.isEmpty()) {
    			blockersOrderedForDamageAssignment.put(attacker, new CardCollection(blocker));
@@ -537,6 +560,7 @@ public class Combat {
     }
 
     public void orderAttackersForDamageAssignment(Card blocker) { // this method performs controller's role
+        changed();
         CardCollection attackers = getAttackersBlockedBy(blocker);
         // They need a reverse map here: Blocker => List<Attacker>
 
@@ -549,6 +573,7 @@ public class Combat {
 
     // removes references to this attacker from all indices and orders
     public void unregisterAttacker(final Card c, AttackingBand ab) {
+        changed();
         blockersOrderedForDamageAssignment.remove(c);
 
         Collection<Card> blockers = blockedBands.get(ab);
@@ -582,6 +607,7 @@ public class Combat {
 
     // removes references to this defender from all indices and orders
     public void unregisterDefender(final Card c, AttackingBand bandBeingBlocked) {
+        changed();
         attackersOrderedForDamageAssignment.remove(c);
         for (Card atk : bandBeingBlocked.getAttackers()) {
             if (blockersOrderedForDamageAssignment.containsKey(atk)) {
@@ -592,6 +618,7 @@ public class Combat {
 
     // remove a combatant whose side is unknown
     public final void removeFromCombat(final Card c) {
+        changed();
         AttackingBand ab = getBandOfAttacker(c);
         if (ab != null) {
             unregisterAttacker(c, ab);
@@ -5,6 +5,7 @@ import forge.game.card.Card;
 import forge.item.PaperCard;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public enum Keyword {
     UNDEFINED("", SimpleKeyword.class, false, ""),
@@ -277,7 +278,8 @@ public enum Keyword {
         return keywords;
     }
 
-    private static final Map<String, Set<Keyword>> cardKeywordSetLookup = new HashMap<>();
+    // filled by the preload task and by games, which may run on several threads
+    private static final Map<String, Set<Keyword>> cardKeywordSetLookup = new ConcurrentHashMap<>();
 
     public static Set<Keyword> getKeywordSet(PaperCard card) {
         String key = card.getName();
@@ -290,7 +292,10 @@ public enum Keyword {
                     keywordSet.add(keyword);
                 }
             }
-            cardKeywordSetLookup.put(card.getName(), keywordSet);
+            final Set<Keyword> known = cardKeywordSetLookup.putIfAbsent(key, keywordSet);
+            if (known != null) {
+                keywordSet = known;
+            }
         }
         return keywordSet;
     }
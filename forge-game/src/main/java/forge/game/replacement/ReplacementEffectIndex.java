@@ -0,0 +1,198 @@
+package forge.game.replacement;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.zone.Zone;
+import forge.game.zone.ZoneType;
+
+/**
+ * The cards of a game that have replacement effects, by the {@link ReplacementType} those effects can replace.
+ * <p>
+ * The zones of the game add and remove their cards as they change, and a card that may have gained or lost
+ * replacement effects is only looked at again the next time the index is used, so {@link ReplacementHandler}
+ * only has to go through the cards with effects that can apply to the event instead of every card in the game.
+ * Whether an effect applies right now is still up to the checks of the handler.
+ */
+public final class ReplacementEffectIndex {
+    /** The zones {@link Game#forEachCardInGame} goes through, sideboards included. */
+    private static final Set<ZoneType> ZONES = EnumSet.of(ZoneType.Graveyard, ZoneType.Hand, ZoneType.Library,
+            ZoneType.Battlefield, ZoneType.Exile, ZoneType.Command, ZoneType.Sideboard, ZoneType.Stack);
+    /** The order {@link Game#forEachCardInGame} goes through the zones of a player in, inbound tokens last. */
+    private static final List<ZoneType> PLAYER_ZONE_ORDER = Collections.unmodifiableList(Lists.newArrayList(ZoneType.Graveyard,
+            ZoneType.Hand, ZoneType.Library, ZoneType.Battlefield, ZoneType.Exile, ZoneType.Command, ZoneType.Sideboard));
+
+    private final Game game;
+    // the very card object each zone holds, by id
+    private final Map<Integer, Card> cards = Maps.newHashMap();
+    private final Map<Integer, Set<ReplacementType>> modesById = Maps.newHashMap();
+    private final Map<ReplacementType, Set<Card>> byMode = Maps.newEnumMap(ReplacementType.class);
+    // cards that may have gained or lost effects since they were last looked at
+    private final Map<Integer, Card> changed = Maps.newHashMap();
+
+    public ReplacementEffectIndex(final Game game) {
+        this.game = game;
+        for (final ReplacementType mode : ReplacementType.values()) {
+            byMode.put(mode, Sets.newHashSet());
+        }
+    }
+
+    /**
+     * Call whenever the replacement effects of a card may have changed.
+     */
+    public synchronized void changed(final Card c) {
+        if (cards.get(c.getId()) == c) {
+            changed.put(c.getId(), c);
+        }
+    }
+
+    public synchronized void added(final Zone zone, final Card c) {
+        if (isIndexed(zone)) {
+            cards.put(c.getId(), c);
+            changed.put(c.getId(), c);
+        }
+    }
+
+    public synchronized void removed(final Zone zone, final Card c) {
+        if (!isIndexed(zone)) {
+            return;
+        }
+        final Card indexed = cards.get(c.getId());
+        // unless it was added to another zone in the meantime
+        if (indexed == null || indexed.getZone() != zone) {
+            return;
+        }
+        cards.remove(c.getId());
+        changed.remove(c.getId());
+        final Set<ReplacementType> modes = modesById.remove(c.getId());
+        if (modes != null) {
+            removeFrom(modes, c);
+        }
+    }
+
+    /**
+     * @return the cards with a replacement effect that may replace the given event, in a zone of a player still
+     * in the game or on the stack, and the tokens on their way to the battlefield whose effects always need to be
+     * looked at. They aren't in any particular order, see {@link #inGameOrder()}.
+     */
+    public synchronized List<Card> getCards(final ReplacementType mode, final boolean withSideboard) {
+        update();
+        final List<Card> result = Lists.newArrayList();
+        for (final Card c : byMode.get(mode)) {
+            if (isInGame(c, withSideboard)) {
+                result.add(c);
+            }
+        }
+        for (final Player p : game.getPlayers()) {
+            Iterables.addAll(result, p.getInboundTokens());
+        }
+        return result;
+    }
+
+    /**
+     * @return the card with the given id that {@link Game#forEachCardInGame} would visit, with or without effects.
+     * Tokens on their way to the battlefield aren't indexed.
+     */
+    public synchronized Card getCard(final int id, final boolean withSideboard) {
+        final Card c = cards.get(id);
+        return c != null && isInGame(c, withSideboard) ? c : null;
+    }
+
+    /**
+     * @return compares cards in the order {@link Game#forEachCardInGame} visits them.
+     */
+    public Comparator<Card> inGameOrder() {
+        final List<Player> players = Lists.newArrayList(game.getPlayers());
+        return Comparator.comparingLong(c -> position(c, players));
+    }
+
+    private static long position(final Card c, final List<Player> players) {
+        final Zone zone = c.getZone();
+        int player = players.size();
+        int zoneIndex = 0;
+        int index = 0;
+        if (zone == null) {
+            zoneIndex = PLAYER_ZONE_ORDER.size();
+            for (int i = 0; i < players.size(); i++) {
+                index = players.get(i).getInboundTokens().indexOf(c);
+                if (index >= 0) {
+                    player = i;
+                    break;
+                }
+            }
+        } else {
+            if (!zone.is(ZoneType.Stack)) {
+                player = players.indexOf(zone.getPlayer());
+                zoneIndex = PLAYER_ZONE_ORDER.indexOf(zone.getZoneType());
+            }
+            index = zone.getCards(false).indexOf(c);
+        }
+        return ((long) player << 40) | ((long) zoneIndex << 32) | Math.max(0, index);
+    }
+
+    private boolean isInGame(final Card c, final boolean withSideboard) {
+        final Zone zone = c.getZone();
+        if (zone == null || !zone.contains(c) || (!withSideboard && zone.is(ZoneType.Sideboard))) {
+            return false;
+        }
+        // cards of players who left the game stay in their zones, but aren't part of it anymore
+        final Player p = zone.getPlayer();
+        return p == null || game.getPlayers().contains(p);
+    }
+
+    /**
+     * @return whether the given zone is one of the game's own that are indexed, and not an lki copy of one.
+     */
+    private boolean isIndexed(final Zone zone) {
+        if (!ZONES.contains(zone.getZoneType())) {
+            return false;
+        }
+        final Player p = zone.getPlayer();
+        return zone == (p == null ? game.getStackZone() : p.getZone(zone.getZoneType()));
+    }
+
+    private void update() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        // looking at the effects of a card may change it again
+        final List<Card> toUpdate = Lists.newArrayList(changed.values());
+        changed.clear();
+        for (final Card c : toUpdate) {
+            final Set<ReplacementType> modes = EnumSet.noneOf(ReplacementType.class);
+            for (final ReplacementEffect re : c.getReplacementEffects()) {
+                modes.add(re.getMode());
+                // see ReplaceAddCounter#modeCheck, counters put on a card entering the battlefield
+                if (re instanceof ReplaceAddCounter) {
+                    modes.add(ReplacementType.Moved);
+                }
+            }
+            final Set<ReplacementType> old = modesById.put(c.getId(), modes);
+            // removed first, the card may be a newer object than the one indexed before
+            if (old != null) {
+                removeFrom(old, c);
+            }
+            for (final ReplacementType mode : modes) {
+                byMode.get(mode).add(c);
+            }
+        }
+    }
+
+    private void removeFrom(final Set<ReplacementType> modes, final Card c) {
+        for (final ReplacementType mode : modes) {
+            byMode.get(mode).remove(c);
+        }
+    }
+}
@@ -9,6 +9,11 @@ import forge.trackable.Tracker;
 public class ReplacementEffectView extends TrackableObject implements IHasCardView {
     private static final long serialVersionUID = 1L;
 
+    // used by the network client to recreate a view received from the server
+    public ReplacementEffectView(final int id0, final Tracker tracker) {
+        super(id0, tracker);
+    }
+
     ReplacementEffectView(ReplacementEffect re) {
         this(re, re.getHostCard() == null || re.getHostCard().getGame() == null ? null : re.getHostCard().getGame().getTracker());
     }
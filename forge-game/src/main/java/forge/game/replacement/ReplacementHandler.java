@@ -18,6 +18,7 @@
 package forge.game.replacement;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -31,7 +32,9 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 import forge.game.CardTraitBase;
@@ -117,16 +120,29 @@ public class ReplacementHandler {
         }*/
 
         // Round up Static replacement effects
-        game.forEachCardInGame(new Visitor<Card>() {
+        final boolean withSideboard = affectedCard != null && affectedCard.isInZone(ZoneType.Sideboard);
+        final CardCollectionView lastStateBattlefield = (CardCollectionView) runParams.get(AbilityKey.LastStateBattlefield);
+        final ReplacementEffectIndex index = game.getReplacementEffectIndex();
+        // the last known information of a card may have effects the card itself doesn't have anymore
+        final Set<Card> candidates = Sets.newHashSet(index.getCards(event, withSideboard));
+        for (final Card lki : Iterables.concat(preList, event == ReplacementType.Moved && lastStateBattlefield != null
+                ? lastStateBattlefield : CardCollection.EMPTY)) {
+            final Card crd = index.getCard(lki.getId(), withSideboard);
+            if (crd != null) {
+                candidates.add(crd);
+            }
+        }
+        final Map<ReplacementEffect, Card> hosts = Maps.newHashMap();
+        final Visitor<Card> visitor = new Visitor<Card>() {
             @Override
             public boolean visit(Card crd) {
                 Card c = preList.get(crd);
                 Zone cardZone = game.getZoneOf(c);
 
                 // only when not prelist
-                boolean noLKIstate = c != crd || event != ReplacementType.Moved || c.isImmutable() || runParams.get(AbilityKey.LastStateBattlefield) == null;
+                boolean noLKIstate = c != crd || event != ReplacementType.Moved || c.isImmutable() || lastStateBattlefield == null;
                 if (!noLKIstate) {
-                    Card lastState = ((CardCollectionView) runParams.get(AbilityKey.LastStateBattlefield)).get(c);
+                    Card lastState = lastStateBattlefield.get(c);
                     if (lastState != c) {
                         // use LKI because it has the right RE from the state before the effect started
                         c = lastState;
@@ -136,7 +152,6 @@ public class ReplacementHandler {
                         return true;
                     }
                 }
-
                 for (final ReplacementEffect replacementEffect : c.getReplacementEffects()) {
                     if (!replacementEffect.hasRun() && !hasRun.contains(replacementEffect)
                             && (layer == null || replacementEffect.getLayer() == layer)
@@ -146,12 +161,18 @@ public class ReplacementHandler {
                             && replacementEffect.requirementsCheck(game)
                             && replacementEffect.canReplace(runParams)) {
                         possibleReplacers.add(replacementEffect);
+                        hosts.put(replacementEffect, crd);
                     }
                 }
                 return true;
             }
-
-        }, affectedCard != null && affectedCard.isInZone(ZoneType.Sideboard));
+        };
+        candidates.forEach(visitor::visit);
+        if (possibleReplacers.size() > 1) {
+            // in the order of the cards in the game, as if all of them were looked at
+            final Comparator<Card> inGameOrder = index.inGameOrder();
+            possibleReplacers.sort((a, b) -> inGameOrder.compare(hosts.get(a), hosts.get(b)));
+        }
 
         if (checkAgain) {
             if (affectedLKI != null && affectedCard != null) {
@@ -900,24 +921,19 @@ public class ReplacementHandler {
      */
     public int getTotalPreventionShieldAmount(GameEntity o) {
         final List<ReplacementEffect> list = Lists.newArrayList();
-        game.forEachCardInGame(new Visitor<Card>() {
-            @Override
-            public boolean visit(Card c) {
-                for (final ReplacementEffect re : c.getReplacementEffects()) {
-                    if (re.getMode() == ReplacementType.DamageDone
-                            && re.getLayer() == ReplacementLayer.Other
-                            && re.hasParam("PreventionEffect")
-                            && re.zonesCheck(game.getZoneOf(c))
-                            && re.getOverridingAbility() != null
-                            && re.getOverridingAbility().getApi() == ApiType.ReplaceDamage
-                            && re.matchesValidParam("ValidTarget", o)) {
-                        list.add(re);
-                    }
+        for (final Card c : game.getReplacementEffectIndex().getCards(ReplacementType.DamageDone, false)) {
+            for (final ReplacementEffect re : c.getReplacementEffects()) {
+                if (re.getMode() == ReplacementType.DamageDone
+                        && re.getLayer() == ReplacementLayer.Other
+                        && re.hasParam("PreventionEffect")
+                        && re.zonesCheck(game.getZoneOf(c))
+                        && re.getOverridingAbility() != null
+                        && re.getOverridingAbility().getApi() == ApiType.ReplaceDamage
+                        && re.matchesValidParam("ValidTarget", o)) {
+                    list.add(re);
                 }
-                return true;
             }
-
-        });
+        }
 
         int totalAmount = 0;
         for (ReplacementEffect re : list) {
@@ -943,22 +959,18 @@ public class ReplacementHandler {
      */
     public final boolean isPreventCombatDamageThisTurn() {
         final List<ReplacementEffect> list = Lists.newArrayList();
-        game.forEachCardInGame(new Visitor<Card>() {
-            @Override
-            public boolean visit(Card c) {
-                for (final ReplacementEffect re : c.getReplacementEffects()) {
-                    if (re.getMode() == ReplacementType.DamageDone
-                            && re.getLayer() == ReplacementLayer.Other
-                            && re.hasParam("Prevent") && re.getParam("Prevent").equals("True")
-                            && re.hasParam("IsCombat") && re.getParam("IsCombat").equals("True")
-                            && !re.hasParam("ValidSource") && !re.hasParam("ValidTarget")
-                            && re.zonesCheck(game.getZoneOf(c))) {
-                        list.add(re);
-                    }
+        for (final Card c : game.getReplacementEffectIndex().getCards(ReplacementType.DamageDone, false)) {
+            for (final ReplacementEffect re : c.getReplacementEffects()) {
+                if (re.getMode() == ReplacementType.DamageDone
+                        && re.getLayer() == ReplacementLayer.Other
+                        && re.hasParam("Prevent") && re.getParam("Prevent").equals("True")
+                        && re.hasParam("IsCombat") && re.getParam("IsCombat").equals("True")
+                        && !re.hasParam("ValidSource") && !re.hasParam("ValidTarget")
+                        && re.zonesCheck(game.getZoneOf(c))) {
+                    list.add(re);
                 }
-                return true;
             }
-        });
+        }
         return !list.isEmpty();
     }
 
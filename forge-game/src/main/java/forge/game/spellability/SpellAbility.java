@@ -18,6 +18,7 @@
 package forge.game.spellability;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import forge.game.cost.CostSacrifice;
 import forge.util.*;
@@ -81,8 +82,8 @@ import forge.game.zone.ZoneType;
  * @version $Id$
  */
 public abstract class SpellAbility extends CardTraitBase implements ISpellAbility, IIdentifiable, Comparable<SpellAbility> {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     public static class EmptySa extends SpellAbility {
         public EmptySa(Card sourceCard) { super(sourceCard, Cost.Zero); setActivatingPlayer(sourceCard.getController());}
@@ -889,7 +890,7 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
     }
 
     public String getStackDescription() {
-        String text = getHostCard().getView().getText();
+        String text = getHostCard().getUpdatedView().getText();
         if (stackDescription.equals(text) && !text.isEmpty()) {
             return getHostCard().getName() + " - " + text;
         }
@@ -898,7 +899,7 @@ public abstract class SpellAbility extends CardTraitBase implements ISpellAbilit
     public void setStackDescription(final String s) {
         originalStackDescription = s;
         stackDescription = originalStackDescription;
-        if (StringUtils.isEmpty(description) && StringUtils.isEmpty(hostCard.getView().getText())) {
+        if (StringUtils.isEmpty(description) && StringUtils.isEmpty(hostCard.getUpdatedView().getText())) {
             setDescription(s);
         }
     }
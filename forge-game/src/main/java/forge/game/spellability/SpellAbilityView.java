@@ -25,6 +25,11 @@ public class SpellAbilityView extends TrackableObject implements IHasCardView {
         return spellViewCache;
     }
 
+    // used by the network client to recreate a view received from the server
+    public SpellAbilityView(final int id0, final Tracker tracker) {
+        super(id0, tracker);
+    }
+
     SpellAbilityView(final SpellAbility sa) {
         this(sa, sa.getHostCard() == null || sa.getHostCard().getGame() == null ? null : sa.getHostCard().getGame().getTracker());
     }
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.*;
 
@@ -51,8 +52,8 @@ import forge.util.*;
  * The Class StaticAbility.
  */
 public class StaticAbility extends CardTraitBase implements IIdentifiable, Cloneable, Comparable<StaticAbility> {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     private int id;
 
@@ -307,25 +308,19 @@ public class StaticAbility extends CardTraitBase implements IIdentifiable, Clone
     }
 
     /**
-     * Check conditions.
+     * Whether the host card is where this ability functions from. Unlike the rest of {@link #checkConditions()}
+     * this only depends on the zone of the host, not on anything other static abilities could change.
      *
-     * @return true, if the static ability is applicable.
+     * @return false if the ability can't apply because of where its host is.
      */
-    public final boolean checkConditions() {
-        final Player controller = getHostCard().getController();
-        final Game game = getHostCard().getGame();
-        final PhaseHandler ph = game.getPhaseHandler();
-
-        if (isSuppressed()) {
-            return false;
-        }
+    public final boolean isInEffectZone() {
         if (getHostCard().isPhasedOut()) {
             return false;
         }
 
         if (hasParam("EffectZone")) {
             if (!getParam("EffectZone").equals("All")) {
-                Zone zone = game.getZoneOf(getHostCard());
+                Zone zone = getHostCard().getGame().getZoneOf(getHostCard());
                 if (zone == null || !ZoneType.listValueOf(getParam("EffectZone")).contains(zone.getZoneType())) {
                     return false;
                 }
@@ -335,6 +330,25 @@ public class StaticAbility extends CardTraitBase implements IIdentifiable, Clone
                 return false;
             }
         }
+        return true;
+    }
+
+    /**
+     * Check conditions.
+     *
+     * @return true, if the static ability is applicable.
+     */
+    public final boolean checkConditions() {
+        final Player controller = getHostCard().getController();
+        final Game game = getHostCard().getGame();
+        final PhaseHandler ph = game.getPhaseHandler();
+
+        if (isSuppressed()) {
+            return false;
+        }
+        if (!isInEffectZone()) {
+            return false;
+        }
 
         String condition = getParam("Condition");
         if (null != condition) {
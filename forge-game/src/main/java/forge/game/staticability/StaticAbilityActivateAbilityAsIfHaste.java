@@ -18,7 +18,6 @@
 package forge.game.staticability;
 
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 /**
  * The Class StaticAbility_ActivateAbilityAsIfHaste.
@@ -29,15 +28,13 @@ public class StaticAbilityActivateAbilityAsIfHaste {
     static String MODE = "ActivateAbilityAsIfHaste";
 
     public static boolean canActivate(final Card card) {
-        for (final Card ca : card.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : card.getGame().getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCanActivateAbility(stAb, card)) {
-                    return true;
-                }
+            if (applyCanActivateAbility(stAb, card)) {
+                return true;
             }
         }
         return false;
@@ -2,11 +2,11 @@ package forge.game.staticability;
 
 import java.util.List;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 
 import forge.card.mana.ManaCostParser;
 import forge.game.card.Card;
-import forge.game.card.CardCollection;
 import forge.game.cost.Cost;
 import forge.game.player.Player;
 import forge.game.spellability.OptionalCost;
@@ -19,74 +19,72 @@ public class StaticAbilityAlternativeCost {
 
     public static List<SpellAbility> alternativeCosts(final SpellAbility sa, final Card source, final Player pl) {
         List<SpellAbility> result = Lists.newArrayList();
-        // add source first in case it's LKI (alternate host)
-        CardCollection list = new CardCollection(source);
-        list.addAll(source.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES));
-        for (final Card ca : list) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        // source first in case it's LKI (alternate host), it then stands in for the card in its zone
+        final Iterable<StaticAbility> statics = Iterables.concat(source.getStaticAbilities(),
+                Iterables.filter(source.getGame().getStaticAbilityIndex().get(MODE), stAb -> !source.equals(stAb.getHostCard())));
+        for (final StaticAbility stAb : statics) {
+            if (!stAb.checkConditions(MODE)) {
+                continue;
+            }
 
-                if (!apply(stAb, sa, source, pl)) {
-                    continue;
-                }
+            if (!apply(stAb, sa, source, pl)) {
+                continue;
+            }
 
-                String costTemplate = stAb.getParam("Cost");
-                costTemplate = costTemplate.replace("ConvertedManaCost", Integer.toString(source.getCMC()));
+            String costTemplate = stAb.getParam("Cost");
+            costTemplate = costTemplate.replace("ConvertedManaCost", Integer.toString(source.getCMC()));
 
-                Cost cost = new Cost(costTemplate, sa.isAbility());
-                // set the cost to this directly to bypass non mana cost
-                final SpellAbility newSA = sa.isAbility() ? sa.copyWithDefinedCost(cost) : sa.copyWithManaCostReplaced(pl, cost);
-                newSA.setActivatingPlayer(pl);
-                newSA.setBasicSpell(false);
+            Cost cost = new Cost(costTemplate, sa.isAbility());
+            // set the cost to this directly to bypass non mana cost
+            final SpellAbility newSA = sa.isAbility() ? sa.copyWithDefinedCost(cost) : sa.copyWithManaCostReplaced(pl, cost);
+            newSA.setActivatingPlayer(pl);
+            newSA.setBasicSpell(false);
 
-                if (stAb.hasParam("XAlternative")) {
-                    newSA.putParam("XAlternative", stAb.getParam("XAlternative"));
-                }
+            if (stAb.hasParam("XAlternative")) {
+                newSA.putParam("XAlternative", stAb.getParam("XAlternative"));
+            }
 
-                if (stAb.hasParam("Announce")) {
-                    newSA.putParam("Announce", stAb.getParam("Announce"));
-                }
+            if (stAb.hasParam("Announce")) {
+                newSA.putParam("Announce", stAb.getParam("Announce"));
+            }
 
-                if (stAb.hasParam("ManaRestriction")) {
-                    newSA.putParam("ManaRestriction", stAb.getParam("ManaRestriction"));
-                }
+            if (stAb.hasParam("ManaRestriction")) {
+                newSA.putParam("ManaRestriction", stAb.getParam("ManaRestriction"));
+            }
 
-                if (stAb.hasParam("AffectedZone")) {
-                    newSA.getRestrictions().setZone(ZoneType.smartValueOf(stAb.getParam("AffectedZone")));
-                } else if (!stAb.getHostCard().isImmutable() && stAb.hasParam("EffectZone") && !"All".equals(stAb.getParam("EffectZone"))) {
-                    newSA.getRestrictions().setZone(ZoneType.smartValueOf(stAb.getParam("EffectZone")));
-                }
+            if (stAb.hasParam("AffectedZone")) {
+                newSA.getRestrictions().setZone(ZoneType.smartValueOf(stAb.getParam("AffectedZone")));
+            } else if (!stAb.getHostCard().isImmutable() && stAb.hasParam("EffectZone") && !"All".equals(stAb.getParam("EffectZone"))) {
+                newSA.getRestrictions().setZone(ZoneType.smartValueOf(stAb.getParam("EffectZone")));
+            }
 
-                if (stAb.hasParam("StackDescription")) {
-                    newSA.putParam("StackDescription", stAb.getParam("StackDescription"));
-                }
+            if (stAb.hasParam("StackDescription")) {
+                newSA.putParam("StackDescription", stAb.getParam("StackDescription"));
+            }
 
-                // makes new SpellDescription
-                final StringBuilder sb = new StringBuilder();
+            // makes new SpellDescription
+            final StringBuilder sb = new StringBuilder();
 
-                // CostDesc only for ManaCost?
-                if (sa.isAbility()) {
-                    newSA.putParam("CostDesc", stAb.hasParam("CostDesc") ? ManaCostParser.parse(stAb.getParam("CostDesc")) : cost.toSimpleString());
-                    sb.append(newSA.getCostDescription());
-                }
+            // CostDesc only for ManaCost?
+            if (sa.isAbility()) {
+                newSA.putParam("CostDesc", stAb.hasParam("CostDesc") ? ManaCostParser.parse(stAb.getParam("CostDesc")) : cost.toSimpleString());
+                sb.append(newSA.getCostDescription());
+            }
 
-                // skip reminder text for now, Keywords might be too complicated
-                //sb.append("(").append(newKi.getReminderText()).append(")");
-                if (sa.isSpell()) {
-                    sb.append(sa.getDescription());
-                    if (source.equals(stAb.getHostCard())) {
-                        newSA.addOptionalCost(OptionalCost.AltCost);
-                        sb.append(" ("+ stAb.getParam("Description") +") ");
-                    } else {
-                        sb.append(" (by paying " + cost.toSimpleString() + " instead of its mana cost)");
-                    }
+            // skip reminder text for now, Keywords might be too complicated
+            //sb.append("(").append(newKi.getReminderText()).append(")");
+            if (sa.isSpell()) {
+                sb.append(sa.getDescription());
+                if (source.equals(stAb.getHostCard())) {
+                    newSA.addOptionalCost(OptionalCost.AltCost);
+                    sb.append(" ("+ stAb.getParam("Description") +") ");
+                } else {
+                    sb.append(" (by paying " + cost.toSimpleString() + " instead of its mana cost)");
                 }
-                newSA.setDescription(sb.toString());
-
-                result.add(newSA);
             }
+            newSA.setDescription(sb.toString());
+
+            result.add(newSA);
         }
         return result;
     }
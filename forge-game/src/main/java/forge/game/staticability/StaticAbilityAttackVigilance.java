@@ -2,7 +2,6 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityAttackVigilance {
 
@@ -10,15 +9,13 @@ public class StaticAbilityAttackVigilance {
 
     public static boolean attackVigilance(final Card card)  {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyAttackVigilanceAbility(stAb, card)) {
-                    return true;
-                }
+            if (applyAttackVigilanceAbility(stAb, card)) {
+                return true;
             }
         }
         return false;
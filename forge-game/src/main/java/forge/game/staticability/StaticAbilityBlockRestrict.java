@@ -2,9 +2,7 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.ability.AbilityUtils;
-import forge.game.card.Card;
 import forge.game.player.Player;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityBlockRestrict {
     static String MODE = "BlockRestrict";
@@ -12,20 +10,18 @@ public class StaticAbilityBlockRestrict {
     static public int blockRestrictNum(Player defender) {
         final Game game = defender.getGame();
         int num = Integer.MAX_VALUE;
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (blockRestrict(stAb, defender)) {
-                    int stNum = AbilityUtils.calculateAmount(stAb.getHostCard(),
-                            stAb.getParamOrDefault("MaxBlockers", "1"), stAb);
-                    if (stNum < num) {
-                        num = stNum;
-                    }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (blockRestrict(stAb, defender)) {
+                int stNum = AbilityUtils.calculateAmount(stAb.getHostCard(),
+                        stAb.getParamOrDefault("MaxBlockers", "1"), stAb);
+                if (stNum < num) {
+                    num = stNum;
                 }
-
             }
+
         }
         return num;
     }
@@ -19,7 +19,6 @@ package forge.game.staticability;
 
 import forge.game.GameEntity;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 /**
  * The Class StaticAbility_CanAttackDefender.
@@ -31,15 +30,13 @@ public class StaticAbilityCanAttackDefender {
 
     public static boolean canAttack(final Card card, final GameEntity target) {
         // CanAttack static abilities
-        for (final Card ca : card.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-
-                if (applyCanAttackAbility(stAb, card, target)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : card.getGame().getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+
+            if (applyCanAttackAbility(stAb, card, target)) {
+                return true;
             }
         }
         return false;
@@ -1,24 +1,18 @@
 package forge.game.staticability;
 
 import forge.game.card.Card;
-import forge.game.card.CardCollection;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantCrew {
 
     static String MODE = "CantCrew";
 
     public static boolean cantCrew(final Card card) {
-        CardCollection list = new CardCollection(card.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES));
-        list.add(card);
-        for (final Card ca : list) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (applyCantCrew(stAb, card)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : card.getGame().getStaticAbilityIndex().get(MODE, card)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyCantCrew(stAb, card)) {
+                return true;
             }
         }
         return false;
@@ -1,10 +1,8 @@
 package forge.game.staticability;
 
 import forge.game.Game;
-import forge.game.card.Card;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantDiscard {
 
@@ -12,15 +10,13 @@ public class StaticAbilityCantDiscard {
 
     public static boolean cantDiscard(final Player player, final SpellAbility cause, final boolean effect)  {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCantDiscardAbility(stAb, player, cause, effect)) {
-                    return true;
-                }
+            if (applyCantDiscardAbility(stAb, player, cause, effect)) {
+                return true;
             }
         }
         return false;
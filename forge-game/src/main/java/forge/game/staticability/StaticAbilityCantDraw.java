@@ -1,9 +1,7 @@
 package forge.game.staticability;
 
 import forge.game.Game;
-import forge.game.card.Card;
 import forge.game.player.Player;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantDraw {
 
@@ -20,13 +18,11 @@ public class StaticAbilityCantDraw {
         if (startAmount <= 0)
             return 0;
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                amount = applyCantDrawAmountAbility(stAb, player, amount);
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
             }
+            amount = applyCantDrawAmountAbility(stAb, player, amount);
         }
         return amount;
     }
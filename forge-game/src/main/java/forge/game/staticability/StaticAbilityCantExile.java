@@ -3,7 +3,6 @@ package forge.game.staticability;
 import forge.game.Game;
 import forge.game.card.Card;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantExile {
 
@@ -11,15 +10,13 @@ public class StaticAbilityCantExile {
 
     public static boolean cantExile(final Card card, final SpellAbility cause, final boolean effect)  {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCantExileAbility(stAb, card, cause, effect)) {
-                    return true;
-                }
+            if (applyCantExileAbility(stAb, card, cause, effect)) {
+                return true;
             }
         }
         return false;
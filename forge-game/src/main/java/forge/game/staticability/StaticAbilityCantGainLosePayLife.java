@@ -1,10 +1,9 @@
 package forge.game.staticability;
 
-import forge.game.Game;
-import forge.game.card.Card;
+import com.google.common.collect.Iterables;
+
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantGainLosePayLife {
 
@@ -14,40 +13,28 @@ public class StaticAbilityCantGainLosePayLife {
     static String MODE_CANT_PAY_LIFE = "CantPayLife";
 
     public static boolean anyCantGainLife(final Player player) {
-        final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!(stAb.checkMode(MODE_CANT_GAIN_LIFE) || stAb.checkMode(MODE_CANT_CHANGE_LIFE))) {
-                    continue;
-                }
-
-                if (!stAb.checkConditions()) {
-                    continue;
-                }
+        final StaticAbilityIndex index = player.getGame().getStaticAbilityIndex();
+        for (final StaticAbility stAb : Iterables.concat(index.get(MODE_CANT_GAIN_LIFE), index.get(MODE_CANT_CHANGE_LIFE))) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCommonAbility(stAb, player)) {
-                    return true;
-                }
+            if (applyCommonAbility(stAb, player)) {
+                return true;
             }
         }
         return false;
     }
 
     public static boolean anyCantLoseLife(final Player player)  {
-        final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!(stAb.checkMode(MODE_CANT_LOSE_LIFE) || stAb.checkMode(MODE_CANT_CHANGE_LIFE))) {
-                    continue;
-                }
-
-                if (!stAb.checkConditions()) {
-                    continue;
-                }
+        final StaticAbilityIndex index = player.getGame().getStaticAbilityIndex();
+        for (final StaticAbility stAb : Iterables.concat(index.get(MODE_CANT_LOSE_LIFE), index.get(MODE_CANT_CHANGE_LIFE))) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCommonAbility(stAb, player)) {
-                    return true;
-                }
+            if (applyCommonAbility(stAb, player)) {
+                return true;
             }
         }
 
@@ -55,30 +42,24 @@ public class StaticAbilityCantGainLosePayLife {
     }
 
     public static boolean anyCantPayLife(final Player player, final boolean effect, final SpellAbility cause)  {
-        final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!(stAb.checkMode(MODE_CANT_PAY_LIFE) || stAb.checkMode(MODE_CANT_LOSE_LIFE) || stAb.checkMode(MODE_CANT_CHANGE_LIFE))) {
-                    continue;
-                }
+        final StaticAbilityIndex index = player.getGame().getStaticAbilityIndex();
+        for (final StaticAbility stAb : Iterables.concat(index.get(MODE_CANT_PAY_LIFE), index.get(MODE_CANT_LOSE_LIFE), index.get(MODE_CANT_CHANGE_LIFE))) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (!stAb.checkConditions()) {
+            if (stAb.hasParam("ForCost")) {
+                if ("True".equalsIgnoreCase(stAb.getParam("ForCost")) == effect) {
                     continue;
                 }
+            }
 
-                if (stAb.hasParam("ForCost")) {
-                    if ("True".equalsIgnoreCase(stAb.getParam("ForCost")) == effect) {
-                        continue;
-                    }
-                }
-
-                if (!stAb.matchesValidParam("ValidCause", cause)) {
-                    continue;
-                }
+            if (!stAb.matchesValidParam("ValidCause", cause)) {
+                continue;
+            }
 
-                if (applyCommonAbility(stAb, player)) {
-                    return true;
-                }
+            if (applyCommonAbility(stAb, player)) {
+                return true;
             }
         }
         return false;
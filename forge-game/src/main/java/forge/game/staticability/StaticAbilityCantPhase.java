@@ -2,7 +2,6 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantPhase {
 
@@ -19,14 +18,12 @@ public class StaticAbilityCantPhase {
 
     static private boolean cantPhase(Card card, String mode) {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(mode)) {
-                    continue;
-                }
-                if (applyCantPhase(stAb, card)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(mode)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyCantPhase(stAb, card)) {
+                return true;
             }
         }
         return false;
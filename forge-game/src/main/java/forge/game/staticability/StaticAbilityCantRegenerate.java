@@ -2,7 +2,6 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantRegenerate {
 
@@ -10,15 +9,13 @@ public class StaticAbilityCantRegenerate {
 
     public static boolean cantRegenerate(final Card card)  {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCantRegenerateAbility(stAb, card)) {
-                    return true;
-                }
+            if (applyCantRegenerateAbility(stAb, card)) {
+                return true;
             }
         }
         return false;
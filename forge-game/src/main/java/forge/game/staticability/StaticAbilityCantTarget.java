@@ -40,15 +40,13 @@ public class StaticAbilityCantTarget {
 
     public static boolean cantTarget(final Card card, final SpellAbility spellAbility)  {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCantTargetAbility(stAb, card, spellAbility)) {
-                    return true;
-                }
+            if (applyCantTargetAbility(stAb, card, spellAbility)) {
+                return true;
             }
         }
         return false;
@@ -56,15 +54,13 @@ public class StaticAbilityCantTarget {
 
     public static boolean cantTarget(final Player player, final SpellAbility spellAbility)  {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCantTargetAbility(stAb, player, spellAbility)) {
-                    return true;
-                }
+            if (applyCantTargetAbility(stAb, player, spellAbility)) {
+                return true;
             }
         }
         return false;
@@ -3,7 +3,6 @@ package forge.game.staticability;
 import forge.game.CardTraitBase;
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantTransform {
 
@@ -11,14 +10,12 @@ public class StaticAbilityCantTransform {
 
     static public boolean cantTransform(Card card, CardTraitBase cause) {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (applyCantTransformAbility(stAb, card, cause)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyCantTransformAbility(stAb, card, cause)) {
+                return true;
             }
         }
         return false;
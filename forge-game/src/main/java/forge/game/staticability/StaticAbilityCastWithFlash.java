@@ -2,10 +2,8 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.card.CardCollection;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCastWithFlash {
 
@@ -13,16 +11,12 @@ public class StaticAbilityCastWithFlash {
 
     public static boolean anyWithFlashNeedsInfo(final SpellAbility sa, final Card card, final Player activator) {
         final Game game = activator.getGame();
-        final CardCollection allp = new CardCollection(game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES));
-        allp.add(card);
-        for (final Card ca : allp) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (applyWithFlashNeedsInfo(stAb, sa, card, activator)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE, card)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyWithFlashNeedsInfo(stAb, sa, card, activator)) {
+                return true;
             }
         }
         return false;
@@ -30,16 +24,12 @@ public class StaticAbilityCastWithFlash {
 
     public static boolean anyWithFlash(final SpellAbility sa, final Card card, final Player activator) {
         final Game game = activator.getGame();
-        final CardCollection allp = new CardCollection(game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES));
-        allp.add(card);
-        for (final Card ca : allp) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (applyWithFlashAbility(stAb, sa, card, activator)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE, card)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyWithFlashAbility(stAb, sa, card, activator)) {
+                return true;
             }
         }
         return false;
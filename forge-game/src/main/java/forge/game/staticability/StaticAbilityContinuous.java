@@ -18,6 +18,7 @@
 package forge.game.staticability;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -45,6 +46,7 @@ import forge.util.TextUtil;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The Class StaticAbility_Continuous.
@@ -1031,7 +1033,7 @@ public final class StaticAbilityContinuous {
         return players;
     }
 
-    private static CardCollectionView getAffectedCards(final StaticAbility stAb, final CardCollectionView preList) {
+    public static CardCollectionView getAffectedCards(final StaticAbility stAb, final CardCollectionView preList) {
         final Card hostCard = stAb.getHostCard();
         final Game game = hostCard.getGame();
         final Player controller = hostCard.getController();
@@ -1092,4 +1094,96 @@ public final class StaticAbilityContinuous {
         affectedCards.removeAll(stAb.getIgnoreEffectCards());
         return affectedCards;
     }
+    private static final Set<String> INDEPENDENT_PARAMS = ImmutableSet.of("Mode", "Affected", "AddPower",
+            "AddToughness", "AddKeyword", "EffectZone", "Description", "Secondary");
+    private static final Set<String> INDEPENDENT_CDA_PARAMS = ImmutableSet.of("Mode", "Affected", "CharacteristicDefining",
+            "AddAllCreatureTypes", "SetColor", "EffectZone", "Description", "Secondary");
+    private static final Set<String> INDEPENDENT_PROPERTIES = ImmutableSet.of("YouCtrl", "YouDontCtrl", "OppCtrl",
+            "YouOwn", "Other", "token", "nonToken", "Colorless", "nonColorless", "MultiColor", "MonoColor");
+    private static final Set<String> COLOR_NAMES = ImmutableSet.of("White", "Blue", "Black", "Red", "Green");
+    // keywords that are filled in from the host, the affected card or the game when applied
+    private static final String[] DEPENDENT_KEYWORD_PARTS = { "Chosen", "chosen", "Colors", "colors", "YourBasic",
+            "CommanderColorID", "EachCMCAmongDefined", "HostCardUID", "CardManaCost", "ConvertedManaCost" };
+    private static final Map<String, Boolean> independentAffected = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the effect of a continuous ability stays the same as long as it affects the same cards. This holds for
+     * plain anthems and lords, which only add fixed power, toughness or keywords to battlefield cards picked by their
+     * type, color and controller, and for characteristic-defining abilities like Changeling and Devoid.
+     * <p>
+     * As long as all continuous abilities in the game are independent, none of them changes what another one reads,
+     * so {@link forge.game.GameAction#checkStaticAbilities} only needs to apply again the ones whose affected cards
+     * changed.
+     */
+    public static boolean isIndependent(final StaticAbility stAb) {
+        // abilities granted by other effects, like those of keywords, depend on those effects
+        if (!stAb.isIntrinsic()) {
+            return false;
+        }
+        final Map<String, String> params = stAb.getMapParams();
+        // changed text, like from Artificial Evolution, may change the effect without changing the affected cards
+        if (!params.equals(stAb.getOriginalMapParams())) {
+            return false;
+        }
+        if (params.containsKey("CharacteristicDefining")) {
+            if (!INDEPENDENT_CDA_PARAMS.containsAll(params.keySet()) || !"Card.Self".equals(params.get("Affected"))) {
+                return false;
+            }
+            if (params.containsKey("SetColor")) {
+                for (final String color : params.get("SetColor").split(" & ")) {
+                    if (!color.equals("Colorless") && !COLOR_NAMES.contains(color)) {
+                        return false;
+                    }
+                }
+            }
+            return "All".equals(params.get("EffectZone"));
+        }
+
+        if (!INDEPENDENT_PARAMS.containsAll(params.keySet()) || !params.containsKey("Affected")) {
+            return false;
+        }
+        if (params.containsKey("EffectZone") && !params.get("EffectZone").equals("Battlefield")) {
+            return false;
+        }
+        if (params.containsKey("AddPower") && !StringUtils.isNumeric(StringUtils.removeStart(params.get("AddPower"), "-"))) {
+            return false;
+        }
+        if (params.containsKey("AddToughness") && !StringUtils.isNumeric(StringUtils.removeStart(params.get("AddToughness"), "-"))) {
+            return false;
+        }
+        if (params.containsKey("AddKeyword") && StringUtils.indexOfAny(params.get("AddKeyword"), DEPENDENT_KEYWORD_PARTS) >= 0) {
+            return false;
+        }
+        return independentAffected.computeIfAbsent(params.get("Affected"), StaticAbilityContinuous::isIndependentAffected);
+    }
+
+    /**
+     * @return true if the restrictions only look at the type, color, controller and owner of a card, or whether
+     * it's a token or the host itself.
+     */
+    private static boolean isIndependentAffected(final String affected) {
+        for (final String restriction : affected.split(",")) {
+            final String[] incR = restriction.split("\\.", 2);
+            if (!isIndependentType(incR[0]) && !incR[0].equals("Card") && !incR[0].equals("Permanent")) {
+                return false;
+            }
+            if (incR.length == 1) {
+                continue;
+            }
+            for (final String property : incR[1].split("\\+")) {
+                if (INDEPENDENT_PROPERTIES.contains(property)) {
+                    continue;
+                }
+                final String name = property.startsWith("non") ? property.substring(3) : property;
+                if (!COLOR_NAMES.contains(name) && !isIndependentType(name)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIndependentType(final String type) {
+        return CardType.isACardType(type) || CardType.isASupertype(type) || CardType.isASubType(type);
+    }
 }
@@ -0,0 +1,98 @@
+package forge.game.staticability;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.zone.Zone;
+import forge.game.zone.ZoneType;
+
+/**
+ * The static abilities of the cards in {@link ZoneType#STATIC_ABILITIES_SOURCE_ZONES}, by mode.
+ * <p>
+ * The index is rebuilt on first use after a card entered or left one of those zones or its static
+ * abilities changed, so checks like {@link StaticAbilityCantTarget} only look at the abilities of
+ * their mode instead of collecting every card and its abilities each time.
+ * Whether an ability applies right now is still up to {@link StaticAbility#checkConditions()}.
+ */
+public final class StaticAbilityIndex {
+    private final Game game;
+    private final AtomicInteger version = new AtomicInteger();
+    private volatile Snapshot snapshot;
+
+    private static final class Snapshot {
+        private final int version;
+        private final Map<String, List<StaticAbility>> byMode;
+
+        private Snapshot(final int version, final Map<String, List<StaticAbility>> byMode) {
+            this.version = version;
+            this.byMode = byMode;
+        }
+    }
+
+    public StaticAbilityIndex(final Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Marks the index as stale, call whenever the static abilities found in the source zones may have changed.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * @return the static abilities with the given mode, in the order the cards have in their zones.
+     * Phased out cards are included, {@link StaticAbility#checkConditions()} rules them out.
+     */
+    public List<StaticAbility> get(final String mode) {
+        Snapshot s = snapshot;
+        final int current = version.get();
+        if (s == null || s.version != current) {
+            // anything changing while this is built bumps the version again, so it's built again next time
+            s = new Snapshot(current, build());
+            snapshot = s;
+        }
+        final List<StaticAbility> result = s.byMode.get(mode);
+        return result == null ? Collections.emptyList() : result;
+    }
+
+    /**
+     * Like {@link #get(String)}, but also looks at cards that may not be in one of the source zones,
+     * like a spell being cast from hand or the last known information of a creature.
+     * A card standing in for one of the indexed cards isn't looked at twice.
+     */
+    public Iterable<StaticAbility> get(final String mode, final Card... cards) {
+        Iterable<StaticAbility> result = get(mode);
+        for (final Card c : cards) {
+            if (c == null) {
+                continue;
+            }
+            final Zone zone = c.getZone();
+            if (zone != null && ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(zone.getZoneType()) && zone.contains(c)) {
+                continue;
+            }
+            result = Iterables.concat(result, Iterables.filter(c.getStaticAbilities(), stAb -> stAb.checkMode(mode)));
+        }
+        return result;
+    }
+
+    private Map<String, List<StaticAbility>> build() {
+        final Map<String, List<StaticAbility>> byMode = Maps.newHashMap();
+        for (final ZoneType zone : ZoneType.STATIC_ABILITIES_SOURCE_ZONES) {
+            for (final Card ca : game.getCardsIncludePhasingIn(zone)) {
+                for (final StaticAbility stAb : ca.getStaticAbilities()) {
+                    byMode.computeIfAbsent(stAb.getParam("Mode"), k -> Lists.newArrayList()).add(stAb);
+                }
+            }
+        }
+        return byMode;
+    }
+}
@@ -5,7 +5,6 @@ import forge.game.GameEntity;
 import forge.game.ability.AbilityUtils;
 import forge.game.card.Card;
 import forge.game.player.Player;
-import forge.game.zone.ZoneType;
 import forge.util.collect.FCollectionView;
 
 import java.util.ArrayList;
@@ -21,30 +20,28 @@ public class StaticAbilityMustAttack {
     public static List<GameEntity> entitiesMustAttack(final Card attacker) {
         final List<GameEntity> entityList = new ArrayList<>();
         final Game game = attacker.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE_Creature)) {
-                    continue;
-                }
-                if (stAb.matchesValidParam("ValidCreature", attacker)) {
-                    if (stAb.hasParam("MustAttack")) {
-                        List<GameEntity> def = AbilityUtils.getDefinedEntities(stAb.getHostCard(), stAb.getParam("MustAttack"), stAb);
-                        for (GameEntity e : def) {
-                            if (e instanceof Player) {
-                                Player attackPl = (Player) e;
-                                if (!game.getPhaseHandler().isPlayerTurn(attackPl)) { // CR 506.2
-                                    entityList.add(e);
-                                }
-                            } else if (e instanceof Card) {
-                                Card attackPW = (Card) e;
-                                if (!game.getPhaseHandler().isPlayerTurn(attackPW.getController())) { // CR 506.2
-                                    entityList.add(e);
-                                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE_Creature)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (stAb.matchesValidParam("ValidCreature", attacker)) {
+                if (stAb.hasParam("MustAttack")) {
+                    List<GameEntity> def = AbilityUtils.getDefinedEntities(stAb.getHostCard(), stAb.getParam("MustAttack"), stAb);
+                    for (GameEntity e : def) {
+                        if (e instanceof Player) {
+                            Player attackPl = (Player) e;
+                            if (!game.getPhaseHandler().isPlayerTurn(attackPl)) { // CR 506.2
+                                entityList.add(e);
+                            }
+                        } else if (e instanceof Card) {
+                            Card attackPW = (Card) e;
+                            if (!game.getPhaseHandler().isPlayerTurn(attackPW.getController())) { // CR 506.2
+                                entityList.add(e);
                             }
                         }
-                    } else { // if the list is only the attacker, the attacker must attack, but no specific entity
-                        entityList.add(attacker);
                     }
+                } else { // if the list is only the attacker, the attacker must attack, but no specific entity
+                    entityList.add(attacker);
                 }
             }
         }
@@ -53,22 +50,20 @@ public class StaticAbilityMustAttack {
 
     public static List<Set<GameEntity>> mustAttackSpecific(final Player attackingPlayer, final FCollectionView<GameEntity> possibleDefenders) {
         List<Set<GameEntity>> defToAtt = new ArrayList<>();
-        for (final Card ca : attackingPlayer.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE_Player)) {
-                    continue;
-                }
-                if (!stAb.matchesValidParam("ValidPlayer", attackingPlayer)) {
-                    continue;
-                }
-                Set<GameEntity> attackWithOne = new HashSet<>();
-                for (GameEntity ge : possibleDefenders) {
-                    if (stAb.matchesValidParam("MustAttack", ge)) {
-                        attackWithOne.add(ge);
-                    }
+        for (final StaticAbility stAb : attackingPlayer.getGame().getStaticAbilityIndex().get(MODE_Player)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (!stAb.matchesValidParam("ValidPlayer", attackingPlayer)) {
+                continue;
+            }
+            Set<GameEntity> attackWithOne = new HashSet<>();
+            for (GameEntity ge : possibleDefenders) {
+                if (stAb.matchesValidParam("MustAttack", ge)) {
+                    attackWithOne.add(ge);
                 }
-                defToAtt.add(attackWithOne);
             }
+            defToAtt.add(attackWithOne);
         }
         return defToAtt;
     }
@@ -2,7 +2,6 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityMustBlock {
 
@@ -10,14 +9,12 @@ public class StaticAbilityMustBlock {
 
     public static boolean blocksEachCombatIfAble(final Card creature)  {
         final Game game = creature.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (applyBlocksEachCombatIfAble(stAb, creature)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyBlocksEachCombatIfAble(stAb, creature)) {
+                return true;
             }
         }
         return false;
@@ -41,38 +41,38 @@ public class StaticAbilityPanharmonicon {
             return n;
         }
 
-        CardCollectionView cardList = null;
+        final Iterable<StaticAbility> statics;
         // if LTB look back
         if (t.getMode() == TriggerType.Exploited || t.getMode() == TriggerType.Sacrificed || t.getMode() == TriggerType.Destroyed ||
                 (t.getMode() == TriggerType.ChangesZone || t.getMode() == TriggerType.ChangesZoneAll) && "Battlefield".equals(t.getParam("Origin"))) {
+            CardCollectionView cardList = null;
             if (runParams.containsKey(AbilityKey.LastStateBattlefield)) {
                 cardList = (CardCollectionView) runParams.get(AbilityKey.LastStateBattlefield);
             }
             if (cardList == null) {
                 cardList = game.getLastStateBattlefield();
             }
+            statics = Iterables.concat(Iterables.transform(cardList, Card::getStaticAbilities));
         } else {
-            cardList = game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES);
+            statics = game.getStaticAbilityIndex().get(MODE);
         }
 
         // Checks only the battlefield, as those effects only work from there
-        for (final Card ca : cardList) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                // it can't trigger more times than the limit allows
-                if (t.hasParam("GameActivationLimit") &&
-                        t.getActivationsThisGame() + n + 1 >= Integer.parseInt(t.getParam("GameActivationLimit"))) {
-                    break;
-                }
-                if (t.hasParam("ActivationLimit") &&
-                        t.getActivationsThisTurn() + n + 1 >= Integer.parseInt(t.getParam("ActivationLimit"))) {
-                    break;
-                }
-                if (applyPanharmoniconAbility(stAb, t, runParams)) {
-                    n++;
-                }
+        for (final StaticAbility stAb : statics) {
+            if (!stAb.checkConditions(MODE)) {
+                continue;
+            }
+            // it can't trigger more times than the limit allows
+            if (t.hasParam("GameActivationLimit") &&
+                    t.getActivationsThisGame() + n + 1 >= Integer.parseInt(t.getParam("GameActivationLimit"))) {
+                break;
+            }
+            if (t.hasParam("ActivationLimit") &&
+                    t.getActivationsThisTurn() + n + 1 >= Integer.parseInt(t.getParam("ActivationLimit"))) {
+                break;
+            }
+            if (applyPanharmoniconAbility(stAb, t, runParams)) {
+                n++;
             }
         }
 
@@ -1,9 +1,7 @@
 package forge.game.staticability;
 
 import forge.game.Game;
-import forge.game.card.Card;
 import forge.game.player.Player;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilitySurveilNum {
 
@@ -12,13 +10,11 @@ public class StaticAbilitySurveilNum {
     public static int surveilNumMod(Player p) {
         final Game game = p.getGame();
         int mod = 0;
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                mod += getSurveilMod(stAb, p);
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
             }
+            mod += getSurveilMod(stAb, p);
         }
         return mod;
     }
@@ -8,9 +8,7 @@ import com.google.common.collect.Sets;
 import forge.card.MagicColor;
 import forge.card.mana.ManaAtom;
 import forge.game.Game;
-import forge.game.card.Card;
 import forge.game.player.Player;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityUnspentMana {
 
@@ -20,29 +18,25 @@ public class StaticAbilityUnspentMana {
     public static Collection<Byte> getManaToKeep(final Player player) {
         final Game game = player.getGame();
         Set<Byte> result = Sets.newHashSet();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE_UNSPENT)) {
-                    continue;
-                }
-                applyUnspentManaAbility(stAb, player, result);
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE_UNSPENT)) {
+            if (!stAb.checkConditions()) {
+                continue;
             }
+            applyUnspentManaAbility(stAb, player, result);
         }
         return result;
     }
 
     public static boolean hasManaBurn(final Player player) {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE_BURN)) {
-                    continue;
-                }
-                if (!stAb.matchesValidParam("ValidPlayer", player)) {
-                    return false;
-                }
-                return true;
+        for (final StaticAbility stAb : game.getStaticAbilityIndex().get(MODE_BURN)) {
+            if (!stAb.checkConditions()) {
+                continue;
             }
+            if (!stAb.matchesValidParam("ValidPlayer", player)) {
+                return false;
+            }
+            return true;
         }
         return false;
     }
@@ -9,6 +9,11 @@ import forge.trackable.Tracker;
 public class StaticAbilityView extends TrackableObject implements IHasCardView {
     private static final long serialVersionUID = 1L;
 
+    // used by the network client to recreate a view received from the server
+    public StaticAbilityView(final int id0, final Tracker tracker) {
+        super(id0, tracker);
+    }
+
     StaticAbilityView(StaticAbility st) {
         this(st, st.getHostCard() == null || st.getHostCard().getGame() == null ? null : st.getHostCard().getGame().getTracker());
     }
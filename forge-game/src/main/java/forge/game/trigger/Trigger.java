@@ -41,6 +41,7 @@ import forge.util.Lang;
 import forge.util.TextUtil;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -51,8 +52,8 @@ import java.util.*;
  * @version $Id$
  */
 public abstract class Trigger extends TriggerReplacementBase {
-    private static int maxId = 0;
-    private static int nextId() { return ++maxId; }
+    private static final AtomicInteger maxId = new AtomicInteger();
+    private static int nextId() { return maxId.incrementAndGet(); }
 
     /**
      * <p>
@@ -60,7 +61,7 @@ public abstract class Trigger extends TriggerReplacementBase {
      * </p>
      */
     public static void resetIDs() {
-        Trigger.maxId = 50000;
+        Trigger.maxId.set(50000);
     }
 
     /** The ID. */
@@ -290,6 +291,14 @@ public abstract class Trigger extends TriggerReplacementBase {
 
         return true;
     }
+
+    /**
+     * @return whether {@link #phasesCheck} can give another answer as the game goes from phase to phase.
+     */
+    public final boolean dependsOnPhase() {
+        return validPhases != null || hasParam("PlayerTurn") || hasParam("NotPlayerTurn") || hasParam("OpponentTurn")
+                || hasParam("FirstUpkeep") || hasParam("FirstUpkeepThisGame") || hasParam("FirstCombat") || hasParam("TurnCount");
+    }
     /**
      * <p>
      * requirementsCheck.
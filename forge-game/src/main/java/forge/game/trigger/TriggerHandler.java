@@ -42,13 +42,16 @@ import forge.game.zone.Zone;
 import forge.game.zone.ZoneType;
 import forge.util.FileSection;
 import forge.util.Visitor;
+import forge.util.collect.FCollectionView;
 import io.sentry.Breadcrumb;
 import io.sentry.Sentry;
 
 public class TriggerHandler {
     private final Set<TriggerType> suppressedModes = Collections.synchronizedSet(EnumSet.noneOf(TriggerType.class));
     private boolean allSuppressed = false;
-    private final List<Trigger> activeTriggers = Collections.synchronizedList(new ArrayList<>());
+    private final TriggerIndex activeTriggers = new TriggerIndex();
+    // the tokens on their way to the battlefield at the last reset
+    private final Set<Integer> inboundTokenIds = new HashSet<>();
 
     private final List<Trigger> delayedTriggers = Collections.synchronizedList(new ArrayList<>());
     private final List<Trigger> thisTurnDelayedTriggers = Collections.synchronizedList(new ArrayList<>());
@@ -193,17 +196,73 @@ public class TriggerHandler {
 
     private void buildActiveTrigger() {
         activeTriggers.clear();
+        inboundTokenIds.clear();
         game.forEachCardInGame(new Visitor<Card>() {
             @Override
             public boolean visit(Card c) {
-                for (final Trigger t : c.getTriggers()) {
-                    if (isTriggerActive(t)) {
-                        activeTriggers.add(t);
-                    }
-                }
+                registerActiveTriggers(c);
                 return true;
             }
         });
+        for (final Player p : game.getPlayers()) {
+            for (final Card c : p.getInboundTokens()) {
+                inboundTokenIds.add(c.getId());
+            }
+        }
+    }
+
+    /**
+     * Looks again at the triggers of the cards that changed since the last reset, and at those whose phase or
+     * the stack decide whether they're active, so the result is the same as building all active triggers again.
+     */
+    private void updateActiveTrigger() {
+        if (activeTriggers.takeRebuildAll()) {
+            buildActiveTrigger();
+            return;
+        }
+        final Set<Integer> ids = activeTriggers.takeChanged();
+        // tokens on their way to the battlefield aren't in a zone to report them
+        ids.addAll(inboundTokenIds);
+        inboundTokenIds.clear();
+        final Map<Integer, Card> inboundTokens = new HashMap<>();
+        for (final Player p : game.getPlayers()) {
+            for (final Card c : p.getInboundTokens()) {
+                inboundTokens.putIfAbsent(c.getId(), c);
+                inboundTokenIds.add(c.getId());
+                ids.add(c.getId());
+            }
+        }
+        for (final Integer id : ids) {
+            Card c = game.getCardIdIndex().get(id);
+            if (c == null) {
+                c = inboundTokens.get(id);
+            }
+            // the triggers that stay active keep their place
+            final FCollectionView<Trigger> triggers = c == null ? null : c.getTriggers();
+            for (final Trigger t : activeTriggers.getByHost(id)) {
+                if (triggers == null || !triggers.contains(t) || !canBeActive(t)) {
+                    activeTriggers.remove(t);
+                }
+            }
+            if (c != null) {
+                registerActiveTriggers(c);
+            } else {
+                activeTriggers.setVolatile(id, false);
+            }
+        }
+    }
+
+    private void registerActiveTriggers(final Card c) {
+        boolean isVolatile = false;
+        for (final Trigger t : c.getTriggers()) {
+            if (isTriggerActive(t)) {
+                activeTriggers.add(t);
+            }
+            if ((t.getMode() == TriggerType.Always || t.dependsOnPhase()) && t.zonesCheck(game.getZoneOf(t.getHostCard()))) {
+                isVolatile = true;
+            }
+        }
+        activeTriggers.setVolatile(c.getId(), isVolatile);
     }
 
     public final void resetActiveTriggers() {
@@ -213,21 +272,32 @@ public class TriggerHandler {
         if (collect) {
             collectTriggerForWaiting();
         }
-        buildActiveTrigger();
+        updateActiveTrigger();
     }
 
-    public final void clearActiveTriggers(final Card c, Zone zoneFrom) {
-        final List<Trigger> toBeRemoved = Lists.newArrayList();
+    /**
+     * Call whenever a card was added to or removed from a zone, or its triggers may have changed,
+     * so the next reset looks at its triggers again.
+     */
+    public final void cardChanged(final Card c) {
+        activeTriggers.changed(c.getId());
+    }
 
-        for (Trigger t : activeTriggers) {
+    /**
+     * Call whenever the controller of a card may have changed.
+     */
+    public final void controllerChanged(final Card c) {
+        activeTriggers.controllerChanged(c.getId());
+    }
+
+    public final void clearActiveTriggers(final Card c, Zone zoneFrom) {
+        for (Trigger t : activeTriggers.getByHost(c.getId())) {
             // Clear if no ZoneFrom, or not coming from the TriggerZone
-            if (c.getId() == t.getHostCard().getId()) {
-                if (!c.getTriggers().contains(t) || !t.zonesCheck(zoneFrom))
-                    toBeRemoved.add(t);
+            if (!c.getTriggers().contains(t) || !t.zonesCheck(zoneFrom)) {
+                activeTriggers.remove(t);
             }
         }
-
-        activeTriggers.removeAll(toBeRemoved);
+        activeTriggers.changed(c.getId());
     }
 
     public final void registerActiveTrigger(final Card c, final boolean onlyExtrinsic) {
@@ -254,6 +324,8 @@ public class TriggerHandler {
     public final boolean registerOneTrigger(final Trigger t) {
         if (isTriggerActive(t)) {
             activeTriggers.add(t);
+            // the next reset decides whether it stays
+            activeTriggers.changed(t.getHostCard().getId());
             return true;
         }
         return false;
@@ -274,7 +346,7 @@ public class TriggerHandler {
     }
 
     private void runStateTrigger(final Map<AbilityKey, Object> runParams) {
-        for (final Trigger t: Lists.newArrayList(activeTriggers)) {
+        for (final Trigger t : activeTriggers.get(TriggerType.Always)) {
             if (canRunTrigger(t, TriggerType.Always, runParams)) {
                 runSingleTrigger(t, runParams);
             }
@@ -312,8 +384,8 @@ public class TriggerHandler {
         boolean checkStatics = false;
 
         // Static triggers
-        for (final Trigger t : Lists.newArrayList(activeTriggers)) {
-            if (t.isStatic() && canRunTrigger(t, mode, runParams)) {
+        for (final Trigger t : activeTriggers.getStatic(mode)) {
+            if (canRunTrigger(t, mode, runParams)) {
                 int x = 1 + StaticAbilityPanharmonicon.handlePanharmonicon(game, t, runParams);
 
                 for (int i = 0; i < x; ++i) {
@@ -355,12 +427,16 @@ public class TriggerHandler {
         final TriggerType mode = wt.getMode();
         final Map<AbilityKey, Object> runParams = wt.getParams();
         final boolean wasCollected = wt.getTriggers() != null;
-        final Iterable<Trigger> triggers = wasCollected ? wt.getTriggers() : activeTriggers;
+        final Iterable<Trigger> triggers = wasCollected ? wt.getTriggers() : activeTriggers.get(mode, player);
 
         boolean checkStatics = false;
 
         for (final Trigger t : triggers) {
-            if (!t.isStatic() && t.getHostCard().getController().equals(player) && (wasCollected || canRunTrigger(t, mode, runParams))) {
+            // collected triggers are of all players
+            if (wasCollected && (t.isStatic() || !t.getHostCard().getController().equals(player))) {
+                continue;
+            }
+            if (wasCollected || canRunTrigger(t, mode, runParams)) {
                 if (wasCollected && !t.checkActivationLimit()) {
                     continue;
                 }
@@ -384,6 +460,11 @@ public class TriggerHandler {
     }
 
     private boolean isTriggerActive(final Trigger regtrig) {
+        // If an ID that matches this ID is already active, don't add it
+        return canBeActive(regtrig) && !activeTriggers.containsId(regtrig.getId());
+    }
+
+    private boolean canBeActive(final Trigger regtrig) {
         if (!regtrig.phasesCheck(game)) {
             return false; // It's not the right phase to go off.
         }
@@ -404,13 +485,6 @@ public class TriggerHandler {
             return false; // Host card isn't where it needs to be.
         }
 
-        for (Trigger t : this.activeTriggers) {
-            // If an ID that matches this ID is already active, don't add it
-            if (regtrig.getId() == t.getId()) {
-                return false;
-            }
-        }
-
         return true;
     }
 
@@ -620,9 +694,13 @@ public class TriggerHandler {
         } 
     }
 
+    public boolean hasActiveTrigger(final TriggerType mode) {
+        return activeTriggers.containsMode(mode);
+    }
+
     public List<Trigger> getActiveTrigger(final TriggerType mode, final Map<AbilityKey, Object> runParams) {
         List<Trigger> trigger = Lists.newArrayList();
-        for (final Trigger t : activeTriggers) {
+        for (final Trigger t : activeTriggers.get(mode)) {
             if (canRunTrigger(t, mode, runParams)) {
                 trigger.add(t);
             }
@@ -631,6 +709,8 @@ public class TriggerHandler {
     }
 
     public void onPlayerLost(Player p) {
+        // the triggers of the cards they leave behind aren't active anymore
+        activeTriggers.changedAll();
         List<Trigger> lost = new ArrayList<>(delayedTriggers);
         for (Trigger t : lost) {
             // CR 800.4d trigger controller lost game
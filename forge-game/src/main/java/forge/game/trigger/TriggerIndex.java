@@ -0,0 +1,246 @@
+package forge.game.trigger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import forge.game.card.Card;
+import forge.game.player.Player;
+
+/**
+ * The active triggers of a {@link TriggerHandler}, by mode and by the controller of their host.
+ * <p>
+ * Events only look at the triggers of their own mode, and each player only at the ones they control,
+ * so the cost of an event no longer grows with every trigger in the game. Duplicate ids are found without
+ * a scan. Triggers of one group keep the order they were registered in.
+ * <p>
+ * It also keeps the ids of the cards whose triggers have to be looked at again the next time the
+ * active triggers are reset: the zones of the game report the cards they add and remove, and the cards
+ * report the changes of their abilities, see {@link TriggerHandler#cardChanged}.
+ */
+final class TriggerIndex {
+    private final Map<TriggerType, Group> all = new EnumMap<>(TriggerType.class);
+    private final Map<TriggerType, Group> statics = new EnumMap<>(TriggerType.class);
+    private final Map<TriggerType, Map<Player, Group>> byController = new EnumMap<>(TriggerType.class);
+    private final Set<Integer> ids = new HashSet<>();
+    // the host id and controller each trigger was filed under, hosts and controllers may change afterwards
+    private final Map<Trigger, Entry> entries = new HashMap<>();
+    private final Map<Integer, Set<Trigger>> byHost = new HashMap<>();
+
+    // cards to look at again, and cards whose triggers have to be looked at on every reset
+    private final Set<Integer> changed = new LinkedHashSet<>();
+    private final Set<Integer> volatileCards = new LinkedHashSet<>();
+    private boolean rebuildAll = true;
+
+    /**
+     * The triggers of one mode, with a copy to hand out that is only made again after they changed.
+     */
+    private static final class Group {
+        private final Set<Trigger> triggers = new LinkedHashSet<>();
+        private List<Trigger> view;
+
+        void add(final Trigger t) {
+            triggers.add(t);
+            view = null;
+        }
+
+        void remove(final Trigger t) {
+            triggers.remove(t);
+            view = null;
+        }
+
+        List<Trigger> view() {
+            if (view == null) {
+                view = Collections.unmodifiableList(new ArrayList<>(triggers));
+            }
+            return view;
+        }
+    }
+
+    private static final class Entry {
+        private final int hostId;
+        private Player controller;
+
+        Entry(final int hostId, final Player controller) {
+            this.hostId = hostId;
+            this.controller = controller;
+        }
+    }
+
+    synchronized boolean add(final Trigger t) {
+        if (!ids.add(t.getId())) {
+            return false;
+        }
+        final Card host = t.getHostCard();
+        final Entry entry = new Entry(host.getId(), host.getController());
+        entries.put(t, entry);
+        byHost.computeIfAbsent(entry.hostId, id -> new LinkedHashSet<>()).add(t);
+        group(all, t.getMode()).add(t);
+        if (t.isStatic()) {
+            group(statics, t.getMode()).add(t);
+        } else {
+            controllerGroup(t.getMode(), entry.controller).add(t);
+        }
+        return true;
+    }
+
+    synchronized void remove(final Trigger t) {
+        final Entry entry = entries.remove(t);
+        if (entry == null) {
+            return;
+        }
+        ids.remove(t.getId());
+        final Set<Trigger> hosted = byHost.get(entry.hostId);
+        hosted.remove(t);
+        if (hosted.isEmpty()) {
+            byHost.remove(entry.hostId);
+        }
+        all.get(t.getMode()).remove(t);
+        if (t.isStatic()) {
+            statics.get(t.getMode()).remove(t);
+        } else {
+            byController.get(t.getMode()).get(entry.controller).remove(t);
+        }
+    }
+
+    /**
+     * @return the active triggers whose host had the given id when they were registered.
+     */
+    synchronized List<Trigger> getByHost(final int hostId) {
+        final Set<Trigger> hosted = byHost.get(hostId);
+        return hosted == null ? Collections.emptyList() : new ArrayList<>(hosted);
+    }
+
+    synchronized void removeByHost(final int hostId) {
+        for (final Trigger t : getByHost(hostId)) {
+            remove(t);
+        }
+    }
+
+    /**
+     * Files the active triggers hosted by the card with the given id under their current controller.
+     */
+    synchronized void controllerChanged(final int hostId) {
+        final Set<Trigger> hosted = byHost.get(hostId);
+        if (hosted == null) {
+            return;
+        }
+        for (final Trigger t : hosted) {
+            final Entry entry = entries.get(t);
+            final Player controller = t.getHostCard().getController();
+            if (t.isStatic() || entry.controller == controller) {
+                continue;
+            }
+            byController.get(t.getMode()).get(entry.controller).remove(t);
+            entry.controller = controller;
+            controllerGroup(t.getMode(), controller).add(t);
+        }
+    }
+
+    synchronized boolean containsMode(final TriggerType mode) {
+        final Group group = all.get(mode);
+        return group != null && !group.triggers.isEmpty();
+    }
+
+    synchronized boolean containsId(final int id) {
+        return ids.contains(id);
+    }
+
+    synchronized void clear() {
+        all.clear();
+        statics.clear();
+        byController.clear();
+        ids.clear();
+        entries.clear();
+        byHost.clear();
+    }
+
+    /**
+     * @return the active triggers with the given mode, a snapshot that is safe to iterate while triggers run.
+     */
+    synchronized List<Trigger> get(final TriggerType mode) {
+        return view(all.get(mode));
+    }
+
+    /**
+     * @return the active static triggers with the given mode.
+     */
+    synchronized List<Trigger> getStatic(final TriggerType mode) {
+        return view(statics.get(mode));
+    }
+
+    /**
+     * @return the active triggers with the given mode that aren't static and whose host is controlled by the given player.
+     */
+    synchronized List<Trigger> get(final TriggerType mode, final Player controller) {
+        final Map<Player, Group> groups = byController.get(mode);
+        return view(groups == null ? null : groups.get(controller));
+    }
+
+    /**
+     * Call whenever the triggers of the card with the given id, or whether they're active, may have changed.
+     */
+    synchronized void changed(final int cardId) {
+        changed.add(cardId);
+    }
+
+    /**
+     * Call when the active triggers can't be brought up to date card by card, like when a player left the game.
+     */
+    synchronized void changedAll() {
+        rebuildAll = true;
+    }
+
+    /**
+     * @return whether all active triggers have to be built again, and if so, starts over from no card to look at again.
+     */
+    synchronized boolean takeRebuildAll() {
+        if (!rebuildAll) {
+            return false;
+        }
+        rebuildAll = false;
+        changed.clear();
+        volatileCards.clear();
+        return true;
+    }
+
+    /**
+     * @return the ids of the cards to look at again, with the ones looked at on every reset, starting over from none.
+     */
+    synchronized Set<Integer> takeChanged() {
+        final Set<Integer> result = new LinkedHashSet<>(volatileCards);
+        result.addAll(changed);
+        changed.clear();
+        return result;
+    }
+
+    /**
+     * Sets whether the triggers of the card with the given id have to be looked at on every reset,
+     * as their phase or the stack decide whether they're active.
+     */
+    synchronized void setVolatile(final int cardId, final boolean isVolatile) {
+        if (isVolatile) {
+            volatileCards.add(cardId);
+        } else {
+            volatileCards.remove(cardId);
+        }
+    }
+
+    private static List<Trigger> view(final Group group) {
+        return group == null ? Collections.emptyList() : group.view();
+    }
+
+    private static Group group(final Map<TriggerType, Group> groups, final TriggerType mode) {
+        return groups.computeIfAbsent(mode, m -> new Group());
+    }
+
+    private Group controllerGroup(final TriggerType mode, final Player controller) {
+        return byController.computeIfAbsent(mode, m -> new HashMap<>()).computeIfAbsent(controller, p -> new Group());
+    }
+}
@@ -0,0 +1,80 @@
+package forge.game.zone;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.player.Player;
+
+/**
+ * The cards in the zones {@link Game#forEachCardInGame} goes through, by id.
+ * <p>
+ * The zones of the game keep it up to date as cards are added and removed, so finding a card by its id
+ * doesn't have to look through every zone of every player. It holds the very card object the zone holds,
+ * which may be newer than the one asked about. Lookups may come from other threads than the game's.
+ */
+public final class CardIdIndex {
+    /** The zones of the game that are indexed, the same as {@link Game#forEachCardInGame} without sideboards. */
+    private static final Set<ZoneType> ZONES = EnumSet.of(ZoneType.Graveyard, ZoneType.Hand, ZoneType.Library,
+            ZoneType.Battlefield, ZoneType.Exile, ZoneType.Command, ZoneType.Stack);
+
+    private final Game game;
+    private final Map<Integer, Card> cards = new ConcurrentHashMap<>();
+
+    public CardIdIndex(final Game game) {
+        this.game = game;
+    }
+
+    /**
+     * @return the card with the given id in a zone of a player still in the game or on the stack,
+     * or null if there's none. Tokens on their way to the battlefield aren't indexed.
+     */
+    public Card get(final int id) {
+        final Card c = cards.get(id);
+        if (c == null) {
+            return null;
+        }
+        final Zone zone = c.getZone();
+        if (zone == null || !isIndexed(zone) || !zone.contains(c)) {
+            return null;
+        }
+        // cards of players who left the game stay in their zones, but aren't part of it anymore
+        final Player p = zone.getPlayer();
+        return p == null || game.getPlayers().contains(p) ? c : null;
+    }
+
+    /**
+     * @return the card with the given id if it's in the given zone.
+     */
+    public Card get(final int id, final Zone zone) {
+        final Card c = cards.get(id);
+        return c != null && c.getZone() == zone && zone.contains(c) ? c : null;
+    }
+
+    /**
+     * @return whether the given zone is one of the game's own that are indexed, and not an lki copy of one.
+     */
+    boolean isIndexed(final Zone zone) {
+        if (!ZONES.contains(zone.getZoneType())) {
+            return false;
+        }
+        final Player p = zone.getPlayer();
+        return zone == (p == null ? game.getStackZone() : p.getZone(zone.getZoneType()));
+    }
+
+    void added(final Zone zone, final Card c) {
+        if (isIndexed(zone)) {
+            cards.put(c.getId(), c);
+        }
+    }
+
+    void removed(final Zone zone, final Card c) {
+        if (isIndexed(zone)) {
+            // unless it was added to another zone in the meantime
+            cards.computeIfPresent(c.getId(), (id, indexed) -> indexed.getZone() == zone ? null : indexed);
+        }
+    }
+}
@@ -66,6 +66,28 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     protected void onChanged() {
     }
 
+    private void updateAbilityIndexes() {
+        if (game != null && ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(zoneType)) {
+            game.getStaticAbilityIndex().invalidate();
+        }
+    }
+
+    private void cardAdded(final Card c) {
+        if (game != null) {
+            game.getCardIdIndex().added(this, c);
+            game.getReplacementEffectIndex().added(this, c);
+            game.getTriggerHandler().cardChanged(c);
+        }
+    }
+
+    private void cardRemoved(final Card c) {
+        if (game != null) {
+            game.getCardIdIndex().removed(this, c);
+            game.getReplacementEffectIndex().removed(this, c);
+            game.getTriggerHandler().cardChanged(c);
+        }
+    }
+
     public Player getPlayer() { // generic zones like stack have no player associated
         return null;
     }
@@ -73,6 +95,8 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     public final void reorder(final Card c, final int index) {
         cardList.remove(c);
         cardList.add(index, c);
+        cardAdded(c);
+        updateAbilityIndexes();
     }
 
     public final void add(final Card c) {
@@ -131,11 +155,15 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
 
         if ((zoneType == ZoneType.Battlefield || !c.isToken()) || (zoneType == ZoneType.Stack && c.getCopiedPermanent() != null)) {
             if (index == null) {
-                cardList.add(c);
+                if (cardList.add(c)) {
+                    cardAdded(c);
+                }
             } else {
                 cardList.add(index, c);
+                cardAdded(c);
             }
         }
+        updateAbilityIndexes();
         onChanged();
 
         game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Added, c));
@@ -151,24 +179,36 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
 
     public void remove(final Card c) {
         if (cardList.remove(c)) {
+            cardRemoved(c);
+            updateAbilityIndexes();
             onChanged();
             game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Removed, c));
         }
     }
 
     public final void setCards(final Iterable<Card> cards) {
+        for (Card c : cardList) {
+            cardRemoved(c);
+        }
         cardList.clear();
         for (Card c : cards) {
             c.setZone(this);
-            cardList.add(c);
+            if (cardList.add(c)) {
+                cardAdded(c);
+            }
         }
+        updateAbilityIndexes();
         onChanged();
         game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.ComplexUpdate, null));
     }
 
     public final void removeAllCards(boolean forcedWithoutEvents) {
         if (forcedWithoutEvents) {
+            for (Card c : cardList) {
+                cardRemoved(c);
+            }
             cardList.clear();
+            updateAbilityIndexes();
         } else {
             for (Card c : cardList) {
                 remove(c);
@@ -0,0 +1,202 @@
+package forge.trackable;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import forge.card.CardStateName;
+import forge.game.GameView;
+import forge.game.card.CardView;
+import forge.game.card.CardView.CardStateView;
+import forge.game.combat.CombatView;
+import forge.game.player.PlayerView;
+import forge.game.replacement.ReplacementEffectView;
+import forge.game.spellability.SpellAbilityView;
+import forge.game.spellability.StackItemView;
+import forge.game.staticability.StaticAbilityView;
+
+/**
+ * The properties of trackable objects that changed since the last update sent to a network client.
+ * <p>
+ * References between objects are replaced by {@link Ref}s, so a delta only carries the objects
+ * that changed (and the ones the client has never seen) instead of the whole game view.
+ * Built by {@link TrackableDeltaWriter}, applied by {@link TrackableDeltaReader}.
+ */
+public final class TrackableDelta implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public enum Kind {
+        GAME,
+        PLAYER,
+        CARD,
+        CARD_STATE,
+        STACK_ITEM,
+        SPELL_ABILITY,
+        STATIC_ABILITY,
+        REPLACEMENT_EFFECT,
+        COMBAT
+    }
+
+    /** Identifies a trackable object on both sides of the connection. */
+    public static final class Ref implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final Kind kind;
+        final int id;
+        final CardStateName state;
+
+        Ref(final Kind kind, final int id, final CardStateName state) {
+            this.kind = kind;
+            this.id = id;
+            this.state = state;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Ref)) {
+                return false;
+            }
+            final Ref other = (Ref) o;
+            return kind == other.kind && id == other.id && state == other.state;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, id, state);
+        }
+
+        @Override
+        public String toString() {
+            return state == null ? kind + "#" + id : kind + "#" + id + "/" + state;
+        }
+    }
+
+    enum ContainerType {
+        TRACKABLE_COLLECTION,
+        FCOLLECTION,
+        LIST,
+        SET,
+        CONCURRENT_MAP,
+        MAP
+    }
+
+    /** A collection or map that holds trackable objects, with every element encoded. */
+    static final class Container implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final ContainerType type;
+        final Object[] keys;
+        final Object[] values;
+
+        Container(final ContainerType type, final Object[] keys, final Object[] values) {
+            this.type = type;
+            this.keys = keys;
+            this.values = values;
+        }
+    }
+
+    static final class ObjectChanges implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final Ref ref;
+        /** Properties set to null were reset to their default value. */
+        final Map<TrackableProperty, Object> values;
+
+        ObjectChanges(final Ref ref, final Map<TrackableProperty, Object> values) {
+            this.ref = ref;
+            this.values = values;
+        }
+    }
+
+    private final List<ObjectChanges> changes;
+
+    TrackableDelta(final List<ObjectChanges> changes) {
+        this.changes = changes;
+    }
+
+    List<ObjectChanges> getChanges() {
+        return changes;
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    /** @return the reference to send for the given object, or null if deltas can't express it */
+    static Ref refOf(final TrackableObject o) {
+        if (o instanceof CardView) {
+            return new Ref(Kind.CARD, o.getId(), null);
+        }
+        if (o instanceof CardStateView) {
+            return new Ref(Kind.CARD_STATE, o.getId(), ((CardStateView) o).getState());
+        }
+        if (o instanceof PlayerView) {
+            return new Ref(Kind.PLAYER, o.getId(), null);
+        }
+        if (o instanceof StackItemView) {
+            return new Ref(Kind.STACK_ITEM, o.getId(), null);
+        }
+        if (o instanceof SpellAbilityView) {
+            return new Ref(Kind.SPELL_ABILITY, o.getId(), null);
+        }
+        if (o instanceof StaticAbilityView) {
+            return new Ref(Kind.STATIC_ABILITY, o.getId(), null);
+        }
+        if (o instanceof ReplacementEffectView) {
+            return new Ref(Kind.REPLACEMENT_EFFECT, o.getId(), null);
+        }
+        if (o instanceof CombatView) {
+            return new Ref(Kind.COMBAT, o.getId(), null);
+        }
+        if (o instanceof GameView) {
+            return new Ref(Kind.GAME, o.getId(), null);
+        }
+        return null;
+    }
+
+    /**
+     * Visits every trackable object reachable from the root through properties, collections and maps.
+     */
+    static void forEachReachable(final TrackableObject root, final Consumer<TrackableObject> visitor) {
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            final Object value = pending.pop();
+            if (value instanceof TrackableObject) {
+                if (!visited.add(value)) {
+                    continue;
+                }
+                visitor.accept((TrackableObject) value);
+                final Map<TrackableProperty, Object> props = ((TrackableObject) value).getProps();
+                for (final Object v : props.values()) {
+                    if (v != null) {
+                        pending.push(v);
+                    }
+                }
+            } else if (value instanceof Iterable) {
+                for (final Object v : (Iterable<?>) value) {
+                    if (v != null) {
+                        pending.push(v);
+                    }
+                }
+            } else if (value instanceof Map) {
+                for (final Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                    if (e.getKey() != null) {
+                        pending.push(e.getKey());
+                    }
+                    if (e.getValue() != null) {
+                        pending.push(e.getValue());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package forge.trackable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import forge.game.card.CardView;
+import forge.game.combat.CombatView;
+import forge.game.player.PlayerView;
+import forge.game.replacement.ReplacementEffectView;
+import forge.game.spellability.SpellAbilityView;
+import forge.game.spellability.StackItemView;
+import forge.game.staticability.StaticAbilityView;
+import forge.trackable.TrackableDelta.Container;
+import forge.trackable.TrackableDelta.Kind;
+import forge.trackable.TrackableDelta.ObjectChanges;
+import forge.trackable.TrackableDelta.Ref;
+import forge.util.collect.FCollection;
+
+/**
+ * Client side of the game view deltas, applies the changes built by {@link TrackableDeltaWriter}
+ * to the objects of the local game view, creating the ones it doesn't know yet.
+ */
+public class TrackableDeltaReader {
+    private final TrackableObject root;
+    private final Tracker tracker;
+    private final Map<Ref, TrackableObject> objects = new HashMap<>();
+
+    public TrackableDeltaReader(final TrackableObject root) {
+        this.root = root;
+        this.tracker = root.getTracker();
+        reset();
+    }
+
+    public TrackableObject getRoot() {
+        return root;
+    }
+
+    /**
+     * Call after the whole view was received again, so references resolve to the current objects.
+     */
+    public void reset() {
+        objects.clear();
+        TrackableDelta.forEachReachable(root, o -> {
+            final Ref ref = TrackableDelta.refOf(o);
+            if (ref != null) {
+                objects.putIfAbsent(ref, o);
+            }
+        });
+    }
+
+    public void apply(final TrackableDelta delta) {
+        for (final ObjectChanges c : delta.getChanges()) {
+            if (c.ref.kind == Kind.COMBAT) {
+                objects.put(c.ref, new CombatView(tracker));
+            }
+        }
+        for (final ObjectChanges c : delta.getChanges()) {
+            final TrackableObject o = resolve(c.ref);
+            for (final Map.Entry<TrackableProperty, Object> e : c.values.entrySet()) {
+                o.setRemote(e.getKey(), decode(e.getValue()));
+            }
+        }
+    }
+
+    private TrackableObject resolve(final Ref ref) {
+        if (ref.kind == Kind.GAME) {
+            return root;
+        }
+        TrackableObject o = objects.get(ref);
+        if (o == null) {
+            o = create(ref);
+            objects.put(ref, o);
+        }
+        return o;
+    }
+
+    private TrackableObject create(final Ref ref) {
+        switch (ref.kind) {
+        case PLAYER:
+            final PlayerView player = tracker.getObj(TrackableTypes.PlayerViewType, ref.id);
+            return player != null ? player : new PlayerView(ref.id, tracker);
+        case CARD:
+            final CardView card = tracker.getObj(TrackableTypes.CardViewType, ref.id);
+            return card != null ? card : new CardView(ref.id, tracker);
+        case CARD_STATE:
+            final CardView parent = (CardView) resolve(new Ref(Kind.CARD, ref.id, null));
+            return parent.new CardStateView(ref.id, ref.state, tracker);
+        case STACK_ITEM:
+            final StackItemView item = tracker.getObj(TrackableTypes.StackItemViewType, ref.id);
+            return item != null ? item : new StackItemView(ref.id, tracker);
+        case SPELL_ABILITY:
+            return new SpellAbilityView(ref.id, tracker);
+        case STATIC_ABILITY:
+            return new StaticAbilityView(ref.id, tracker);
+        case REPLACEMENT_EFFECT:
+            return new ReplacementEffectView(ref.id, tracker);
+        case COMBAT:
+            return new CombatView(tracker);
+        default:
+            throw new IllegalArgumentException("Unexpected reference " + ref);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object decode(final Object value) {
+        if (value instanceof Ref) {
+            return resolve((Ref) value);
+        }
+        if (!(value instanceof Container)) {
+            return value;
+        }
+        final Container c = (Container) value;
+        final Object[] values = new Object[c.values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = decode(c.values[i]);
+        }
+        switch (c.type) {
+        case TRACKABLE_COLLECTION:
+            return new TrackableCollection(Arrays.asList(values));
+        case FCOLLECTION:
+            return new FCollection(Arrays.asList(values));
+        case SET:
+            return new LinkedHashSet<>(Arrays.asList(values));
+        case LIST:
+            return new ArrayList<>(Arrays.asList(values));
+        default:
+            final Map map = c.type == TrackableDelta.ContainerType.CONCURRENT_MAP ? new ConcurrentHashMap<>() : new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                map.put(decode(c.keys[i]), values[i]);
+            }
+            return map;
+        }
+    }
+}
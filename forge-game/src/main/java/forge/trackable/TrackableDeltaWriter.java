@@ -0,0 +1,176 @@
+package forge.trackable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import forge.trackable.TrackableDelta.Container;
+import forge.trackable.TrackableDelta.ContainerType;
+import forge.trackable.TrackableDelta.Kind;
+import forge.trackable.TrackableDelta.ObjectChanges;
+import forge.trackable.TrackableDelta.Ref;
+import forge.util.collect.FCollection;
+
+/**
+ * Server side of the game view deltas sent to one network client.
+ * <p>
+ * Listens to the tracker of the game, remembers which properties changed and which objects the
+ * client already knows about. Changes of objects the client has never seen are not sent, those
+ * objects are sent in full once a property of a known object starts referencing them.
+ */
+public class TrackableDeltaWriter implements Tracker.ChangeListener {
+    private final TrackableObject root;
+    private final Tracker tracker;
+    private final Map<TrackableObject, Set<TrackableProperty>> dirty = new IdentityHashMap<>();
+    private final Set<Ref> sent = new HashSet<>();
+
+    public TrackableDeltaWriter(final TrackableObject root) {
+        this.root = root;
+        this.tracker = root.getTracker();
+        tracker.addChangeListener(this);
+    }
+
+    public TrackableObject getRoot() {
+        return root;
+    }
+
+    public void close() {
+        tracker.removeChangeListener(this);
+    }
+
+    @Override
+    public synchronized void propertyChanged(final TrackableObject object, final TrackableProperty prop) {
+        dirty.computeIfAbsent(object, o -> EnumSet.noneOf(TrackableProperty.class)).add(prop);
+    }
+
+    /**
+     * Call when the whole view has just been sent, everything reachable from the root is then known to the client.
+     */
+    public synchronized void snapshotSent() {
+        dirty.clear();
+        sent.clear();
+        TrackableDelta.forEachReachable(root, o -> {
+            final Ref ref = TrackableDelta.refOf(o);
+            if (ref != null) {
+                sent.add(ref);
+            }
+        });
+    }
+
+    /**
+     * @return the changes since the previous call, or null if they can't be expressed as a delta
+     * and the whole view must be sent instead
+     */
+    public synchronized TrackableDelta takeDelta() {
+        // combat views are rebuilt and filled in place on every update, and they all share
+        // the same id, so replacing one never shows up as a change
+        final Map<TrackableProperty, Object> rootProps = root.getProps();
+        if (rootProps.get(TrackableProperty.CombatView) != null) {
+            propertyChanged(root, TrackableProperty.CombatView);
+        }
+
+        final List<ObjectChanges> changes = new ArrayList<>();
+        final Deque<TrackableObject> pending = new ArrayDeque<>();
+        final Set<Ref> included = new HashSet<>();
+        try {
+            for (final Map.Entry<TrackableObject, Set<TrackableProperty>> e : dirty.entrySet()) {
+                final Ref ref = TrackableDelta.refOf(e.getKey());
+                if (ref == null) {
+                    return null;
+                }
+                if (ref.kind == Kind.GAME || sent.contains(ref)) {
+                    changes.add(encodeObject(e.getKey(), ref, e.getValue(), pending, included));
+                }
+            }
+            // objects seen for the first time, these may in turn reference more new objects
+            while (!pending.isEmpty()) {
+                final TrackableObject o = pending.poll();
+                final Map<TrackableProperty, Object> props = o.getProps();
+                changes.add(encodeObject(o, TrackableDelta.refOf(o), new ArrayList<>(props.keySet()), pending, included));
+            }
+        } catch (final UnsupportedOperationException ex) {
+            return null;
+        } finally {
+            dirty.clear();
+        }
+        return new TrackableDelta(changes);
+    }
+
+    private ObjectChanges encodeObject(final TrackableObject o, final Ref ref, final Collection<TrackableProperty> keys,
+            final Deque<TrackableObject> pending, final Set<Ref> included) {
+        final Map<TrackableProperty, Object> props = o.getProps();
+        final Map<TrackableProperty, Object> values = new EnumMap<>(TrackableProperty.class);
+        for (final TrackableProperty key : keys) {
+            values.put(key, encodeValue(props.get(key), pending, included));
+        }
+        return new ObjectChanges(ref, values);
+    }
+
+    private Object encodeValue(final Object value, final Deque<TrackableObject> pending, final Set<Ref> included) {
+        if (value instanceof TrackableObject) {
+            final TrackableObject o = (TrackableObject) value;
+            final Ref ref = TrackableDelta.refOf(o);
+            if (ref == null) {
+                throw new UnsupportedOperationException(o.getClass().getName());
+            }
+            // combat is always sent whole, see takeDelta
+            if (ref.kind == Kind.COMBAT ? included.add(ref) : ref.kind != Kind.GAME && sent.add(ref)) {
+                pending.add(o);
+            }
+            return ref;
+        }
+        if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            final List<Object> keys = new ArrayList<>(map.size());
+            final List<Object> values = new ArrayList<>(map.size());
+            boolean encoded = false;
+            for (final Map.Entry<?, ?> e : map.entrySet()) {
+                final Object k = encodeValue(e.getKey(), pending, included);
+                final Object v = encodeValue(e.getValue(), pending, included);
+                encoded |= k != e.getKey() || v != e.getValue();
+                keys.add(k);
+                values.add(v);
+            }
+            if (!encoded) {
+                return value;
+            }
+            final ContainerType type = value instanceof ConcurrentMap ? ContainerType.CONCURRENT_MAP : ContainerType.MAP;
+            return new Container(type, keys.toArray(), values.toArray());
+        }
+        if (value instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) value;
+            final List<Object> values = new ArrayList<>(collection.size());
+            boolean encoded = false;
+            for (final Object item : collection) {
+                final Object v = encodeValue(item, pending, included);
+                encoded |= v != item;
+                values.add(v);
+            }
+            if (!encoded) {
+                return value;
+            }
+            final ContainerType type;
+            if (value instanceof TrackableCollection) {
+                type = ContainerType.TRACKABLE_COLLECTION;
+            } else if (value instanceof FCollection) {
+                type = ContainerType.FCOLLECTION;
+            } else if (value instanceof Set) {
+                type = ContainerType.SET;
+            } else {
+                type = ContainerType.LIST;
+            }
+            return new Container(type, null, values.toArray());
+        }
+        // anything else is sent as is, like the full view would
+        return value;
+    }
+}
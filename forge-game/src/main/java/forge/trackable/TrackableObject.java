@@ -81,14 +81,27 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
             if (props.remove(key) != null) {
                 changedProps.add(key);
                 key.updateObjLookup(tracker, value);
+                if (tracker != null) {
+                    tracker.propertyChanged(this, key);
+                }
             }
         }
         else if (!value.equals(props.put(key, value))) {
             changedProps.add(key);
             key.updateObjLookup(tracker, value);
+            if (tracker != null) {
+                tracker.propertyChanged(this, key);
+            }
         }
     }
 
+    /**
+     * Set a property received from the game server, see {@link TrackableDeltaReader}.
+     */
+    public final void setRemote(final TrackableProperty key, final Object value) {
+        set(key, value);
+    }
+
     public final void updateObjLookup() {
         for (final Entry<TrackableProperty, Object> prop : props.entrySet()) {
             prop.getKey().updateObjLookup(tracker, prop.getValue());
@@ -111,6 +124,9 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     protected final void flagAsChanged(final TrackableProperty key) {
         changedProps.add(key);
         key.updateObjLookup(tracker, props.get(key));
+        if (tracker != null) {
+            tracker.propertyChanged(this, key);
+        }
     }
 
     public final void serialize(final TrackableSerializer ts) {
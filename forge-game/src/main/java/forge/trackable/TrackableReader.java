@@ -0,0 +1,390 @@
+package forge.trackable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import forge.card.CardStateName;
+import forge.card.CardType;
+import forge.card.ColorSet;
+import forge.card.mana.ManaCost;
+import forge.game.GameView;
+import forge.game.card.CardView;
+import forge.game.combat.CombatView;
+import forge.game.player.PlayerView;
+import forge.game.replacement.ReplacementEffectView;
+import forge.game.spellability.SpellAbilityView;
+import forge.game.spellability.StackItemView;
+import forge.game.staticability.StaticAbilityView;
+import forge.trackable.TrackableDelta.Container;
+import forge.trackable.TrackableDelta.ContainerType;
+import forge.trackable.TrackableDelta.Kind;
+import forge.trackable.TrackableDelta.ObjectChanges;
+import forge.trackable.TrackableDelta.Ref;
+import forge.util.collect.FCollection;
+
+/**
+ * Reads the values written by {@link TrackableWriter}.
+ * <p>
+ * Trackable objects are recreated without a tracker, like objects read with Java serialization,
+ * the receiving side attaches them to its own tracker.
+ */
+public class TrackableReader {
+    private static final Kind[] KINDS = Kind.values();
+    private static final CardStateName[] STATES = CardStateName.values();
+    private static final ContainerType[] CONTAINER_TYPES = ContainerType.values();
+    private static final TrackableProperty[] PROPERTIES = TrackableProperty.values();
+    /** Only enums of this package and below are read, see {@link #readEnum()}. */
+    private static final String ENUM_PACKAGE = "forge.";
+
+    private byte[] buf;
+    private int pos;
+    private int limit;
+    private final List<String> strings = new ArrayList<>();
+    private final List<TrackableObject> objects = new ArrayList<>();
+    private final Map<Integer, CardView> cards = new HashMap<>();
+    private final Map<Integer, CardView> cardShells = new HashMap<>();
+    private final Map<String, Class<?>> enumClasses = new HashMap<>();
+
+    /** Starts reading a new message. */
+    public void reset(final byte[] buf, final int offset, final int length) {
+        this.buf = buf;
+        this.pos = offset;
+        this.limit = offset + length;
+        strings.clear();
+        objects.clear();
+        cards.clear();
+        cardShells.clear();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Object readValue() {
+        final int tag = readByte();
+        switch (tag) {
+        case TrackableWriter.NULL:
+            return null;
+        case TrackableWriter.TRUE:
+            return Boolean.TRUE;
+        case TrackableWriter.FALSE:
+            return Boolean.FALSE;
+        case TrackableWriter.INT:
+            return readSignedVarInt();
+        case TrackableWriter.LONG:
+            return readSignedVarLong();
+        case TrackableWriter.FLOAT:
+            return Float.intBitsToFloat(readFixedInt());
+        case TrackableWriter.DOUBLE:
+            return Double.longBitsToDouble(readSignedVarLong());
+        case TrackableWriter.BYTE:
+            return (byte) readByte();
+        case TrackableWriter.STRING:
+        case TrackableWriter.STRING_REF:
+            return readString(tag);
+        case TrackableWriter.ENUM:
+            return readEnum();
+        case TrackableWriter.OBJECT_ARRAY:
+            return readItems();
+        case TrackableWriter.LIST:
+            return new ArrayList<>(Arrays.asList(readItems()));
+        case TrackableWriter.SET:
+            return new LinkedHashSet<>(Arrays.asList(readItems()));
+        case TrackableWriter.TRACKABLE_COLLECTION:
+            return new TrackableCollection(Arrays.asList(readItems()));
+        case TrackableWriter.FCOLLECTION:
+            return new FCollection<>(Arrays.asList(readItems()));
+        case TrackableWriter.MAP:
+            return readEntries(new LinkedHashMap<>());
+        case TrackableWriter.CONCURRENT_MAP:
+            return readEntries(new ConcurrentHashMap<>());
+        case TrackableWriter.OBJECT:
+            return readObject();
+        case TrackableWriter.OBJECT_REF:
+            return objects.get(readIndex(objects.size()));
+        case TrackableWriter.DELTA:
+            return readDelta();
+        case TrackableWriter.SERIALIZED:
+            return readSerialized();
+        case TrackableWriter.MANA_COST:
+            return ManaCost.deserialize(readString(readByte()));
+        case TrackableWriter.COLOR_SET:
+            return ColorSet.fromMask(readByte());
+        case TrackableWriter.CARD_TYPE:
+            final CardType cardType = new CardType(false);
+            for (int n = readCount(); n > 0; n--) {
+                cardType.add(readString(readByte()));
+            }
+            return cardType;
+        default:
+            if (tag >= TrackableWriter.FIRST_EXTENSION_TAG) {
+                return readExtension(tag);
+            }
+            throw malformed("Unknown tag " + tag);
+        }
+    }
+
+    /** Counterpart of {@link TrackableWriter#writeExtension(Object)}. */
+    protected Object readExtension(final int tag) {
+        throw malformed("Unknown tag " + tag);
+    }
+
+    protected ObjectInputStream createObjectInput(final InputStream in) throws IOException {
+        return new ObjectInputStream(in);
+    }
+
+    private Object readSerialized() {
+        final int length = readLength();
+        final ByteArrayInputStream bytes = new ByteArrayInputStream(buf, pos, length);
+        pos += length;
+        try (ObjectInputStream in = createObjectInput(bytes)) {
+            return in.readObject();
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot deserialize value", e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object readEnum() {
+        final String className = readString(readByte());
+        final String name = readString(readByte());
+        Class<?> c = enumClasses.get(className);
+        if (c == null) {
+            // the name comes from the peer, so only our own enums are looked up, and without initializing anything
+            if (!className.startsWith(ENUM_PACKAGE)) {
+                throw malformed("Unexpected enum " + className);
+            }
+            try {
+                c = Class.forName(className, false, TrackableReader.class.getClassLoader());
+            } catch (final ClassNotFoundException e) {
+                throw malformed("Unknown enum " + className);
+            }
+            if (!c.isEnum()) {
+                throw malformed(className + " is not an enum");
+            }
+            enumClasses.put(className, c);
+        }
+        try {
+            return Enum.valueOf((Class) c, name);
+        } catch (final IllegalArgumentException e) {
+            throw malformed("Unknown constant " + className + "." + name);
+        }
+    }
+
+    private TrackableObject readObject() {
+        final Ref ref = readRef();
+        final int index = objects.size();
+        objects.add(null);
+        final TrackableObject o = create(ref);
+        objects.set(index, o);
+        readProps(o);
+        if (ref.kind == Kind.CARD_STATE) {
+            readValue(); // the card holding the state
+        }
+        return o;
+    }
+
+    private TrackableObject create(final Ref ref) {
+        switch (ref.kind) {
+        case GAME:
+            return new GameView(ref.id, null);
+        case PLAYER:
+            return new PlayerView(ref.id, null);
+        case CARD:
+            CardView card = cardShells.remove(ref.id);
+            if (card == null) {
+                card = new CardView(ref.id, null);
+            }
+            cards.put(ref.id, card);
+            return card;
+        case CARD_STATE:
+            // states share the id of their card, which may only be read right after the state
+            CardView holder = cards.get(ref.id);
+            if (holder == null) {
+                holder = cardShells.computeIfAbsent(ref.id, id -> new CardView(id, null));
+            }
+            return holder.new CardStateView(ref.id, ref.state, null);
+        case STACK_ITEM:
+            return new StackItemView(ref.id, null);
+        case SPELL_ABILITY:
+            return new SpellAbilityView(ref.id, null);
+        case STATIC_ABILITY:
+            return new StaticAbilityView(ref.id, null);
+        case REPLACEMENT_EFFECT:
+            return new ReplacementEffectView(ref.id, null);
+        case COMBAT:
+            return new CombatView(null);
+        default:
+            throw new IllegalStateException("Unexpected object " + ref);
+        }
+    }
+
+    private void readProps(final TrackableObject o) {
+        for (int key = readVarInt(); key != 0; key = readVarInt()) {
+            o.setRemote(PROPERTIES[checkIndex(key - 1, PROPERTIES.length)], readDeltaValue());
+        }
+    }
+
+    private TrackableDelta readDelta() {
+        final int count = readCount();
+        final List<ObjectChanges> changes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Ref ref = readRef();
+            final Map<TrackableProperty, Object> values = new EnumMap<>(TrackableProperty.class);
+            for (int key = readVarInt(); key != 0; key = readVarInt()) {
+                values.put(PROPERTIES[checkIndex(key - 1, PROPERTIES.length)], readDeltaValue());
+            }
+            changes.add(new ObjectChanges(ref, values));
+        }
+        return new TrackableDelta(changes);
+    }
+
+    private Ref readRef() {
+        final Kind kind = KINDS[checkIndex(readByte(), KINDS.length)];
+        final int id = readSignedVarInt();
+        final int state = readVarInt();
+        return new Ref(kind, id, state == 0 ? null : STATES[checkIndex(state - 1, STATES.length)]);
+    }
+
+    private Object readDeltaValue() {
+        if (pos >= limit) {
+            throw malformed("Unexpected end of message");
+        }
+        final int tag = buf[pos] & 0xFF;
+        if (tag == TrackableWriter.DELTA_REF) {
+            pos++;
+            return readRef();
+        }
+        if (tag == TrackableWriter.DELTA_CONTAINER) {
+            pos++;
+            final ContainerType type = CONTAINER_TYPES[checkIndex(readByte(), CONTAINER_TYPES.length)];
+            final boolean hasKeys = type == ContainerType.MAP || type == ContainerType.CONCURRENT_MAP;
+            final int count = readCount();
+            final Object[] keys = hasKeys ? new Object[count] : null;
+            final Object[] values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                if (hasKeys) {
+                    keys[i] = readDeltaValue();
+                }
+                values[i] = readDeltaValue();
+            }
+            return new Container(type, keys, values);
+        }
+        return readValue();
+    }
+
+    protected final Object[] readItems() {
+        final Object[] items = new Object[readCount()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = readValue();
+        }
+        return items;
+    }
+
+    private Map<Object, Object> readEntries(final Map<Object, Object> map) {
+        final int count = readCount();
+        for (int i = 0; i < count; i++) {
+            final Object key = readValue();
+            map.put(key, readValue());
+        }
+        return map;
+    }
+
+    private String readString(final int tag) {
+        if (tag == TrackableWriter.STRING_REF) {
+            return strings.get(readIndex(strings.size()));
+        }
+        if (tag != TrackableWriter.STRING) {
+            throw malformed("Expected a string");
+        }
+        final int length = readLength();
+        final String s = new String(buf, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        strings.add(s);
+        return s;
+    }
+
+    protected final int readByte() {
+        if (pos >= limit) {
+            throw malformed("Unexpected end of message");
+        }
+        return buf[pos++] & 0xFF;
+    }
+
+    /**
+     * @return a number of items that follow, each taking at least a byte, so there can't be more than bytes left.
+     * Checked before anything is allocated for them, the count comes from the peer.
+     */
+    protected final int readCount() {
+        final int count = readVarInt();
+        if (count < 0 || count > limit - pos) {
+            throw malformed("Count " + count + " exceeds the " + (limit - pos) + " bytes left");
+        }
+        return count;
+    }
+
+    private int readLength() {
+        final int length = readVarInt();
+        if (length < 0 || length > limit - pos) {
+            throw malformed("Length " + length + " exceeds the " + (limit - pos) + " bytes left");
+        }
+        return length;
+    }
+
+    protected final int readIndex(final int size) {
+        return checkIndex(readVarInt(), size);
+    }
+
+    private int checkIndex(final int index, final int size) {
+        if (index < 0 || index >= size) {
+            throw malformed("Index " + index + " out of " + size);
+        }
+        return index;
+    }
+
+    protected final IllegalStateException malformed(final String message) {
+        return new IllegalStateException(message + " at " + pos);
+    }
+
+    private int readFixedInt() {
+        return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+
+    protected final int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw malformed("Malformed varint");
+    }
+
+    protected final int readSignedVarInt() {
+        final int v = readVarInt();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private long readSignedVarLong() {
+        long v = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final int b = readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (v >>> 1) ^ -(v & 1);
+            }
+        }
+        throw malformed("Malformed varint");
+    }
+}
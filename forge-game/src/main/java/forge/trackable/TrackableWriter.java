@@ -0,0 +1,396 @@
+package forge.trackable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.Iterables;
+
+import forge.card.CardStateName;
+import forge.card.CardType;
+import forge.card.CardTypeView;
+import forge.card.ColorSet;
+import forge.card.mana.ManaCost;
+import forge.game.card.CardView.CardStateView;
+import forge.trackable.TrackableDelta.Container;
+import forge.trackable.TrackableDelta.ContainerType;
+import forge.trackable.TrackableDelta.Kind;
+import forge.trackable.TrackableDelta.ObjectChanges;
+import forge.trackable.TrackableDelta.Ref;
+import forge.trackable.TrackableTypes.TrackableType;
+import forge.util.collect.FCollection;
+
+/**
+ * Compact binary encoding of the values exchanged with network clients, read back by {@link TrackableReader}.
+ * <p>
+ * Values are tagged with a single byte, numbers are written as varints and repeated strings as
+ * indexes into the strings of the current message. Trackable objects are written as their kind, id
+ * and properties, so no class descriptors are sent; an object met again in the same message is
+ * written as an index. Anything the encoding doesn't know is written with Java serialization.
+ * <p>
+ * Not thread safe, the buffer is reused for every message.
+ */
+public class TrackableWriter {
+    static final int NULL = 0;
+    static final int TRUE = 1;
+    static final int FALSE = 2;
+    static final int INT = 3;
+    static final int LONG = 4;
+    static final int FLOAT = 5;
+    static final int DOUBLE = 6;
+    static final int BYTE = 7;
+    static final int STRING = 8;
+    static final int STRING_REF = 9;
+    static final int ENUM = 10;
+    static final int OBJECT_ARRAY = 11;
+    static final int LIST = 12;
+    static final int SET = 13;
+    static final int MAP = 14;
+    static final int CONCURRENT_MAP = 15;
+    static final int TRACKABLE_COLLECTION = 16;
+    static final int FCOLLECTION = 17;
+    static final int OBJECT = 18;
+    static final int OBJECT_REF = 19;
+    static final int DELTA = 20;
+    static final int DELTA_REF = 21;
+    static final int DELTA_CONTAINER = 22;
+    static final int SERIALIZED = 23;
+    static final int MANA_COST = 24;
+    static final int COLOR_SET = 25;
+    static final int CARD_TYPE = 26;
+    /** Tags from this one on are free for subclasses, see {@link #writeExtension(Object)}. */
+    public static final int FIRST_EXTENSION_TAG = 64;
+    /** Changed whenever a tag or the layout of a value changes. */
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int INITIAL_CAPACITY = 8192;
+    /** Buffers grown past this by a huge message are dropped afterwards. */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+    private byte[] buf = new byte[INITIAL_CAPACITY];
+    private int pos;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<Object, Integer> objects = new IdentityHashMap<>();
+
+    /**
+     * @return an id of this encoding, made of its version and the names of the enums whose ordinals are written.
+     * Both ends need the same one, as a reordered enum would be read back as other constants.
+     */
+    public static String getSchemaId() {
+        int hash = hashNames(0, Kind.values());
+        hash = hashNames(hash, CardStateName.values());
+        hash = hashNames(hash, ContainerType.values());
+        hash = hashNames(hash, TrackableProperty.values());
+        return FORMAT_VERSION + "." + Integer.toHexString(hash);
+    }
+
+    protected static int hashNames(int hash, final Enum<?>[] constants) {
+        for (final Enum<?> e : constants) {
+            hash = 31 * hash + e.name().hashCode();
+        }
+        return hash;
+    }
+
+    /** Starts a new message. */
+    public void reset() {
+        pos = 0;
+        strings.clear();
+        objects.clear();
+        if (buf.length > MAX_RETAINED_CAPACITY) {
+            buf = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    public byte[] getBuffer() {
+        return buf;
+    }
+
+    public int size() {
+        return pos;
+    }
+
+    public void writeValue(final Object value) {
+        if (value == null) {
+            writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            writeByte(INT);
+            writeSignedVarInt((Integer) value);
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Enum) {
+            writeByte(ENUM);
+            writeString(((Enum<?>) value).getDeclaringClass().getName());
+            // by name, an ordinal would change meaning when the enum is reordered
+            writeString(((Enum<?>) value).name());
+        } else if (value instanceof Long) {
+            writeByte(LONG);
+            writeSignedVarLong((Long) value);
+        } else if (value instanceof Float) {
+            writeByte(FLOAT);
+            writeFixedInt(Float.floatToIntBits((Float) value));
+        } else if (value instanceof Double) {
+            writeByte(DOUBLE);
+            writeSignedVarLong(Double.doubleToLongBits((Double) value));
+        } else if (value instanceof Byte) {
+            writeByte(BYTE);
+            writeByte((Byte) value);
+        } else if (writeExtension(value)) {
+            return;
+        } else if (value instanceof TrackableObject) {
+            writeObject((TrackableObject) value);
+        } else if (value instanceof TrackableDelta) {
+            writeDelta((TrackableDelta) value);
+        } else if (value.getClass() == Object[].class) {
+            writeByte(OBJECT_ARRAY);
+            writeItems(Arrays.asList((Object[]) value));
+        } else if (value instanceof TrackableCollection) {
+            writeByte(TRACKABLE_COLLECTION);
+            writeItems((Collection<?>) value);
+        } else if (value.getClass() == FCollection.class) {
+            writeByte(FCOLLECTION);
+            writeItems((Collection<?>) value);
+        } else if (value.getClass() == ArrayList.class || value.getClass() == LinkedList.class) {
+            writeByte(LIST);
+            writeItems((Collection<?>) value);
+        } else if (value.getClass() == HashSet.class || value.getClass() == LinkedHashSet.class) {
+            writeByte(SET);
+            writeItems((Collection<?>) value);
+        } else if (value.getClass() == HashMap.class || value.getClass() == LinkedHashMap.class) {
+            writeByte(MAP);
+            writeEntries((Map<?, ?>) value);
+        } else if (value.getClass() == ConcurrentHashMap.class) {
+            writeByte(CONCURRENT_MAP);
+            writeEntries((Map<?, ?>) value);
+        } else {
+            writeSerialized(value);
+        }
+    }
+
+    /**
+     * Hook for subclasses to encode their own types, tagged from {@link #FIRST_EXTENSION_TAG} on.
+     *
+     * @return false if the value was not handled
+     */
+    protected boolean writeExtension(final Object value) {
+        return false;
+    }
+
+    protected ObjectOutputStream createObjectOutput(final OutputStream out) throws IOException {
+        return new ObjectOutputStream(out);
+    }
+
+    private void writeSerialized(final Object value) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = createObjectOutput(bytes)) {
+            out.writeObject(value);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Cannot serialize " + value.getClass().getName(), e);
+        }
+        writeByte(SERIALIZED);
+        writeVarInt(bytes.size());
+        writeBytes(bytes.toByteArray(), 0, bytes.size());
+    }
+
+    private void writeObject(final TrackableObject o) {
+        final Integer index = objects.get(o);
+        if (index != null) {
+            writeByte(OBJECT_REF);
+            writeVarInt(index);
+            return;
+        }
+        final Ref ref = TrackableDelta.refOf(o);
+        if (ref == null) {
+            writeSerialized(o);
+            return;
+        }
+        objects.put(o, objects.size());
+        writeByte(OBJECT);
+        writeRef(ref);
+        writeProps(o.getProps());
+        if (o instanceof CardStateView) {
+            writeValue(((CardStateView) o).getCard());
+        }
+    }
+
+    private void writeDelta(final TrackableDelta delta) {
+        writeByte(DELTA);
+        writeVarInt(delta.getChanges().size());
+        for (final ObjectChanges c : delta.getChanges()) {
+            writeRef(c.ref);
+            writeProps(c.values);
+        }
+    }
+
+    private void writeRef(final Ref ref) {
+        writeByte(ref.kind.ordinal());
+        writeSignedVarInt(ref.id);
+        writeVarInt(ref.state == null ? 0 : ref.state.ordinal() + 1);
+    }
+
+    private void writeProps(final Map<TrackableProperty, Object> props) {
+        // terminated rather than counted, the game may still be changing the map
+        for (final Map.Entry<TrackableProperty, Object> e : props.entrySet()) {
+            writeVarInt(e.getKey().ordinal() + 1);
+            writePropValue(e.getKey().getType(), e.getValue());
+        }
+        writeVarInt(0);
+    }
+
+    /**
+     * The type of a property tells which interface its value is read through, so values of a
+     * known type are written by content whatever their implementation class.
+     */
+    private void writePropValue(final TrackableType<?> type, final Object value) {
+        if (type == TrackableTypes.ManaCostType && value instanceof ManaCost) {
+            writeByte(MANA_COST);
+            writeString(ManaCost.serialize((ManaCost) value));
+        } else if (type == TrackableTypes.ColorSetType && value instanceof ColorSet) {
+            writeByte(COLOR_SET);
+            writeByte(((ColorSet) value).getColor());
+        } else if (type == TrackableTypes.CardTypeViewType && value instanceof CardTypeView && !((CardTypeView) value).hasAllCreatureTypes()) {
+            final CardTypeView cardType = (CardTypeView) value;
+            final List<String> names = new ArrayList<>();
+            for (final CardType.Supertype st : cardType.getSupertypes()) {
+                names.add(st.name());
+            }
+            for (final CardType.CoreType ct : cardType.getCoreTypes()) {
+                names.add(ct.name());
+            }
+            Iterables.addAll(names, cardType.getSubtypes());
+            writeByte(CARD_TYPE);
+            writeVarInt(names.size());
+            for (final String name : names) {
+                writeString(name);
+            }
+        } else if (value instanceof Map && (type == TrackableTypes.StringMapType || type == TrackableTypes.IntegerMapType
+                || type == TrackableTypes.ManaMapType || type == TrackableTypes.CounterMapType)) {
+            writeByte(MAP);
+            writeEntries((Map<?, ?>) value);
+        } else if (value instanceof Set && (type == TrackableTypes.StringSetType || type == TrackableTypes.IntegerSetType)) {
+            writeByte(SET);
+            writeItems((Collection<?>) value);
+        } else if (value instanceof List && type == TrackableTypes.StringListType) {
+            writeByte(LIST);
+            writeItems((Collection<?>) value);
+        } else {
+            writeDeltaValue(value);
+        }
+    }
+
+    private void writeDeltaValue(final Object value) {
+        if (value instanceof Ref) {
+            writeByte(DELTA_REF);
+            writeRef((Ref) value);
+        } else if (value instanceof Container) {
+            final Container c = (Container) value;
+            writeByte(DELTA_CONTAINER);
+            writeByte(c.type.ordinal());
+            writeVarInt(c.values.length);
+            for (int i = 0; i < c.values.length; i++) {
+                if (c.keys != null) {
+                    writeDeltaValue(c.keys[i]);
+                }
+                writeDeltaValue(c.values[i]);
+            }
+        } else {
+            writeValue(value);
+        }
+    }
+
+    protected final void writeItems(final Collection<?> items) {
+        final Object[] array = items.toArray();
+        writeVarInt(array.length);
+        for (final Object item : array) {
+            writeValue(item);
+        }
+    }
+
+    private void writeEntries(final Map<?, ?> map) {
+        final Object[] entries = map.entrySet().toArray();
+        writeVarInt(entries.length);
+        for (final Object o : entries) {
+            final Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            writeValue(e.getKey());
+            writeValue(e.getValue());
+        }
+    }
+
+    protected final void writeString(final String s) {
+        final Integer index = strings.get(s);
+        if (index != null) {
+            writeByte(STRING_REF);
+            writeVarInt(index);
+            return;
+        }
+        strings.put(s, strings.size());
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeByte(STRING);
+        writeVarInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    protected final void writeByte(final int b) {
+        ensureCapacity(1);
+        buf[pos++] = (byte) b;
+    }
+
+    protected final void writeBytes(final byte[] bytes, final int offset, final int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buf, pos, length);
+        pos += length;
+    }
+
+    private void writeFixedInt(final int value) {
+        ensureCapacity(4);
+        buf[pos++] = (byte) (value >>> 24);
+        buf[pos++] = (byte) (value >>> 16);
+        buf[pos++] = (byte) (value >>> 8);
+        buf[pos++] = (byte) value;
+    }
+
+    protected final void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+    }
+
+    protected final void writeSignedVarInt(final int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    private void writeSignedVarLong(final long value) {
+        long v = (value << 1) ^ (value >> 63);
+        ensureCapacity(10);
+        while ((v & ~0x7FL) != 0) {
+            buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[pos++] = (byte) v;
+    }
+
+    private void ensureCapacity(final int extra) {
+        if (pos + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + extra));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package forge.trackable;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Lists;
@@ -9,8 +10,14 @@ import com.google.common.collect.Table;
 import forge.trackable.TrackableTypes.TrackableType;
 
 public class Tracker {
+    /** Notified whenever a property of an object using this tracker changes, see {@link TrackableDeltaWriter}. */
+    public interface ChangeListener {
+        void propertyChanged(TrackableObject object, TrackableProperty prop);
+    }
+
     private int freezeCounter = 0;
     private final List<DelayedPropChange> delayedPropChanges = Lists.newArrayList();
+    private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
 
     private final Table<TrackableType<?>, Integer, Object> objLookups = HashBasedTable.create();
 
@@ -37,6 +44,23 @@ public class Tracker {
         objLookups.put(type, id, val);
     }
 
+    public void addChangeListener(final ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    public void removeChangeListener(final ChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    void propertyChanged(final TrackableObject object, final TrackableProperty prop) {
+        if (changeListeners.isEmpty()) {
+            return;
+        }
+        for (final ChangeListener listener : changeListeners) {
+            listener.propertyChanged(object, prop);
+        }
+    }
+
     public void unfreeze() {
         if (!isFrozen() || --freezeCounter > 0 || delayedPropChanges.isEmpty()) {
             return;
@@ -0,0 +1,152 @@
+package forge.trackable;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.card.CardStateName;
+
+public class TrackableCodecTest {
+
+    private static Object roundTrip(final Object value) {
+        final TrackableWriter writer = new TrackableWriter();
+        writer.reset();
+        writer.writeValue(value);
+        return read(Arrays.copyOf(writer.getBuffer(), writer.size()));
+    }
+
+    private static Object read(final byte[] bytes) {
+        final TrackableReader reader = new TrackableReader();
+        reader.reset(bytes, 0, bytes.length);
+        return reader.readValue();
+    }
+
+    private static byte[] bytes(final int... values) {
+        final byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    private static void assertMalformed(final byte[] bytes) {
+        try {
+            read(bytes);
+            AssertJUnit.fail("Read a malformed message");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testScalarsRoundTrip() {
+        AssertJUnit.assertNull(roundTrip(null));
+        AssertJUnit.assertEquals(Boolean.TRUE, roundTrip(true));
+        AssertJUnit.assertEquals(Boolean.FALSE, roundTrip(false));
+        for (final int i : new int[] { 0, 1, -1, 63, -64, 300, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+            AssertJUnit.assertEquals(i, roundTrip(i));
+        }
+        AssertJUnit.assertEquals(Long.MIN_VALUE, roundTrip(Long.MIN_VALUE));
+        AssertJUnit.assertEquals(1.5f, roundTrip(1.5f));
+        AssertJUnit.assertEquals(-2.25d, roundTrip(-2.25d));
+        AssertJUnit.assertEquals((byte) -3, roundTrip((byte) -3));
+        AssertJUnit.assertEquals("Llanowar Elves", roundTrip("Llanowar Elves"));
+        AssertJUnit.assertEquals("", roundTrip(""));
+        AssertJUnit.assertEquals(CardStateName.Transformed, roundTrip(CardStateName.Transformed));
+    }
+
+    @Test
+    public void testCollectionsRoundTrip() {
+        final List<Object> list = new ArrayList<>(Arrays.asList("a", 1, null, "a", CardStateName.Flipped));
+        AssertJUnit.assertEquals(list, roundTrip(list));
+
+        final LinkedHashSet<Object> set = new LinkedHashSet<>(Arrays.asList(3, 2, 1));
+        final Object readSet = roundTrip(set);
+        AssertJUnit.assertEquals(new ArrayList<>(set), new ArrayList<>((LinkedHashSet<?>) readSet));
+
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("x", list);
+        map.put(7, new LinkedHashMap<>());
+        AssertJUnit.assertEquals(map, roundTrip(map));
+
+        final Object[] array = { "b", 2L, new ArrayList<>() };
+        AssertJUnit.assertTrue(Arrays.equals(array, (Object[]) roundTrip(array)));
+    }
+
+    @Test
+    public void testRepeatedStringsAreWrittenOnce() {
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add("Grizzly Bears");
+        }
+        final TrackableWriter writer = new TrackableWriter();
+        writer.reset();
+        writer.writeValue(list);
+        AssertJUnit.assertTrue(writer.size() < 300);
+        AssertJUnit.assertEquals(list, read(Arrays.copyOf(writer.getBuffer(), writer.size())));
+    }
+
+    @Test
+    public void testTruncatedMessagesAreRejected() {
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("key", new ArrayList<>(Arrays.asList(1, "two", CardStateName.FaceDown)));
+        final TrackableWriter writer = new TrackableWriter();
+        writer.reset();
+        writer.writeValue(map);
+        for (int length = 0; length < writer.size(); length++) {
+            assertMalformed(Arrays.copyOf(writer.getBuffer(), length));
+        }
+    }
+
+    @Test
+    public void testOversizedCountsAreRejected() {
+        // a list claiming 2^28 items in a 5 byte message
+        assertMalformed(bytes(TrackableWriter.LIST, 0x80, 0x80, 0x80, 0x80, 0x01));
+        assertMalformed(bytes(TrackableWriter.OBJECT_ARRAY, 0xFF, 0xFF, 0xFF, 0xFF, 0x07));
+        assertMalformed(bytes(TrackableWriter.MAP, 0x10, TrackableWriter.NULL));
+        assertMalformed(bytes(TrackableWriter.DELTA, 0x7F));
+        assertMalformed(bytes(TrackableWriter.STRING, 0x7F, 'a'));
+    }
+
+    @Test
+    public void testNegativeCountsAreRejected() {
+        // -1 as an unsigned varint
+        assertMalformed(bytes(TrackableWriter.LIST, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F));
+        assertMalformed(bytes(TrackableWriter.SET, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F));
+        assertMalformed(bytes(TrackableWriter.STRING, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F));
+    }
+
+    @Test
+    public void testBadReferencesAreRejected() {
+        assertMalformed(bytes(TrackableWriter.OBJECT_REF, 0));
+        assertMalformed(bytes(TrackableWriter.STRING_REF, 3));
+        assertMalformed(bytes(TrackableWriter.FIRST_EXTENSION_TAG));
+    }
+
+    @Test
+    public void testOnlyOwnEnumsAreRead() {
+        assertMalformed(enumMessage("java.lang.Thread$State", "NEW"));
+        assertMalformed(enumMessage("forge.trackable.TrackableWriter", "NULL"));
+        assertMalformed(enumMessage("forge.card.CardStateName", "Nowhere"));
+        assertMalformed(enumMessage("forge.NoSuchEnum", "A"));
+        AssertJUnit.assertEquals(CardStateName.LeftSplit, read(enumMessage("forge.card.CardStateName", "LeftSplit")));
+    }
+
+    private static byte[] enumMessage(final String className, final String name) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(TrackableWriter.ENUM);
+        for (final String s : new String[] { className, name }) {
+            out.write(TrackableWriter.STRING);
+            out.write(s.length());
+            out.writeBytes(s.getBytes());
+        }
+        return out.toByteArray();
+    }
+}
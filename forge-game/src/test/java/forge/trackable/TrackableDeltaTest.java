@@ -0,0 +1,177 @@
+package forge.trackable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import forge.game.GameView;
+import forge.game.card.CardView;
+import forge.game.player.PlayerView;
+
+public class TrackableDeltaTest {
+    private Tracker serverTracker;
+    private GameView source;
+    private PlayerView alice;
+    private PlayerView bob;
+    private CardView bears;
+    private CardView elves;
+    private CardView giant;
+
+    private GameView copy;
+    private TrackableDeltaWriter deltaWriter;
+    private TrackableDeltaReader deltaReader;
+
+    @BeforeMethod
+    public void setUp() {
+        serverTracker = new Tracker();
+        source = new GameView(1, serverTracker);
+        alice = new PlayerView(1, serverTracker);
+        bob = new PlayerView(2, serverTracker);
+        alice.set(TrackableProperty.Name, "Alice");
+        alice.set(TrackableProperty.Life, 20);
+        bob.set(TrackableProperty.Name, "Bob");
+        bob.set(TrackableProperty.Life, 20);
+        bears = new CardView(10, serverTracker, "Grizzly Bears", alice, "bears");
+        elves = new CardView(11, serverTracker, "Llanowar Elves", alice, "elves");
+        giant = new CardView(12, serverTracker, "Hill Giant", bob, "giant");
+        alice.set(TrackableProperty.Hand, new TrackableCollection<>(Arrays.asList(bears)));
+        alice.set(TrackableProperty.Battlefield, new TrackableCollection<>(Arrays.asList(elves)));
+        bob.set(TrackableProperty.Battlefield, new TrackableCollection<>(Arrays.asList(giant)));
+        source.set(TrackableProperty.Players, new TrackableCollection<>(Arrays.asList(alice, bob)));
+        source.set(TrackableProperty.PlayerTurn, alice);
+        source.set(TrackableProperty.Turn, 1);
+
+        // the whole view is sent first, like a client joining the game
+        copy = (GameView) transfer(source);
+        final Tracker clientTracker = new Tracker();
+        TrackableDelta.forEachReachable(copy, o -> o.setTracker(clientTracker));
+        TrackableDelta.forEachReachable(copy, TrackableObject::updateObjLookup);
+        deltaWriter = new TrackableDeltaWriter(source);
+        deltaWriter.snapshotSent();
+        deltaReader = new TrackableDeltaReader(copy);
+    }
+
+    private static Object transfer(final Object value) {
+        final TrackableWriter writer = new TrackableWriter();
+        writer.reset();
+        writer.writeValue(value);
+        final TrackableReader reader = new TrackableReader();
+        reader.reset(writer.getBuffer(), 0, writer.size());
+        return reader.readValue();
+    }
+
+    private void sendDelta() {
+        final TrackableDelta delta = deltaWriter.takeDelta();
+        AssertJUnit.assertNotNull(delta);
+        deltaReader.apply((TrackableDelta) transfer(delta));
+        assertSameView(source, copy, new IdentityHashMap<>());
+    }
+
+    @Test
+    public void testPropertyChanges() {
+        alice.set(TrackableProperty.Life, 17);
+        bob.set(TrackableProperty.PoisonCounters, 2);
+        giant.set(TrackableProperty.Tapped, true);
+        giant.set(TrackableProperty.Damage, 3);
+        bears.getCurrentState().set(TrackableProperty.Power, 4);
+        source.set(TrackableProperty.Turn, 2);
+        source.set(TrackableProperty.PlayerTurn, bob);
+        sendDelta();
+
+        // back to their default values
+        giant.set(TrackableProperty.Tapped, false);
+        giant.set(TrackableProperty.Damage, 0);
+        sendDelta();
+        AssertJUnit.assertFalse(((Map<?, ?>) find(copy, giant).getProps()).containsKey(TrackableProperty.Damage));
+    }
+
+    @Test
+    public void testCollectionChanges() {
+        // from hand to battlefield, in front of the card already there
+        alice.set(TrackableProperty.Hand, new TrackableCollection<>());
+        alice.set(TrackableProperty.Battlefield, new TrackableCollection<>(Arrays.asList(bears, elves)));
+        sendDelta();
+
+        // a card the client has never seen, referencing objects it knows
+        final CardView token = new CardView(13, serverTracker, "Saproling", bob, "saproling");
+        token.set(TrackableProperty.Tapped, true);
+        bob.set(TrackableProperty.Battlefield, new TrackableCollection<>(Arrays.asList(giant, token)));
+        sendDelta();
+        AssertJUnit.assertSame(find(copy, bob), find(copy, token).getController());
+    }
+
+    @Test
+    public void testRemovedObjects() {
+        final CardView clientGiant = find(copy, giant);
+        bob.set(TrackableProperty.Battlefield, new TrackableCollection<>());
+        alice.set(TrackableProperty.Battlefield, null);
+        source.set(TrackableProperty.Players, new TrackableCollection<>(Arrays.asList(alice)));
+        source.set(TrackableProperty.PlayerTurn, alice);
+        sendDelta();
+        AssertJUnit.assertNull(find(copy, giant));
+
+        // coming back is the same object on the client
+        bob.set(TrackableProperty.Battlefield, new TrackableCollection<>(Arrays.asList(giant)));
+        source.set(TrackableProperty.Players, new TrackableCollection<>(Arrays.asList(alice, bob)));
+        sendDelta();
+        AssertJUnit.assertSame(clientGiant, find(copy, giant));
+    }
+
+    @Test
+    public void testNothingChanged() {
+        AssertJUnit.assertEquals(0, deltaWriter.takeDelta().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends TrackableObject> T find(final GameView view, final T object) {
+        final Object[] found = new Object[1];
+        TrackableDelta.forEachReachable(view, o -> {
+            if (o.getClass() == object.getClass() && o.getId() == object.getId()) {
+                found[0] = o;
+            }
+        });
+        return (T) found[0];
+    }
+
+    /**
+     * Compares the whole graph of objects reachable from the expected value with the one from the actual value.
+     */
+    private static void assertSameView(final Object expected, final Object actual, final Map<Object, Object> compared) {
+        if (expected instanceof TrackableObject) {
+            AssertJUnit.assertNotNull(String.valueOf(expected), actual);
+            AssertJUnit.assertEquals(expected.getClass(), actual.getClass());
+            AssertJUnit.assertEquals(((TrackableObject) expected).getId(), ((TrackableObject) actual).getId());
+            if (compared.put(expected, actual) != null) {
+                return;
+            }
+            final Map<TrackableProperty, Object> expectedProps = ((TrackableObject) expected).getProps();
+            final Map<TrackableProperty, Object> actualProps = ((TrackableObject) actual).getProps();
+            AssertJUnit.assertEquals(expected + " properties", expectedProps.keySet(), actualProps.keySet());
+            for (final Map.Entry<TrackableProperty, Object> e : expectedProps.entrySet()) {
+                assertSameView(e.getValue(), actualProps.get(e.getKey()), compared);
+            }
+        } else if (expected instanceof Map) {
+            final Map<?, ?> actualMap = (Map<?, ?>) actual;
+            AssertJUnit.assertEquals(((Map<?, ?>) expected).size(), actualMap.size());
+            for (final Map.Entry<?, ?> e : ((Map<?, ?>) expected).entrySet()) {
+                AssertJUnit.assertTrue(actualMap.containsKey(e.getKey()));
+                assertSameView(e.getValue(), actualMap.get(e.getKey()), compared);
+            }
+        } else if (expected instanceof Collection) {
+            final Collection<?> actualItems = (Collection<?>) actual;
+            AssertJUnit.assertEquals(((Collection<?>) expected).size(), actualItems.size());
+            final Iterator<?> it = actualItems.iterator();
+            for (final Object item : (Collection<?>) expected) {
+                assertSameView(item, it.next(), compared);
+            }
+        } else {
+            AssertJUnit.assertEquals(expected, actual);
+        }
+    }
+}
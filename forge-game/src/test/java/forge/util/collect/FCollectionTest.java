@@ -0,0 +1,191 @@
+package forge.util.collect;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class FCollectionTest {
+
+    @Test
+    public void testKeepsOrderAndUniqueness() {
+        FCollection<String> c = new FCollection<>(new String[] {"a", "b", "c", "b"});
+        AssertJUnit.assertEquals(3, c.size());
+        AssertJUnit.assertEquals("[a, b, c]", c.toString());
+        AssertJUnit.assertEquals("b", c.get(1));
+        AssertJUnit.assertEquals("a", c.getFirst());
+        AssertJUnit.assertEquals("c", c.getLast());
+        AssertJUnit.assertFalse(c.add("a"));
+    }
+
+    @Test
+    public void testInsertMovesExistingElement() {
+        FCollection<String> c = new FCollection<>(new String[] {"a", "b", "c", "d"});
+        c.add(0, "c");
+        AssertJUnit.assertEquals("[c, a, b, d]", c.toString());
+        c.add(4, "c");
+        AssertJUnit.assertEquals("[a, b, d, c]", c.toString());
+        AssertJUnit.assertEquals(4, c.size());
+    }
+
+    @Test
+    public void testIteratorRemoveUpdatesSet() {
+        FCollection<String> c = new FCollection<>(new String[] {"a", "b", "c"});
+        Iterator<String> it = c.iterator();
+        while (it.hasNext()) {
+            if (it.next().equals("b")) {
+                it.remove();
+            }
+        }
+        AssertJUnit.assertFalse(c.contains("b"));
+        AssertJUnit.assertEquals(2, c.size());
+        AssertJUnit.assertTrue(c.add("b"));
+        AssertJUnit.assertEquals("[a, c, b]", c.toString());
+    }
+
+    @Test
+    public void testNullElement() {
+        FCollection<String> c = new FCollection<>();
+        AssertJUnit.assertTrue(c.add(null));
+        AssertJUnit.assertFalse(c.add(null));
+        AssertJUnit.assertTrue(c.contains(null));
+        AssertJUnit.assertTrue(c.remove(null));
+        AssertJUnit.assertTrue(c.isEmpty());
+    }
+
+    @Test
+    public void testSerializationRoundTrip() throws Exception {
+        FCollection<Integer> c = new FCollection<>();
+        for (int i = 20; i > 0; i--) {
+            c.add(i);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(c);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            FCollection<Integer> read = (FCollection<Integer>) in.readObject();
+            AssertJUnit.assertEquals(c.toString(), read.toString());
+            AssertJUnit.assertTrue(read.contains(7));
+            AssertJUnit.assertTrue(read.add(21));
+        }
+    }
+
+    @Test
+    public void testMatchesListAndSetUnderRandomChanges() {
+        Random r = new Random(42);
+        FCollection<Integer> c = new FCollection<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 20000; step++) {
+            Integer e = r.nextInt(200);
+            switch (r.nextInt(4)) {
+            case 0:
+            case 1:
+                AssertJUnit.assertEquals(!expected.contains(e), c.add(e));
+                if (!expected.contains(e)) {
+                    expected.add(e);
+                }
+                break;
+            case 2:
+                AssertJUnit.assertEquals(expected.remove(e), c.remove(e));
+                break;
+            default:
+                if (!expected.isEmpty()) {
+                    int i = r.nextInt(expected.size());
+                    AssertJUnit.assertEquals(expected.remove(i), c.remove(i));
+                }
+            }
+            AssertJUnit.assertEquals(expected.size(), c.size());
+            AssertJUnit.assertEquals(expected.contains(e), c.contains(e));
+        }
+        AssertJUnit.assertEquals(expected, new ArrayList<>(c));
+        AssertJUnit.assertEquals(new HashSet<>(expected), c.asSet());
+    }
+
+    /**
+     * What FCollection was made of before, a linked list next to a hash set.
+     */
+    private static final class LegacyCollection<T> {
+        private final Set<T> set = new HashSet<>();
+        private final LinkedList<T> list = new LinkedList<>();
+
+        boolean add(T e) {
+            if (set.add(e)) {
+                list.add(e);
+                return true;
+            }
+            return false;
+        }
+        boolean remove(Object o) {
+            if (set.remove(o)) {
+                list.remove(o);
+                return true;
+            }
+            return false;
+        }
+        T get(int index) {
+            return list.get(index);
+        }
+        int size() {
+            return set.size();
+        }
+    }
+
+    private static final int BENCHMARK_RUNS = 200;
+    private static final int BENCHMARK_SIZE = 100;
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkLegacyImplementation() {
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int r = 0; r < BENCHMARK_RUNS * 100; r++) {
+            LegacyCollection<Integer> c = new LegacyCollection<>();
+            for (int i = 0; i < BENCHMARK_SIZE; i++) {
+                c.add(i);
+            }
+            for (int i = 0; i < c.size(); i++) {
+                sum += c.get(i);
+            }
+            for (Integer i : c.list) {
+                sum += i;
+            }
+            for (int i = 0; i < BENCHMARK_SIZE; i += 3) {
+                c.remove(i);
+            }
+        }
+        System.out.println("[LEGACY] Time (in ms): " + (System.nanoTime() - start) / 1000000 + " (" + sum + ")");
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkNewImplementation() {
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int r = 0; r < BENCHMARK_RUNS * 100; r++) {
+            FCollection<Integer> c = new FCollection<>();
+            for (int i = 0; i < BENCHMARK_SIZE; i++) {
+                c.add(i);
+            }
+            for (int i = 0; i < c.size(); i++) {
+                sum += c.get(i);
+            }
+            for (Integer i : c) {
+                sum += i;
+            }
+            for (int i = 0; i < BENCHMARK_SIZE; i += 3) {
+                c.remove((Integer) i);
+            }
+        }
+        System.out.println("[NEW] Time (in ms): " + (System.nanoTime() - start) / 1000000 + " (" + sum + ")");
+    }
+}
@@ -22,16 +22,33 @@ public abstract class CachedCardImage implements ImageFetcher.Callback {
         this.width = width;
         this.height = height;
         if (ImageCache.isSupportedImageSize(width, height)) {
-            BufferedImage image = ImageCache.getImageNoDefault(card, viewers, width, height);
-            if (image == null) {
-                String key = card.getCurrentState().getImageKey(viewers);
-                System.err.println("Fetch due to missing key: " + key + " for " + card);
-                fetcher.fetchImage(key, this);
+            // the image file is read in the background, so a board filling up doesn't wait for the disk
+            BufferedImage image = ImageCache.getImageNoDefault(card, viewers, width, height, this::onImageLoaded);
+            String key = card.getCurrentState().getImageKey(viewers);
+            if (image == null && !ImageCache.isLoading(key)) {
+                fetchImage(key);
             }
         }
     }
 
+    private void onImageLoaded() {
+        if (ImageCache.getImageNoDefault(card, viewers, width, height) == null) {
+            fetchImage(card.getCurrentState().getImageKey(viewers));
+        } else {
+            onImageFetched();
+        }
+    }
+
+    private void fetchImage(final String key) {
+        System.err.println("Fetch due to missing key: " + key + " for " + card);
+        fetcher.fetchImage(key, this);
+    }
+
     public BufferedImage getImage() {
+        if (ImageCache.isLoading(card.getCurrentState().getImageKey(viewers))) {
+            // nothing to show until it's read, onImageFetched() follows
+            return null;
+        }
         return ImageCache.getImage(card, viewers, width, height);
     }
 
@@ -23,11 +23,16 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
 import java.io.File;
 import java.util.Calendar;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import javax.imageio.ImageIO;
@@ -38,6 +43,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.mortennobel.imagescaling.ResampleOp;
 
 import forge.card.CardSplitType;
@@ -69,6 +76,12 @@ import forge.util.TextUtil;
  * <li>Keys start with the file name, extension is skipped</li>
  * <li>The key without suffix belongs to the unmodified image from the file</li>
  * </ul>
+ * The size of the cache is capped by the memory its images take, so a few large images count as much as
+ * many small scaled ones.
+ * <p/>
+ * Views that are scrolled through, like the {@link forge.itemmanager.views.ImageView}, can pass a callback
+ * to have image files read and decoded in the background instead of on the EDT. Until an image is there
+ * they get null back, to draw a placeholder in its place, and the callback is run on the EDT once it is.
  *
  * @author Forge
  * @version $Id: ImageCache.java 25093 2014-03-08 05:36:37Z drdev $
@@ -78,9 +91,27 @@ public class ImageCache {
 
     private static final Set<String> _missingIconKeys = new HashSet<>();
     private static final LoadingCache<String, BufferedImage> _CACHE = CacheBuilder.newBuilder()
-            .maximumSize(FModel.getPreferences().getPrefInt((FPref.UI_IMAGE_CACHE_MAXIMUM)))
+            .maximumWeight(FModel.getPreferences().getPrefInt(FPref.UI_IMAGE_CACHE_MAXIMUM) * 1024L * 1024L)
+            .weigher((String key, BufferedImage image) -> getByteSize(image))
             .expireAfterAccess(15, TimeUnit.MINUTES)
             .build(new ImageLoader());
+
+    // image files are read and decoded here, so the EDT doesn't have to wait for the disk
+    private static final ExecutorService _DECODER = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), r -> {
+                final Thread t = new Thread(r, "ImageDecoder");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+    // the keys asked for whose files are being read in the background, with the callbacks to run once they are
+    // only used on the EDT
+    private static final Map<String, List<Runnable>> _pendingLoads = Maps.newHashMap();
+    // files that turned out not to be there when read in the background, they're looked up like before
+    private static final Set<String> _missingFileKeys = new HashSet<>();
+    // prefetches shouldn't pile up while scrolling fast, the images shown right away go first
+    private static final int MAX_PENDING_PREFETCHES = 64;
+    private static final Runnable PREFETCH = () -> { };
     private static final BufferedImage _defaultImage;
     static {
         BufferedImage defImage = null;
@@ -96,6 +127,7 @@ public class ImageCache {
     public static void clear() {
         _CACHE.invalidateAll();
         _missingIconKeys.clear();
+        _missingFileKeys.clear();
         ImageKeys.clearMissingCards();
     }
 
@@ -114,8 +146,15 @@ public class ImageCache {
      * Same as getImage() but returns null if the image is not available, instead of a default image.
      */
     public static BufferedImage getImageNoDefault(final CardView card, final Iterable<PlayerView> viewers, final int width, final int height) {
+        return getImageNoDefault(card, viewers, width, height, null);
+    }
+    /**
+     * Same as getImageNoDefault(), but if the image file still has to be read, it's read in the background
+     * and null is returned. onLoaded is run on the EDT once it's read, see {@link #isLoading(String)}.
+     */
+    public static BufferedImage getImageNoDefault(final CardView card, final Iterable<PlayerView> viewers, final int width, final int height, final Runnable onLoaded) {
         final String key = card.getCurrentState().getImageKey(viewers);
-        return scaleImage(key, width, height, false, card);
+        return scaleImage(key, width, height, false, card, onLoaded);
     }
 
     /**
@@ -126,7 +165,36 @@ public class ImageCache {
         return getImage(ii, width, height, false);
     }
     public static BufferedImage getImage(InventoryItem ii, int width, int height, boolean altState) {
-        return scaleImage(ii.getImageKey(altState), width, height, true, null);
+        return getImage(ii, width, height, altState, null);
+    }
+    /**
+     * Same as getImage(), but if the image file still has to be read, it's read in the background and
+     * null is returned to draw a placeholder for now. onLoaded is run on the EDT once it's read.
+     */
+    public static BufferedImage getImage(InventoryItem ii, int width, int height, boolean altState, Runnable onLoaded) {
+        return scaleImage(ii.getImageKey(altState), width, height, true, null, onLoaded);
+    }
+
+    /**
+     * Starts reading the image file of the given item in the background if it isn't in memory yet,
+     * so it can be drawn right away once it's scrolled into view.
+     */
+    public static void prefetch(InventoryItem ii, boolean altState) {
+        if (_pendingLoads.size() >= MAX_PENDING_PREFETCHES) {
+            return;
+        }
+        final String key = ii.getImageKey(altState);
+        if (StringUtils.isEmpty(key)) {
+            return;
+        }
+        getOriginalImageInternal(key, false, null, PREFETCH);
+    }
+
+    /**
+     * @return whether the image file for the given key is being read in the background.
+     */
+    public static boolean isLoading(String imageKey) {
+        return _pendingLoads.containsKey(imageKey);
     }
 
     /**
@@ -155,19 +223,21 @@ public class ImageCache {
      *
      */
     public static BufferedImage getOriginalImage(String imageKey, boolean useDefaultIfNotFound, CardView cardView) {
-        return getOriginalImageInternal(imageKey, useDefaultIfNotFound, cardView).getLeft();
+        return getOriginalImageInternal(imageKey, useDefaultIfNotFound, cardView, null).getLeft();
     }
 
     public static Pair<BufferedImage, Boolean> getCardOriginalImageInfo(String imageKey, boolean useDefaultIfNotFound) {
-        return getOriginalImageInternal(imageKey, useDefaultIfNotFound, null);
+        return getOriginalImageInternal(imageKey, useDefaultIfNotFound, null, null);
     }
 
     // return the pair of image and a flag to indicate if it is a placeholder image.
+    // with onLoaded the image file isn't read here, but in the background if needed, and null is returned meanwhile
     private static Pair<BufferedImage, Boolean> getOriginalImageInternal(String imageKey, boolean useDefaultIfNotFound,
-                                                                         CardView cardView) {
+                                                                         CardView cardView, Runnable onLoaded) {
         if (null == imageKey) {
             return Pair.of(null, false);
         }
+        final String requestedKey = imageKey;
 
         IPaperCard ipc = null;
         boolean altState = imageKey.endsWith(ImageKeys.BACKFACE_POSTFIX);
@@ -231,6 +301,15 @@ public class ImageCache {
             imageKey = TextUtil.fastReplace(imageKey, ".full", ".artcrop");
         }
 
+        if (onLoaded != null && !isRead(imageKey)) {
+            loadInBackground(requestedKey, imageKey, onLoaded);
+            return Pair.of(null, false);
+        }
+        if (onLoaded == PREFETCH) {
+            // the file is read, the rest is done once the image is drawn
+            return Pair.of(null, false);
+        }
+
         // Load from file and add to cache if not found in cache initially.
         BufferedImage original = getImage(imageKey);
 
@@ -335,6 +414,10 @@ public class ImageCache {
 
     // cardView is for Emblem, since there is no paper card for them
     public static BufferedImage scaleImage(String key, final int width, final int height, boolean useDefaultImage, CardView cardView) {
+        return scaleImage(key, width, height, useDefaultImage, cardView, null);
+    }
+    // with onLoaded, null is returned while the image file is read in the background, see getImage
+    public static BufferedImage scaleImage(String key, final int width, final int height, boolean useDefaultImage, CardView cardView, Runnable onLoaded) {
         if (StringUtils.isEmpty(key) || !isSupportedImageSize(width, height)) {
             // picture too small or key not defined; return a blank
             return null;
@@ -347,7 +430,7 @@ public class ImageCache {
             return cached;
         }
 
-        Pair<BufferedImage, Boolean> orgImgs = getOriginalImageInternal(key, useDefaultImage, cardView);
+        Pair<BufferedImage, Boolean> orgImgs = getOriginalImageInternal(key, useDefaultImage, cardView, onLoaded);
         BufferedImage original = orgImgs.getLeft();
         boolean isPlaceholder = orgImgs.getRight();
         if (original == null) { return null; }
@@ -431,6 +514,54 @@ public class ImageCache {
         }
     }
 
+    /**
+     * @return whether the image file for the given key was already read, or found missing, so getting it
+     * won't make the EDT wait for the disk.
+     */
+    private static boolean isRead(final String key) {
+        return _CACHE.getIfPresent(key) != null || _missingFileKeys.contains(key)
+                || isPreferenceEnabled(ForgePreferences.FPref.UI_DISABLE_CARD_IMAGES);
+    }
+
+    private static void loadInBackground(final String requestedKey, final String key, final Runnable onLoaded) {
+        List<Runnable> callbacks = _pendingLoads.get(requestedKey);
+        if (callbacks == null) {
+            callbacks = Lists.newArrayList();
+            _pendingLoads.put(requestedKey, callbacks);
+            // the file is looked up here, only reading and decoding it is left to the decoder threads
+            final File file = ImageLoader.getFile(key);
+            _DECODER.submit(() -> {
+                BufferedImage image = null;
+                try {
+                    image = ImageLoader.read(file);
+                } catch (final RuntimeException ex) {
+                    ex.printStackTrace();
+                }
+                if (image != null) {
+                    _CACHE.put(key, image);
+                }
+                final boolean found = image != null;
+                FThreads.invokeInEdtLater(() -> {
+                    if (!found) {
+                        _missingFileKeys.add(key);
+                    }
+                    for (final Runnable r : _pendingLoads.remove(requestedKey)) {
+                        r.run();
+                    }
+                });
+            });
+        }
+        if (onLoaded != PREFETCH && !callbacks.contains(onLoaded)) {
+            callbacks.add(onLoaded);
+        }
+    }
+
+    private static int getByteSize(final BufferedImage image) {
+        // subimages share the buffer of the image they're cut from, that's counted in full
+        final DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (int) Math.min(Integer.MAX_VALUE, (long) buffer.getSize() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8);
+    }
+
     private static boolean isPreferenceEnabled(final ForgePreferences.FPref preferenceName) {
         return FModel.getPreferences().getPrefBoolean(preferenceName);
     }
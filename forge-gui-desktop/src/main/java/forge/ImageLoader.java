@@ -15,10 +15,24 @@ import java.io.IOException;
 final class ImageLoader extends CacheLoader<String, BufferedImage> {
     @Override
     public BufferedImage load(String key) {
+        return read(getFile(key));
+    }
+
+    /**
+     * Looks up the image file for the given key. ImageKeys keeps what it found in caches that aren't
+     * thread-safe, so this mustn't be called from the background decoder threads.
+     */
+    static File getFile(String key) {
         if (FModel.getPreferences().getPrefBoolean(ForgePreferences.FPref.UI_DISABLE_CARD_IMAGES))
             return null;
 
-        File file = ImageKeys.getImageFile(key);
+        return ImageKeys.getImageFile(key);
+    }
+
+    /**
+     * Reads and decodes an image file, this doesn't touch any shared state so it can be done on any thread.
+     */
+    static BufferedImage read(File file) {
         if (file != null) {
             if (!file.exists()) {
                 return null;
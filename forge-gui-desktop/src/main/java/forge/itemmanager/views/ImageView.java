@@ -986,6 +986,8 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
     @SuppressWarnings("serial")
     private class CardViewDisplay extends JPanel implements ILocalRepaint {
         boolean showRanking = false;
+        // images are read in the background while scrolling, and drawn once they're there
+        private final Runnable imageLoaded = this::repaintSelf;
         private CardViewDisplay() {
             setOpaque(false);
             setFocusable(true);
@@ -1117,11 +1119,44 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
                 }
             }
 
+            prefetchItemImages(visibleBottom, visibleBottom + visibleSize.height);
+
             if (lockInput) { //unlock input after repaint finishes if needed
                 SwingUtilities.invokeLater(() -> lockInput = false);
             }
         }
 
+        // read the images of the next page in the background, so they're there when it's scrolled to
+        private void prefetchItemImages(final int top, final int bottom) {
+            for (Group group : groups) {
+                if (group.items.isEmpty() || group.isCollapsed || group.getBottom() < top) {
+                    continue;
+                }
+                if (group.getTop() >= bottom) {
+                    break;
+                }
+                for (Pile pile : group.piles) {
+                    if (pile.getBottom() < top) {
+                        continue;
+                    }
+                    if (pile.getTop() >= bottom) {
+                        break;
+                    }
+                    for (ItemInfo itemInfo : pile.items) {
+                        if (itemInfo.getBottom() < top) {
+                            continue;
+                        }
+                        if (itemInfo.getTop() >= bottom) {
+                            break;
+                        }
+                        if (itemInfo.item instanceof IPaperCard) {
+                            ImageCache.prefetch(itemInfo.item, false);
+                        }
+                    }
+                }
+            }
+        }
+
         private void drawItemImage(Graphics2D g, ItemInfo itemInfo) {
             Rectangle bounds = itemInfo.getBounds();
             final int itemWidth = bounds.width;
@@ -1159,7 +1194,7 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
             final int drawHeight = bounds.height - 2 * borderSize;
             final int imageWidth = Math.round(drawWidth * screenScale);
             final int imageHeight = Math.round(drawHeight * screenScale);
-            BufferedImage img = ImageCache.getImage(item, imageWidth, imageHeight, itemInfo.alt);
+            BufferedImage img = ImageCache.getImage(item, imageWidth, imageHeight, itemInfo.alt, imageLoaded);
 
             if (img != null) {
                 g.drawImage(img, drawX, drawY, drawWidth, drawHeight, null);
@@ -1180,7 +1215,7 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
                         int scale = CardFaceSymbols.getHeight() * cornerSize/8;
                         int scaleArt = CardFaceSymbols.getHeight() * cornerSize/7;
 
-                        BufferedImage cardImage = ImageCache.scaleImage(deckImageKey, bounds.width, bounds.height, false, null);
+                        BufferedImage cardImage = ImageCache.scaleImage(deckImageKey, bounds.width, bounds.height, false, null, imageLoaded);
 
                         if (cardImage == null) {
                             //draw generic box
@@ -126,6 +126,7 @@ import forge.toolbox.imaging.FImageUtil;
 import forge.toolbox.special.PhaseIndicator;
 import forge.toolbox.special.PhaseLabel;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import forge.util.ITriggerEvent;
 import forge.util.Localizer;
 import forge.util.collect.FCollection;
@@ -220,7 +221,17 @@ public final class CMatchUI
     @Override
     public void setGameView(GameView gameView0) {
         super.setGameView(gameView0);
-        gameView0 = getGameView(); //ensure updated game view used for below logic
+        refreshGameView();
+    }
+
+    @Override
+    public void applyGameViewDelta(final TrackableDelta delta) {
+        super.applyGameViewDelta(delta);
+        refreshGameView();
+    }
+
+    private void refreshGameView() {
+        final GameView gameView0 = getGameView();
         if (gameView0 == null) { return; }
 
         cDetailPicture.setGameView(gameView0);
@@ -5,14 +5,22 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.ObjIntConsumer;
 
 import org.apache.commons.lang3.time.StopWatch;
 
 import forge.LobbyPlayer;
+import forge.ai.AiDecisionProfiler;
 import forge.deck.Deck;
 import forge.deck.DeckGroup;
 import forge.deck.io.DeckSerializer;
@@ -20,6 +28,7 @@ import forge.game.Game;
 import forge.game.GameEndReason;
 import forge.game.GameLogEntry;
 import forge.game.GameLogEntryType;
+import forge.game.GameOutcome;
 import forge.game.GameRules;
 import forge.game.GameType;
 import forge.game.Match;
@@ -86,6 +95,14 @@ public class SimulateMatch {
 
         boolean outputGamelog = !params.containsKey("q");
 
+        boolean profileAi = params.containsKey("a");
+        AiDecisionProfiler.setEnabled(profileAi);
+
+        int threads = 1;
+        if (params.containsKey("j")) {
+            threads = Math.max(1, Integer.parseInt(params.get("j").get(0)));
+        }
+
         GameType type = GameType.Constructed;
         if (params.containsKey("f")) {
             type = GameType.valueOf(WordUtil.capitalize(params.get("f").get(0)));
@@ -99,16 +116,17 @@ public class SimulateMatch {
         }
 
         if (params.containsKey("t")) {
-            simulateTournament(params, rules, outputGamelog);
+            simulateTournament(params, rules, outputGamelog, threads);
+            if (profileAi) {
+                System.out.println(AiDecisionProfiler.report());
+            }
             System.out.flush();
             return;
         }
 
-        List<RegisteredPlayer> pp = new ArrayList<>();
+        List<Deck> decks = new ArrayList<>();
         StringBuilder sb = new StringBuilder();
 
-        int i = 1;
-
         if (params.containsKey("d")) {
             for (String deck : params.get("d")) {
                 Deck d = deckFromCommandLineParameter(deck, type);
@@ -116,22 +134,11 @@ public class SimulateMatch {
                     System.out.println(TextUtil.concatNoSpace("Could not load deck - ", deck, ", match cannot start"));
                     return;
                 }
-                if (i > 1) {
+                if (!decks.isEmpty()) {
                     sb.append(" vs ");
                 }
-                String name = TextUtil.concatNoSpace("Ai(", String.valueOf(i), ")-", d.getName());
-                sb.append(name);
-
-                RegisteredPlayer rp;
-
-                if (type.equals(GameType.Commander)) {
-                    rp = RegisteredPlayer.forCommander(d);
-                } else {
-                    rp = new RegisteredPlayer(d);
-                }
-                rp.setPlayer(GamePlayerUtil.createAiPlayer(name, i - 1));
-                pp.add(rp);
-                i++;
+                decks.add(d);
+                sb.append(getAiName(decks.size(), d));
             }
         }
 
@@ -139,26 +146,140 @@ public class SimulateMatch {
 
         System.out.println(sb.toString());
 
-        Match mc = new Match(rules, pp, "Test");
-
         if (matchSize != 0) {
+            // the games of a match depend on the previous ones, so they are always played in turn
+            Match mc = new Match(rules, registerPlayers(decks, type), "Test");
             int iGame = 0;
             while (!mc.isMatchOver()) {
                 // play games until the match ends
                 simulateSingleMatch(mc, iGame, outputGamelog);
                 iGame++;
             }
+        } else if (threads > 1) {
+            simulateIndependentGames(decks, rules, nGames, outputGamelog, threads);
         } else {
+            Match mc = new Match(rules, registerPlayers(decks, type), "Test");
             for (int iGame = 0; iGame < nGames; iGame++) {
                 simulateSingleMatch(mc, iGame, outputGamelog);
             }
         }
 
+        if (profileAi) {
+            System.out.println(AiDecisionProfiler.report());
+        }
         System.out.flush();
     }
 
+    private static String getAiName(int index, Deck d) {
+        return TextUtil.concatNoSpace("Ai(", String.valueOf(index), ")-", d.getName());
+    }
+
+    private static List<RegisteredPlayer> registerPlayers(List<Deck> decks, GameType type) {
+        List<RegisteredPlayer> pp = new ArrayList<>();
+        int i = 1;
+        for (Deck d : decks) {
+            RegisteredPlayer rp;
+
+            if (type.equals(GameType.Commander)) {
+                rp = RegisteredPlayer.forCommander(d);
+            } else {
+                rp = new RegisteredPlayer(d);
+            }
+            rp.setPlayer(GamePlayerUtil.createAiPlayer(getAiName(i, d), i - 1));
+            pp.add(rp);
+            i++;
+        }
+        return pp;
+    }
+
+    /**
+     * Plays games that don't depend on each other on several threads, each in a match of its own.
+     * The output of every game and the totals are printed in game order whatever order they finish in.
+     */
+    private static void simulateIndependentGames(List<Deck> decks, GameRules rules, int nGames, boolean outputGamelog, int threads) {
+        List<Callable<SimulatedGame>> games = new ArrayList<>();
+        for (int iGame = 0; iGame < nGames; iGame++) {
+            final int n = iGame;
+            games.add(() -> {
+                Match mc = new Match(rules, registerPlayers(decks, rules.getGameType()), "Test");
+                StringBuilder out = new StringBuilder();
+                Game game = simulateSingleMatch(mc, n, outputGamelog, out);
+                return new SimulatedGame(out.toString(), game.getOutcome());
+            });
+        }
+
+        Map<String, Integer> wins = new LinkedHashMap<>();
+        for (int i = 0; i < decks.size(); i++) {
+            wins.put(getAiName(i + 1, decks.get(i)), 0);
+        }
+        int[] draws = {0};
+        runInOrder(games, threads, (game, i) -> {
+            System.out.print(game.output);
+            if (game.outcome == null || game.outcome.isDraw()) {
+                draws[0]++;
+            } else {
+                wins.merge(game.outcome.getWinningLobbyPlayer().getName(), 1, Integer::sum);
+            }
+        });
+
+        System.out.println("Totals:");
+        for (Map.Entry<String, Integer> e : wins.entrySet()) {
+            System.out.println(TextUtil.concatNoSpace(e.getKey(), " won ", Lang.nounWithNumeral(e.getValue(), "game")));
+        }
+        System.out.println(TextUtil.concatNoSpace("Draws: ", String.valueOf(draws[0])));
+    }
+
+    /**
+     * Runs the tasks on the given number of threads and hands their results, with the index of their task,
+     * to the consumer in the order of the tasks.
+     */
+    private static <T> void runInOrder(List<Callable<T>> tasks, int threads, ObjIntConsumer<T> consumer) {
+        if (threads <= 1) {
+            for (int i = 0; i < tasks.size(); i++) {
+                consumer.accept(getResult(tasks.get(i)), i);
+            }
+            return;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<T>> results = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                results.add(pool.submit(() -> getResult(task)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                consumer.accept(results.get(i).get(), i);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static <T> T getResult(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class SimulatedGame {
+        private final String output;
+        private final GameOutcome outcome;
+
+        private SimulatedGame(String output, GameOutcome outcome) {
+            this.output = output;
+            this.outcome = outcome;
+        }
+    }
+
     private static void argumentHelp() {
-        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -q");
+        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -j [J] -q -a");
         System.out.println("\tsim - stands for simulation mode");
         System.out.println("\tdeck1 (or deck2,...,X) - constructed deck name or filename (has to be quoted when contains multiple words)");
         System.out.println("\tdeck is treated as file if it ends with a dot followed by three numbers or letters");
@@ -168,14 +289,23 @@ public class SimulateMatch {
         System.out.println("\tT - Type of tournament to run with all provided decks (Bracket, RoundRobin, Swiss)");
         System.out.println("\tP - Amount of players per match (used only with Tournaments, defaults to 2)");
         System.out.println("\tF - format of games, defaults to constructed");
+        System.out.println("\tJ - number of games or tournament matches to play at the same time, defaults to 1 (Ignored for a single match)");
         System.out.println("\tq - Quiet flag. Output just the game result, not the entire game log.");
+        System.out.println("\ta - AI profiling flag. Time the decisions of the AI and output where the time went after the last game.");
     }
 
     public static void simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog) {
+        final StringBuilder out = new StringBuilder();
+        simulateSingleMatch(mc, iGame, outputGamelog, out);
+        System.out.print(out);
+    }
+
+    private static Game simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog, final StringBuilder out) {
         final StopWatch sw = new StopWatch();
         sw.start();
 
         final Game g1 = mc.createGame();
+        g1.setHeadless(true);
         // will run match in the same thread
         try {
             TimeLimitedCodeBlock.runWithTimeout(() -> {
@@ -183,7 +313,7 @@ public class SimulateMatch {
                 sw.stop();
             }, 120, TimeUnit.SECONDS);
         } catch (TimeoutException e) {
-            System.out.println("Stopping slow match as draw");
+            out.append("Stopping slow match as draw").append(System.lineSeparator());
         } catch (Exception | StackOverflowError e) {
             e.printStackTrace();
         } finally {
@@ -203,20 +333,21 @@ public class SimulateMatch {
         }
         Collections.reverse(log);
         for (GameLogEntry l : log) {
-            System.out.println(l);
+            out.append(l).append(System.lineSeparator());
         }
 
         // If both players life totals to 0 in a single turn, the game should end in a draw
         if (g1.getOutcome().isDraw()) {
-            System.out.printf("\nGame Result: Game %d ended in a Draw! Took %d ms.%n", 1 + iGame, sw.getTime());
+            out.append(String.format("\nGame Result: Game %d ended in a Draw! Took %d ms.%n", 1 + iGame, sw.getTime()));
         } else {
-            System.out.printf("\nGame Result: Game %d ended in %d ms. %s has won!\n%n", 1 + iGame, sw.getTime(), g1.getOutcome().getWinningLobbyPlayer().getName());
+            out.append(String.format("\nGame Result: Game %d ended in %d ms. %s has won!\n%n", 1 + iGame, sw.getTime(), g1.getOutcome().getWinningLobbyPlayer().getName()));
         }
+        return g1;
     }
 
-    private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog) {
+    private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog, int threads) {
         String tournament = params.get("t").get(0);
-        AbstractTournament tourney = null;
+        final AbstractTournament tourney;
         int matchPlayers = params.containsKey("p") ? Integer.parseInt(params.get("p").get(0)) : 2;
 
         DeckGroup deckGroup = new DeckGroup("SimulatedTournament");
@@ -267,6 +398,8 @@ public class SimulateMatch {
             tourney = new TournamentRoundRobin(players, matchPlayers);
         } else if ("swiss".equalsIgnoreCase(tournament)) {
             tourney = new TournamentSwiss(players, matchPlayers);
+        } else {
+            tourney = null;
         }
         if (tourney == null) {
             System.out.println("Failed to initialize tournament, bailing out");
@@ -275,7 +408,6 @@ public class SimulateMatch {
 
         tourney.initializeTournament();
 
-        String lastWinner = "";
         int curRound = 0;
         System.out.println(TextUtil.concatNoSpace("Starting a ", tournament, " tournament with ",
                 String.valueOf(numPlayers), " players over ",
@@ -295,51 +427,68 @@ public class SimulateMatch {
                 System.out.println();
             }
 
-            TournamentPairing pairing = tourney.getNextPairing();
-            List<RegisteredPlayer> regPlayers = AbstractTournament.registerTournamentPlayers(pairing, deckGroup);
-
-            StringBuilder sb = new StringBuilder();
-            sb.append("Round ").append(tourney.getActiveRound()).append(" - ");
-            sb.append(pairing.outputHeader());
-            System.out.println(sb.toString());
-
-            if (!pairing.isBye()) {
-                Match mc = new Match(rules, regPlayers, "TourneyMatch");
-
-                int exceptions = 0;
-                int iGame = 0;
-                while (!mc.isMatchOver()) {
-                    // play games until the match ends
-                    try {
-                        simulateSingleMatch(mc, iGame, outputGamelog);
-                        iGame++;
-                    } catch (Exception e) {
-                        exceptions++;
-                        System.out.println(e.toString());
-                        if (exceptions > 5) {
-                            System.out.println("Exceeded number of exceptions thrown. Abandoning match...");
+            // the matches of a round don't depend on each other, results are still reported in pairing order
+            List<TournamentPairing> pairings = new ArrayList<>(tourney.getActivePairings());
+            int round = tourney.getActiveRound();
+            List<Callable<LobbyPlayer>> matches = new ArrayList<>();
+            List<StringBuilder> outputs = new ArrayList<>();
+            for (TournamentPairing pairing : pairings) {
+                List<RegisteredPlayer> regPlayers = AbstractTournament.registerTournamentPlayers(pairing, deckGroup);
+                StringBuilder out = new StringBuilder();
+                outputs.add(out);
+                matches.add(() -> simulateTournamentMatch(round, pairing, regPlayers, rules, outputGamelog, out));
+            }
+
+            runInOrder(matches, threads, (winner, i) -> {
+                TournamentPairing pairing = pairings.get(i);
+                System.out.print(outputs.get(i));
+                if (winner != null) {
+                    for (TournamentPlayer tp : pairing.getPairedPlayers()) {
+                        if (winner.equals(tp.getPlayer())) {
+                            pairing.setWinner(tp);
+                            System.out.println(TextUtil.concatNoSpace("Match Winner - ", winner.getName(), "!"));
+                            System.out.println();
                             break;
-                        } else {
-                            System.out.println("Game threw exception. Abandoning game and continuing...");
                         }
                     }
-
                 }
-                LobbyPlayer winner = mc.getWinner().getPlayer();
-                for (TournamentPlayer tp : pairing.getPairedPlayers()) {
-                    if (winner.equals(tp.getPlayer())) {
-                        pairing.setWinner(tp);
-                        lastWinner = winner.getName();
-                        System.out.println(TextUtil.concatNoSpace("Match Winner - ", lastWinner, "!"));
-                        System.out.println();
-                        break;
-                    }
+
+                tourney.reportMatchCompletion(pairing);
+            });
+        }
+        tourney.outputTournamentResults();
+    }
+
+    private static LobbyPlayer simulateTournamentMatch(int round, TournamentPairing pairing, List<RegisteredPlayer> regPlayers,
+            GameRules rules, boolean outputGamelog, StringBuilder out) {
+        out.append("Round ").append(round).append(" - ");
+        out.append(pairing.outputHeader()).append(System.lineSeparator());
+
+        if (pairing.isBye()) {
+            return null;
+        }
+        Match mc = new Match(rules, regPlayers, "TourneyMatch");
+
+        int exceptions = 0;
+        int iGame = 0;
+        while (!mc.isMatchOver()) {
+            // play games until the match ends
+            try {
+                simulateSingleMatch(mc, iGame, outputGamelog, out);
+                iGame++;
+            } catch (Exception e) {
+                exceptions++;
+                out.append(e).append(System.lineSeparator());
+                if (exceptions > 5) {
+                    out.append("Exceeded number of exceptions thrown. Abandoning match...").append(System.lineSeparator());
+                    break;
+                } else {
+                    out.append("Game threw exception. Abandoning game and continuing...").append(System.lineSeparator());
                 }
             }
 
-            tourney.reportMatchCompletion(pairing);
         }
-        tourney.outputTournamentResults();
+        return mc.getWinner().getPlayer();
     }
 
     public static Match simulateOffthreadGame(List<Deck> decks, GameType format, int games) {
@@ -13,6 +13,13 @@ import java.util.concurrent.TimeoutException;
  */
 public class TimeLimitedCodeBlock {
 
+    // threads are reused from one call to the next, they are daemons so an abandoned task doesn't keep the JVM alive
+    private static final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        final Thread t = new Thread(r, "TimeLimitedCodeBlock");
+        t.setDaemon(true);
+        return t;
+    });
+
     public static void runWithTimeout(final Runnable runnable, long timeout, TimeUnit timeUnit) throws Exception {
         runWithTimeout(() -> {
             runnable.run();
@@ -21,9 +28,7 @@ public class TimeLimitedCodeBlock {
     }
 
     public static <T> T runWithTimeout(Callable<T> callable, long timeout, TimeUnit timeUnit) throws Exception {
-        final ExecutorService executor = Executors.newSingleThreadExecutor();
         final Future<T> future = executor.submit(callable);
-        executor.shutdown(); // This does not cancel the already-scheduled task.
         try {
             return future.get(timeout, timeUnit);
         }
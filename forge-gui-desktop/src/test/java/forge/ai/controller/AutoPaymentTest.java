@@ -1,11 +1,13 @@
 package forge.ai.controller;
 
+import forge.ai.ComputerUtilMana;
 import forge.ai.simulation.GameSimulator;
 import forge.ai.simulation.SimulationTest;
 import forge.game.Game;
 import forge.game.card.Card;
 import forge.game.phase.PhaseType;
 import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
 import forge.game.zone.ZoneType;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
@@ -82,4 +84,25 @@ public class AutoPaymentTest extends SimulationTest {
         Card treasureCopy = findCardWithName(simGame, "Treasure Token");
         AssertJUnit.assertNull(treasureCopy);
     }
+
+    @Test
+    public void payEachShardWithItsOwnSource() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+
+        addCard("Tundra", p);
+        Card charm = addCardToZone("Azorius Charm", p, ZoneType.Hand);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+
+        SpellAbility sa = charm.getFirstSpellAbility();
+        sa.setActivatingPlayer(p);
+
+        // the land can pay for either shard, but not for both
+        AssertJUnit.assertFalse(ComputerUtilMana.canPayManaCost(sa, p, 0, false));
+
+        addCard("Plains", p);
+        AssertJUnit.assertTrue(ComputerUtilMana.canPayManaCost(sa, p, 0, false));
+    }
 }
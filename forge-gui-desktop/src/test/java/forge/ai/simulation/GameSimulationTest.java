@@ -7,14 +7,20 @@ import org.testng.annotations.Test;
 
 import com.google.common.collect.Lists;
 
+import forge.ai.AiBlockController;
+import forge.ai.AiCombatPredictions;
 import forge.ai.ComputerUtilAbility;
+import forge.ai.ComputerUtilCombat;
+import forge.ai.LobbyPlayerAi;
 import forge.card.CardStateName;
 import forge.card.MagicColor;
 import forge.game.Game;
+import forge.game.ability.AbilityUtils;
 import forge.game.ability.ApiType;
 import forge.game.card.Card;
 import forge.game.card.CardCollection;
 import forge.game.card.CounterEnumType;
+import forge.game.combat.Combat;
 import forge.game.keyword.Keyword;
 import forge.game.phase.PhaseType;
 import forge.game.player.Player;
@@ -2548,4 +2554,77 @@ public class GameSimulationTest extends SimulationTest {
         // spell should fizzle so no card was drawn
         AssertJUnit.assertEquals(0, game.getPlayers().get(0).getCardsIn(ZoneType.Hand).size());
     }
+
+    @Test
+    public void testCombatPredictionsFollowBlocks() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+
+        Card attacker1 = addCard("Grizzly Bears", p);
+        attacker1.setSickness(false);
+        Card attacker2 = addCard("Grizzly Bears", p);
+        attacker2.setSickness(false);
+        Card blocker = addCard("Centaur Courser", opponent);
+
+        game.getPhaseHandler().devModeSet(PhaseType.COMBAT_DECLARE_ATTACKERS, p);
+        Combat combat = new Combat(p);
+        combat.addAttacker(attacker1, opponent);
+        combat.addAttacker(attacker2, opponent);
+        game.getPhaseHandler().setCombat(combat);
+        game.getAction().checkStateEffects(true);
+
+        AiCombatPredictions.open(game);
+        try {
+            AssertJUnit.assertFalse(ComputerUtilCombat.canDestroyBlocker(opponent, blocker, attacker1, combat, false));
+            // blocking the other bear as well is enough to die, which fires no event
+            combat.addBlocker(attacker2, blocker);
+            AssertJUnit.assertTrue(ComputerUtilCombat.canDestroyBlocker(opponent, blocker, attacker1, combat, false));
+        } finally {
+            AiCombatPredictions.close();
+        }
+    }
+
+    @Test
+    public void testBlockSearchGangsUpOnAttacker() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        Player opponent = game.getPlayers().get(0);
+        // the experimental profile searches for the best blocks
+        ((LobbyPlayerAi) opponent.getLobbyPlayer()).setAiProfile("Experimental");
+
+        Card attacker = addCard("Hill Giant", p);
+        attacker.setSickness(false);
+        Card blocker1 = addCard("Grizzly Bears", opponent);
+        Card blocker2 = addCard("Grizzly Bears", opponent);
+
+        game.getPhaseHandler().devModeSet(PhaseType.COMBAT_DECLARE_ATTACKERS, p);
+        Combat combat = new Combat(p);
+        combat.addAttacker(attacker, opponent);
+        game.getPhaseHandler().setCombat(combat);
+        game.getAction().checkStateEffects(true);
+
+        new AiBlockController(opponent, false).assignBlockersForCombat(combat);
+
+        // losing one of the bears is worth killing the giant and taking no damage
+        CardCollection blockers = combat.getBlockers(attacker);
+        AssertJUnit.assertEquals(2, blockers.size());
+        AssertJUnit.assertTrue(blockers.contains(blocker1) && blockers.contains(blocker2));
+    }
+
+    @Test
+    public void testCountNamedCardnameForDifferentCards() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+
+        Card bear = addCard("Grizzly Bears", p);
+        addCard("Grizzly Bears", p);
+        Card elves = addCard("Llanowar Elves", p);
+
+        // the same text is parsed once for both cards, CARDNAME has to stay a placeholder
+        String count = "Count$NamedYouCtrl.CARDNAME";
+        AssertJUnit.assertEquals(2, AbilityUtils.xCount(bear, count, bear.getFirstSpellAbility()));
+        AssertJUnit.assertEquals(1, AbilityUtils.xCount(elves, count, elves.getFirstSpellAbility()));
+        AssertJUnit.assertEquals(2, AbilityUtils.xCount(bear, count, bear.getFirstSpellAbility()));
+    }
 }
@@ -36,6 +36,8 @@ import forge.localinstance.properties.ForgePreferences;
 import forge.localinstance.skin.FSkinProp;
 import forge.model.FModel;
 import forge.player.PlayerControllerHuman;
+import forge.trackable.TrackableDelta;
+import forge.trackable.TrackableDeltaReader;
 import forge.trackable.TrackableTypes;
 import forge.util.Localizer;
 
@@ -104,6 +106,7 @@ public abstract class AbstractGuiGame implements IGuiGame, IMayViewCards {
     protected abstract void updateCurrentPlayer(PlayerView player);
 
     private GameView gameView = null;
+    private TrackableDeltaReader deltaReader = null;
 
     public final GameView getGameView() {
         return gameView;
@@ -116,12 +119,27 @@ public abstract class AbstractGuiGame implements IGuiGame, IMayViewCards {
                 gameView0.updateObjLookup();
             }
             gameView = gameView0;
+            deltaReader = null;
             return;
         }
 
         //if game view set to another instance without being first cleared,
         //update existing game view object instead of overwriting it
         gameView.copyChangedProps(gameView0);
+        if (deltaReader != null) {
+            deltaReader.reset();
+        }
+    }
+
+    @Override
+    public void applyGameViewDelta(final TrackableDelta delta) {
+        if (gameView == null) {
+            return;
+        }
+        if (deltaReader == null) {
+            deltaReader = new TrackableDeltaReader(gameView);
+        }
+        deltaReader.apply(delta);
     }
 
     public final IGameController getGameController() {
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -50,6 +51,7 @@ public abstract class GameLobby implements IHasGameType {
 
     private final boolean allowNetworking;
     private HostedMatch hostedMatch;
+    private Executor gameExecutor;
     private final HashMap<LobbySlot, IGameController> gameControllers = Maps.newHashMap();
     protected GameLobby(final boolean allowNetworking) {
         this.allowNetworking = allowNetworking;
@@ -63,6 +65,11 @@ public abstract class GameLobby implements IHasGameType {
         return hostedMatch != null && hostedMatch.isMatchOver() == false;
     }
 
+    /** Games started from this lobby run on the given executor, see {@link HostedMatch#setGameExecutor}. */
+    public void setGameExecutor(final Executor gameExecutor) {
+        this.gameExecutor = gameExecutor;
+    }
+
     public void setListener(final IUpdateable listener) {
         this.listener = listener;
     }
@@ -530,6 +537,7 @@ public abstract class GameLobby implements IHasGameType {
         //if above checks succeed, return runnable that can be used to finish starting game
         return () -> {
             hostedMatch = GuiBase.getInterface().hostMatch();
+            hostedMatch.setGameExecutor(gameExecutor);
             hostedMatch.startMatch(GameType.Constructed, variantTypes, players, guis);
 
             for (final Player p : hostedMatch.getGame().getPlayers()) {
@@ -43,6 +43,7 @@ import forge.util.maps.MapOfLists;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.Map.Entry;
 
 public class HostedMatch {
@@ -53,6 +54,7 @@ public class HostedMatch {
     public HashMap<LobbySlot, IGameController> gameControllers = null;
     private Runnable startGameHook = null;
     private Runnable endGameHook = null;
+    private Executor gameExecutor = null;
     private final List<PlayerControllerHuman> humanControllers = Lists.newArrayList();
     private Map<RegisteredPlayer, IGuiGame> guis;
     private int humanCount;
@@ -68,6 +70,8 @@ public class HostedMatch {
         startGameHook = hook;
     }
     public void setEndGameHook(Runnable hook) { endGameHook = hook; }
+    /** Runs the games of this match on the given executor instead of the shared game thread pool. */
+    public void setGameExecutor(Executor executor) { gameExecutor = executor; }
 
     private static GameRules getDefaultRules(final GameType gameType) {
         final GameRules gameRules = new GameRules(gameType);
@@ -245,7 +249,7 @@ public class HostedMatch {
 
         // It's important to run match in a different thread to allow GUI inputs to be invoked from inside game. 
         // Game is set on pause while gui player takes decisions
-        game.getAction().invoke(() -> {
+        runInGameThread(() -> {
             if (humanCount == 0) {
                 // Create FControlGamePlayback in game thread to allow pausing
                 playbackControl = new FControlGamePlayback(humanControllers.get(0));
@@ -272,6 +276,14 @@ public class HostedMatch {
         });
     }
 
+    private void runInGameThread(final Runnable proc) {
+        if (gameExecutor != null) {
+            gameExecutor.execute(proc);
+        } else {
+            game.getAction().invoke(proc);
+        }
+    }
+
     private LobbySlot getLobbySlot(LobbyPlayer lobbyPlayer) {
         for (LobbySlot key: gameControllers.keySet()) {
             IGameController value = gameControllers.get(key);
@@ -8,11 +8,19 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.serialization.ClassResolver;
 import net.jpountz.lz4.LZ4BlockInputStream;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
 
 public class CompatibleObjectDecoder extends LengthFieldBasedFrameDecoder {
     private final ClassResolver classResolver;
+    private final int maxObjectSize;
+    private final ProtocolReader reader;
+    private LZ4FastDecompressor decompressor;
+    private byte[] frameBytes = new byte[0];
+    private byte[] rawBytes = new byte[0];
 
     public CompatibleObjectDecoder(ClassResolver classResolver) {
         this(1048576, classResolver);
@@ -21,6 +29,14 @@ public class CompatibleObjectDecoder extends LengthFieldBasedFrameDecoder {
     public CompatibleObjectDecoder(int maxObjectSize, ClassResolver classResolver) {
         super(maxObjectSize, 0, 4, 0, 4);
         this.classResolver = classResolver;
+        this.maxObjectSize = maxObjectSize;
+        this.reader = new ProtocolReader(classResolver);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        ctx.writeAndFlush(CompatibleObjectEncoder.BINARY_CODEC_HELLO);
+        super.channelActive(ctx);
     }
 
     @Override
@@ -29,6 +45,19 @@ public class CompatibleObjectDecoder extends LengthFieldBasedFrameDecoder {
         if (frame == null) {
             return null;
         }
+        final Object msg = frame.isReadable() && frame.getByte(frame.readerIndex()) == CompatibleObjectEncoder.BINARY_FRAME
+                ? decodeBinary(frame) : decodeSerialized(frame);
+        if (msg instanceof String && ((String) msg).startsWith(CompatibleObjectEncoder.BINARY_CODEC_HELLO_PREFIX)) {
+            // a peer with another schema keeps getting Java serialized messages
+            if (CompatibleObjectEncoder.BINARY_CODEC_HELLO.equals(msg)) {
+                ctx.channel().attr(CompatibleObjectEncoder.PEER_READS_BINARY).set(Boolean.TRUE);
+            }
+            return null;
+        }
+        return msg;
+    }
+
+    private Object decodeSerialized(ByteBuf frame) throws Exception {
         ObjectInputStream ois = GuiBase.hasPropertyConfig() ?
                 new ObjectInputStream(new LZ4BlockInputStream(new ByteBufInputStream(frame, true))):
                     new CObjectInputStream(new LZ4BlockInputStream(new ByteBufInputStream(frame, true)),this.classResolver);
@@ -44,4 +73,40 @@ public class CompatibleObjectDecoder extends LengthFieldBasedFrameDecoder {
 
         return var5;
     }
+
+    private Object decodeBinary(ByteBuf frame) {
+        try {
+            frame.skipBytes(1);
+            final int flags = frame.readByte();
+            if ((flags & CompatibleObjectEncoder.FLAG_COMPRESSED) == 0) {
+                final int length = frame.readableBytes();
+                frameBytes = ensureCapacity(frameBytes, length);
+                frame.readBytes(frameBytes, 0, length);
+                reader.reset(frameBytes, 0, length);
+                return reader.readValue();
+            }
+
+            final int rawLength = frame.readInt();
+            // the frame size is limited, so the size it unpacks to must be as well
+            if (rawLength < 0 || rawLength > maxObjectSize) {
+                throw new TooLongFrameException("Uncompressed message of " + rawLength + " bytes exceeds " + maxObjectSize);
+            }
+            final int length = frame.readableBytes();
+            frameBytes = ensureCapacity(frameBytes, length);
+            frame.readBytes(frameBytes, 0, length);
+            rawBytes = ensureCapacity(rawBytes, rawLength);
+            if (decompressor == null) {
+                decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+            }
+            decompressor.decompress(frameBytes, 0, rawBytes, 0, rawLength);
+            reader.reset(rawBytes, 0, rawLength);
+            return reader.readValue();
+        } finally {
+            frame.release();
+        }
+    }
+
+    private static byte[] ensureCapacity(byte[] bytes, int length) {
+        return bytes.length >= length ? bytes : new byte[length];
+    }
 }
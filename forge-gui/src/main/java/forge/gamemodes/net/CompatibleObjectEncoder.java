@@ -8,13 +8,38 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.util.AttributeKey;
 import net.jpountz.lz4.LZ4BlockOutputStream;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
 
 public class CompatibleObjectEncoder extends MessageToByteEncoder<Serializable> {
     private static final byte[] LENGTH_PLACEHOLDER = new byte[4];
 
+    /**
+     * Sent by both ends when connecting, once the one of the other end is received the binary codec is used.
+     * Older versions ignore it and keep receiving Java serialized messages, and so do versions whose enums
+     * differ, since the hello carries the schema id and has to match exactly.
+     */
+    static final String BINARY_CODEC_HELLO_PREFIX = "forge-binary-codec/";
+    static final String BINARY_CODEC_HELLO = BINARY_CODEC_HELLO_PREFIX + ProtocolWriter.getProtocolSchemaId();
+    static final AttributeKey<Boolean> PEER_READS_BINARY = AttributeKey.valueOf("forgePeerReadsBinary");
+    /** First byte of binary frames, Java serialized frames start with the LZ4 block magic instead. */
+    static final byte BINARY_FRAME = (byte) 0xFB;
+    static final int FLAG_COMPRESSED = 1;
+    private static final int COMPRESSION_THRESHOLD = 2048;
+
+    private final ProtocolWriter writer = new ProtocolWriter();
+    private LZ4Compressor compressor;
+    private byte[] compressed = new byte[0];
+
     @Override
     protected void encode(ChannelHandlerContext ctx, Serializable msg, ByteBuf out) throws Exception {
+        if (Boolean.TRUE.equals(ctx.channel().attr(PEER_READS_BINARY).get())) {
+            encodeBinary(msg, out);
+            return;
+        }
+
         int startIdx = out.writerIndex();
         ByteBufOutputStream bout = new ByteBufOutputStream(out);
         ObjectOutputStream oout = null;
@@ -35,4 +60,33 @@ public class CompatibleObjectEncoder extends MessageToByteEncoder<Serializable>
         int endIdx = out.writerIndex();
         out.setInt(startIdx, endIdx - startIdx - 4);
     }
+
+    private void encodeBinary(Serializable msg, ByteBuf out) {
+        writer.reset();
+        writer.writeValue(msg);
+        final byte[] raw = writer.getBuffer();
+        final int rawLength = writer.size();
+
+        if (rawLength < COMPRESSION_THRESHOLD) {
+            out.writeInt(rawLength + 2);
+            out.writeByte(BINARY_FRAME);
+            out.writeByte(0);
+            out.writeBytes(raw, 0, rawLength);
+            return;
+        }
+
+        if (compressor == null) {
+            compressor = LZ4Factory.fastestInstance().fastCompressor();
+        }
+        final int maxLength = compressor.maxCompressedLength(rawLength);
+        if (compressed.length < maxLength) {
+            compressed = new byte[maxLength];
+        }
+        final int length = compressor.compress(raw, 0, rawLength, compressed, 0, maxLength);
+        out.writeInt(length + 6);
+        out.writeByte(BINARY_FRAME);
+        out.writeByte(FLAG_COMPRESSED);
+        out.writeInt(rawLength);
+        out.writeBytes(compressed, 0, length);
+    }
 }
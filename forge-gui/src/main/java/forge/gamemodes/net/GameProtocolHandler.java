@@ -48,11 +48,19 @@ public abstract class GameProtocolHandler<T> extends ChannelInboundHandlerAdapte
             protocolMethod.checkArgs(args);
 
             final Object toInvoke = getToInvoke(ctx);
+            final Class<?> returnType = protocolMethod.getReturnType();
+            if (toInvoke == null) {
+                // e.g. a client calling a game before it joined a table
+                System.err.printf("Nothing to call protocol method %s on, ignoring it%n", methodName);
+                if (!returnType.equals(Void.TYPE)) {
+                    getRemote(ctx).send(new ReplyEvent(event.getId(), null));
+                }
+                return;
+            }
 
             // Pre-call actions
             beforeCall(protocolMethod, args);
 
-            final Class<?> returnType = protocolMethod.getReturnType();
             final Runnable toRun = () -> {
                 if (returnType.equals(Void.TYPE)) {
                     try {
@@ -1,5 +1,6 @@
 package forge.gamemodes.net;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeoutException;
 
 import forge.gamemodes.net.event.GuiGameEvent;
@@ -24,7 +25,21 @@ public final class GameProtocolSender {
             method.checkReturnValue(returned);
             return (T) returned;
         } catch (final TimeoutException e) {
+            System.err.printf("No reply to %s in time%n", method);
             e.printStackTrace();
+        } catch (final CancellationException e) {
+            System.err.printf("Connection closed while waiting for the reply to %s%n", method);
+        }
+        // go on as if the player declined rather than unboxing null
+        return (T) defaultValue(method.getReturnType());
+    }
+
+    private static Object defaultValue(final Class<?> type) {
+        if (type == Boolean.TYPE) {
+            return Boolean.FALSE;
+        }
+        if (type == Integer.TYPE) {
+            return 0;
         }
         return null;
     }
@@ -46,6 +46,9 @@ public class NetConnectUtil {
 
         server.startServer(port);
         server.setLobby(lobby);
+        for (int i = 0; i < ForgeProfileProperties.getServerTables(); i++) {
+            server.openTable(new ServerGameLobby(2));
+        }
 
         lobby.setListener(new IUpdateable() {
             @Override
@@ -122,8 +125,17 @@ public class NetConnectUtil {
     }
 
     public static ChatMessage join(final String url, final IOnlineLobby onlineLobby, final IOnlineChatInterface chatInterface) {
+        //see if a table of the server is specified in URL, as in host:port/table
+        String address = url;
+        String table = "0";
+        final int tableIndex = url.lastIndexOf('/');
+        if (tableIndex >= 0) {
+            address = url.substring(0, tableIndex);
+            table = url.substring(tableIndex + 1);
+        }
+
         final IGuiGame gui = GuiBase.getInterface().getNewGuiGame();
-        final FGameClient client = new FGameClient(FModel.getPreferences().getPref(FPref.PLAYER_NAME), "0", gui);
+        final FGameClient client = new FGameClient(FModel.getPreferences().getPref(FPref.PLAYER_NAME), table, gui);
         onlineLobby.setClient(client);
         chatInterface.setGameClient(client);
         final ClientGameLobby lobby = new ClientGameLobby();
@@ -151,14 +163,14 @@ public class NetConnectUtil {
         });
         view.setPlayerChangeListener((index, event) -> client.send(event));
 
-        String hostname = url;
+        String hostname = address;
         int port = ForgeProfileProperties.getServerPort();
 
         //see if port specified in URL
-        int index = url.indexOf(':');
+        int index = address.indexOf(':');
         if (index >= 0) {
-            hostname = url.substring(0, index);
-            String portStr = url.substring(index + 1);
+            hostname = address.substring(0, index);
+            String portStr = address.substring(index + 1);
             try {
                 port = Integer.parseInt(portStr);
             }
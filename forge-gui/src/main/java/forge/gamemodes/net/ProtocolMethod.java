@@ -4,6 +4,7 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.base.Function;
 
@@ -22,6 +23,7 @@ import forge.interfaces.IGameController;
 import forge.localinstance.skin.FSkinProp;
 import forge.player.PlayerZoneUpdates;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import forge.util.ITriggerEvent;
 import forge.util.ReflectionUtil;
 
@@ -98,7 +100,11 @@ public enum ProtocolMethod {
     getActivateDescription    (Mode.CLIENT, String.class, CardView.class),
     concede                   (Mode.CLIENT, Void.TYPE),
     alphaStrike               (Mode.CLIENT, Void.TYPE),
-    reorderHand               (Mode.CLIENT, Void.TYPE, CardView.class, Integer.TYPE);
+    reorderHand               (Mode.CLIENT, Void.TYPE, CardView.class, Integer.TYPE),
+
+    // Methods added later go here, whichever way they're sent, so the ones above keep their ordinals
+    // Server -> Client
+    applyGameViewDelta        (Mode.SERVER, Void.TYPE, TrackableDelta.class);
 
     private enum Mode {
         SERVER(IGuiGame.class),
@@ -158,6 +164,25 @@ public enum ProtocolMethod {
         return args;
     }
 
+    /**
+     * @return how long to wait for the reply to this method before going on without it.
+     */
+    public long getReplyTimeoutMillis() {
+        switch (this) {
+        // answered by the other side without asking its player
+        case tempShowZones:
+        case openZones:
+        case isUiSetToSkipPhase:
+        case getActivateDescription:
+            return TimeUnit.SECONDS.toMillis(30);
+        // looking through a whole deck takes a while
+        case sideboard:
+            return TimeUnit.MINUTES.toMillis(15);
+        default:
+            return ReplyPool.DEFAULT_TIMEOUT_MILLIS;
+        }
+    }
+
     public void checkArgs(final Object[] args) {
         if(!GuiBase.hasPropertyConfig())
             return; //if the experimental network option is enabled, then check the args, else let the default decoder handle it
@@ -0,0 +1,45 @@
+package forge.gamemodes.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+import forge.gamemodes.net.event.GuiGameEvent;
+import forge.gamemodes.net.event.ReplyEvent;
+import forge.gui.GuiBase;
+import forge.trackable.TrackableReader;
+import io.netty.handler.codec.serialization.ClassResolver;
+
+/**
+ * Reads the messages written by {@link ProtocolWriter}.
+ */
+final class ProtocolReader extends TrackableReader {
+    private static final ProtocolMethod[] METHODS = ProtocolMethod.values();
+
+    private final ClassResolver classResolver;
+
+    ProtocolReader(final ClassResolver classResolver) {
+        this.classResolver = classResolver;
+    }
+
+    @Override
+    protected Object readExtension(final int tag) {
+        switch (tag) {
+        case ProtocolWriter.GUI_GAME_EVENT:
+            final int id = readVarInt();
+            final ProtocolMethod method = METHODS[readIndex(METHODS.length)];
+            return new GuiGameEvent(id, method, readItems());
+        case ProtocolWriter.REPLY_EVENT:
+            final int index = readVarInt();
+            return new ReplyEvent(index, (Serializable) readValue());
+        default:
+            return super.readExtension(tag);
+        }
+    }
+
+    @Override
+    protected ObjectInputStream createObjectInput(final InputStream in) throws IOException {
+        return GuiBase.hasPropertyConfig() ? new ObjectInputStream(in) : new CObjectInputStream(in, classResolver);
+    }
+}
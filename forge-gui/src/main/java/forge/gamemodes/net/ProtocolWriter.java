@@ -0,0 +1,52 @@
+package forge.gamemodes.net;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import forge.gamemodes.net.event.GuiGameEvent;
+import forge.gamemodes.net.event.ReplyEvent;
+import forge.gui.GuiBase;
+import forge.trackable.TrackableWriter;
+
+/**
+ * Binary encoding of the game protocol messages, adds the events carrying {@link ProtocolMethod} calls
+ * and their replies to {@link TrackableWriter}. Other events are rare and still Java serialized.
+ */
+final class ProtocolWriter extends TrackableWriter {
+    static final int GUI_GAME_EVENT = FIRST_EXTENSION_TAG;
+    static final int REPLY_EVENT = FIRST_EXTENSION_TAG + 1;
+
+    /**
+     * @return the id of {@link TrackableWriter#getSchemaId()}, also covering the ordinals of {@link ProtocolMethod}
+     */
+    static String getProtocolSchemaId() {
+        return TrackableWriter.getSchemaId() + "." + Integer.toHexString(hashNames(0, ProtocolMethod.values()));
+    }
+
+    @Override
+    protected boolean writeExtension(final Object value) {
+        if (value instanceof GuiGameEvent) {
+            final GuiGameEvent event = (GuiGameEvent) value;
+            writeByte(GUI_GAME_EVENT);
+            writeVarInt(event.getId());
+            writeVarInt(event.getMethod().ordinal());
+            writeItems(Arrays.asList(event.getObjects()));
+            return true;
+        }
+        if (value instanceof ReplyEvent) {
+            final ReplyEvent event = (ReplyEvent) value;
+            writeByte(REPLY_EVENT);
+            writeVarInt(event.getIndex());
+            writeValue(event.getReply());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected ObjectOutputStream createObjectOutput(final OutputStream out) throws IOException {
+        return GuiBase.hasPropertyConfig() ? new ObjectOutputStream(out) : new CObjectOutputStream(out);
+    }
+}
@@ -1,52 +1,78 @@
 package forge.gamemodes.net;
 
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
-import com.google.common.collect.Maps;
-
+/**
+ * The replies awaited from the other side of a connection, by event id.
+ */
 public class ReplyPool {
 
-    private final Map<Integer, CompletableFuture> pool = Maps.newHashMap();
+    /** How long to wait for a reply when the event doesn't ask otherwise, see {@link ProtocolMethod#getReplyTimeoutMillis()}. */
+    public static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final Map<Integer, CompletableFuture<Object>> pool = new ConcurrentHashMap<>();
 
     public ReplyPool() {
     }
 
-    public void initialize(final int index) {
-        synchronized (pool) {
-            pool.put(index, new CompletableFuture());
-        }
+    public CompletableFuture<Object> initialize(final int index) {
+        return initialize(index, DEFAULT_TIMEOUT_MILLIS);
     }
 
-    public void complete(final int index, final Object value) {
-        synchronized (pool) {
-            pool.get(index).set(value);
-        }
+    /**
+     * Registers a request, call before sending it so the reply can't arrive first.
+     *
+     * @return the reply, which fails with a {@link TimeoutException} if it doesn't arrive in time
+     * and is cancelled if the connection closes first.
+     */
+    public CompletableFuture<Object> initialize(final int index, final long timeoutMillis) {
+        final CompletableFuture<Object> reply = new CompletableFuture<>();
+        pool.put(index, reply);
+        // forget the request however it ends, a late reply is then ignored
+        reply.whenComplete((value, error) -> pool.remove(index, reply));
+        return reply.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
     }
 
-    public Object get(final int index) throws TimeoutException {
-        final CompletableFuture future;
-        synchronized (pool) {
-            future = pool.get(index);
-        }
-        try {
-            return future.get(5, TimeUnit.MINUTES);
-        } catch (final InterruptedException | ExecutionException e) {
-            throw new RuntimeException(e);
+    public void complete(final int index, final Object value) {
+        final CompletableFuture<Object> reply = pool.get(index);
+        if (reply != null) {
+            reply.complete(value);
         }
     }
 
-    private static final class CompletableFuture extends FutureTask<Object> {
-        public CompletableFuture() {
-            super(() -> null);
+    /**
+     * Cancels every pending request, for when the other side disconnected.
+     */
+    public void cancelAll() {
+        for (final CompletableFuture<Object> reply : pool.values()) {
+            reply.cancel(false);
         }
+    }
 
-        @Override
-        public void set(final Object v) {
-            super.set(v);
+    /**
+     * Blocks until a reply registered with {@link #initialize} arrives.
+     *
+     * @throws TimeoutException if it didn't arrive in time.
+     * @throws CancellationException if the connection closed in the meantime.
+     */
+    public static Object get(final CompletableFuture<Object> reply) throws TimeoutException {
+        try {
+            return reply.get();
+        } catch (final InterruptedException e) {
+            reply.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw (TimeoutException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
         }
     }
 }
@@ -1,8 +1,11 @@
 package forge.gamemodes.net.client;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
+import org.apache.commons.lang3.math.NumberUtils;
+
 import com.google.common.collect.Lists;
 
 import forge.game.player.PlayerView;
@@ -33,10 +36,12 @@ public class FGameClient implements IToServer {
     private final IGuiGame clientGui;
     private final List<ILobbyListener> lobbyListeners = Lists.newArrayList();
     private final ReplyPool replies = new ReplyPool();
+    private final int tableId;
     private Channel channel;
 
     public FGameClient(final String username, final String roomKey, final IGuiGame clientGui) {
         this.clientGui = clientGui;
+        this.tableId = NumberUtils.toInt(roomKey);
     }
 
     final IGuiGame getGui() {
@@ -45,6 +50,9 @@ public class FGameClient implements IToServer {
     final ReplyPool getReplyPool() {
         return replies;
     }
+    final int getTableId() {
+        return tableId;
+    }
 
     public void connect(final String host, final int port) {
         final EventLoopGroup group = new NioEventLoopGroup();
@@ -95,12 +103,12 @@ public class FGameClient implements IToServer {
 
     @Override
     public Object sendAndWait(final IdentifiableNetEvent event) throws TimeoutException {
-        replies.initialize(event.getId());
+        final CompletableFuture<Object> reply = replies.initialize(event.getId(), event.getReplyTimeoutMillis());
 
         send(event);
 
         // Wait for reply
-        return replies.get(event.getId());
+        return ReplyPool.get(reply);
     }
 
     List<ILobbyListener> getLobbyListeners() {
@@ -144,6 +152,7 @@ public class FGameClient implements IToServer {
 
         @Override
         public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+            replies.cancelAll();
             for (final ILobbyListener listener : lobbyListeners) {
                 listener.close();
             }
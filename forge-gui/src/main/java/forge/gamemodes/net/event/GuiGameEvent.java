@@ -17,6 +17,13 @@ public final class GuiGameEvent implements IdentifiableNetEvent {
         this.objects = objects == null ? new Object[0] : objects;
     }
 
+    // used when decoding an event received from the other side
+    public GuiGameEvent(final int id, final ProtocolMethod method, final Object[] objects) {
+        this.id = id;
+        this.method = method;
+        this.objects = objects;
+    }
+
     @Override
     public String toString() {
         return String.format("GuiGameEvent %d: %s (%d args)", id, method, objects.length);
@@ -31,6 +38,11 @@ public final class GuiGameEvent implements IdentifiableNetEvent {
         return id;
     }
 
+    @Override
+    public long getReplyTimeoutMillis() {
+        return method.getReplyTimeoutMillis();
+    }
+
     public ProtocolMethod getMethod() {
         return method;
     }
@@ -1,6 +1,11 @@
 package forge.gamemodes.net.event;
 
 import forge.game.IIdentifiable;
+import forge.gamemodes.net.ReplyPool;
 
 public interface IdentifiableNetEvent extends NetEvent, IIdentifiable {
+    /** @return how long the sender waits for the reply to this event. */
+    default long getReplyTimeoutMillis() {
+        return ReplyPool.DEFAULT_TIMEOUT_MILLIS;
+    }
 }
@@ -7,10 +7,16 @@ public class LoginEvent implements NetEvent {
 
     private final String username;
     private final int avatarIndex, sleeveIndex;
+    // older clients don't send it and always join the first table
+    private final int tableId;
     public LoginEvent(final String username, final int avatarIndex, final int sleeveIndex) {
+        this(username, avatarIndex, sleeveIndex, 0);
+    }
+    public LoginEvent(final String username, final int avatarIndex, final int sleeveIndex, final int tableId) {
         this.username = username;
         this.avatarIndex = avatarIndex;
         this.sleeveIndex = sleeveIndex;
+        this.tableId = tableId;
     }
 
     @Override
@@ -28,4 +34,8 @@ public class LoginEvent implements NetEvent {
     public int getSleeveIndex() {
         return sleeveIndex;
     }
+
+    public int getTableId() {
+        return tableId;
+    }
 }
@@ -2,7 +2,6 @@ package forge.gamemodes.net.server;
 
 import com.google.common.base.Predicates;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Maps;
 import forge.gamemodes.match.LobbySlot;
 import forge.gamemodes.match.LobbySlotType;
 import forge.gamemodes.net.CompatibleObjectDecoder;
@@ -12,6 +11,7 @@ import forge.gui.GuiBase;
 import forge.gui.interfaces.IGuiGame;
 import forge.interfaces.IGameController;
 import forge.interfaces.ILobbyListener;
+import forge.interfaces.IUpdateable;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.*;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -33,8 +33,17 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class FServerManager {
+    /** The table of the lobby shown to the local player, also joined by clients that don't ask for a table. */
+    public static final int DEFAULT_TABLE = 0;
+    // a client more than this behind makes the game threads wait for it, see RemoteClient#send
+    private static final int WRITE_BUFFER_LOW = 1024 * 1024;
+    private static final int WRITE_BUFFER_HIGH = 4 * 1024 * 1024;
+
     private static FServerManager instance = null;
 
     private byte[] externalAddress = new byte[]{8,8,8,8};
@@ -42,8 +51,9 @@ public final class FServerManager {
     private EventLoopGroup bossGroup = new NioEventLoopGroup(1);
     private EventLoopGroup workerGroup = new NioEventLoopGroup();
     private UpnpService upnpService = null;
-    private final Map<Channel, RemoteClient> clients = Maps.newTreeMap();
-    private ServerGameLobby localLobby;
+    private final Map<Channel, RemoteClient> clients = new ConcurrentSkipListMap<>();
+    private final Map<Integer, GameTable> tables = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTableId = new AtomicInteger(DEFAULT_TABLE + 1);
     private ILobbyListener lobbyListener;
     private final Thread shutdownHook = new Thread(() -> {
         if (isHosting()) {
@@ -57,8 +67,15 @@ public final class FServerManager {
     RemoteClient getClient(final Channel ch) {
         return clients.get(ch);
     }
-    IGameController getController(final int index) {
-        return localLobby.getController(index);
+    /**
+     * @return the controller of the client's player, or null if the client isn't at a table
+     */
+    IGameController getController(final RemoteClient client) {
+        final GameTable table = client == null ? null : client.getTable();
+        if (table == null) {
+            return null;
+        }
+        return table.getLobby().getController(client.getIndex());
     }
 
     /**
@@ -79,6 +96,7 @@ public final class FServerManager {
                     .group(bossGroup, workerGroup)
                     .channel(NioServerSocketChannel.class)
                     .handler(new LoggingHandler(LogLevel.INFO))
+                    .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(WRITE_BUFFER_LOW, WRITE_BUFFER_HIGH))
                     .childHandler(new ChannelInitializer<SocketChannel>() {
                         @Override
                         public void initChannel(final SocketChannel ch) throws Exception {
@@ -117,6 +135,10 @@ public final class FServerManager {
         stopServer(true);
     }
     private void stopServer(final boolean removeShutdownHook) {
+        for (final GameTable table : tables.values()) {
+            table.close();
+        }
+        tables.clear();
         bossGroup.shutdownGracefully();
         workerGroup.shutdownGracefully();
         if (upnpService != null) {
@@ -137,17 +159,26 @@ public final class FServerManager {
     }
 
     public void broadcast(final NetEvent event) {
-        if (event instanceof MessageEvent) {
+        broadcast(getTable(DEFAULT_TABLE), event);
+    }
+    public void broadcast(final GameTable table, final NetEvent event) {
+        if (table == null) {
+            return;
+        }
+        if (event instanceof MessageEvent && table.getId() == DEFAULT_TABLE) {
             MessageEvent msgEvent = (MessageEvent) event;
             lobbyListener.message(msgEvent.getSource(), msgEvent.getMessage());
         }
-        broadcastTo(event, clients.values());
+        broadcastTo(event, table.getClients());
     }
-    public void broadcastExcept(final NetEvent event, final RemoteClient notTo) {
-        broadcastExcept(event, Collections.singleton(notTo));
+    public void broadcastExcept(final GameTable table, final NetEvent event, final RemoteClient notTo) {
+        broadcastExcept(table, event, Collections.singleton(notTo));
     }
-    public void broadcastExcept(final NetEvent event, final Collection<RemoteClient> notTo) {
-        broadcastTo(event, Iterables.filter(clients.values(), Predicates.not(Predicates.in(notTo))));
+    public void broadcastExcept(final GameTable table, final NetEvent event, final Collection<RemoteClient> notTo) {
+        if (table == null) {
+            return;
+        }
+        broadcastTo(event, Iterables.filter(table.getClients(), Predicates.not(Predicates.in(notTo))));
     }
     private void broadcastTo(final NetEvent event, final Iterable<RemoteClient> to) {
         for (final RemoteClient client : to) {
@@ -160,20 +191,64 @@ public final class FServerManager {
     }
 
     public void setLobby(final ServerGameLobby lobby) {
-        this.localLobby = lobby;
+        final GameTable previous = tables.put(DEFAULT_TABLE, new GameTable(DEFAULT_TABLE, lobby));
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Hosts another lobby next to the default one, clients join it by sending its id when logging in.
+     *
+     * @return the new table.
+     */
+    public GameTable openTable(final ServerGameLobby lobby) {
+        final GameTable table = new GameTable(nextTableId.getAndIncrement(), lobby);
+        lobby.setListener(new IUpdateable() {
+            @Override
+            public void update(final boolean fullUpdate) {
+                updateLobbyState(table);
+            }
+            @Override
+            public void update(final int slot, final LobbySlotType type) {
+            }
+        });
+        tables.put(table.getId(), table);
+        return table;
+    }
+
+    public void closeTable(final int id) {
+        final GameTable table = tables.remove(id);
+        if (table == null) {
+            return;
+        }
+        table.close();
+        for (final RemoteClient client : table.getClients()) {
+            client.close();
+        }
+    }
+
+    public GameTable getTable(final int id) {
+        return tables.get(id);
+    }
+
+    public Collection<GameTable> getTables() {
+        return Collections.unmodifiableCollection(tables.values());
     }
 
     public void unsetReady() {
-        if (this.localLobby != null) {
-            if (this.localLobby.getSlot(0) != null) {
-                this.localLobby.getSlot(0).setIsReady(false);
+        final GameTable table = getTable(DEFAULT_TABLE);
+        if (table != null) {
+            if (table.getLobby().getSlot(0) != null) {
+                table.getLobby().getSlot(0).setIsReady(false);
                 updateLobbyState();
             }
         }
     }
 
     public boolean isMatchActive() {
-        return this.localLobby != null && this.localLobby.isMatchActive();
+        final GameTable table = getTable(DEFAULT_TABLE);
+        return table != null && table.getLobby().isMatchActive();
     }
 
     public void setLobbyListener(final ILobbyListener listener) {
@@ -181,21 +256,30 @@ public final class FServerManager {
     }
 
     public void updateLobbyState() {
-        final LobbyUpdateEvent event = new LobbyUpdateEvent(localLobby.getData());
-        broadcast(event);
+        updateLobbyState(getTable(DEFAULT_TABLE));
+    }
+    private void updateLobbyState(final GameTable table) {
+        if (table == null) {
+            return;
+        }
+        final LobbyUpdateEvent event = new LobbyUpdateEvent(table.getLobby().getData());
+        broadcast(table, event);
     }
 
     public void updateSlot(final int index, final UpdateLobbyPlayerEvent event) {
-        localLobby.applyToSlot(index, event);
+        getTable(DEFAULT_TABLE).getLobby().applyToSlot(index, event);
     }
 
     public IGuiGame getGui(final int index) {
-        final LobbySlot slot = localLobby.getSlot(index);
+        return getGui(getTable(DEFAULT_TABLE), index);
+    }
+    IGuiGame getGui(final GameTable table, final int index) {
+        final LobbySlot slot = table.getLobby().getSlot(index);
         final LobbySlotType type = slot.getType();
         if (type == LobbySlotType.LOCAL) {
             return GuiBase.getInterface().getNewGuiGame();
         } else if (type == LobbySlotType.REMOTE) {
-            for (final RemoteClient client : clients.values()) {
+            for (final RemoteClient client : table.getClients()) {
                 if (client.getIndex() == index) {
                     return new NetGuiGame(client);
                 }
@@ -283,7 +367,7 @@ public final class FServerManager {
         public final void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
             final RemoteClient client = clients.get(ctx.channel());
             if (msg instanceof MessageEvent) {
-                broadcast(new MessageEvent(client.getUsername(), ((MessageEvent) msg).getMessage()));
+                broadcast(client.getTable(), new MessageEvent(client.getUsername(), ((MessageEvent) msg).getMessage()));
             }
             super.channelRead(ctx, msg);
         }
@@ -295,7 +379,6 @@ public final class FServerManager {
             final RemoteClient client = new RemoteClient(ctx.channel());
             clients.put(ctx.channel(), client);
             System.out.println("Client connected to server at " + ctx.channel().remoteAddress());
-            updateLobbyState();
             super.channelActive(ctx);
         }
 
@@ -303,33 +386,58 @@ public final class FServerManager {
         public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
             final RemoteClient client = clients.get(ctx.channel());
             if (msg instanceof LoginEvent) {
-                final String username = ((LoginEvent) msg).getUsername();
+                final LoginEvent event = (LoginEvent) msg;
+                final GameTable table = getTable(event.getTableId());
+                if (table == null) {
+                    System.out.println("Client at " + ctx.channel().remoteAddress() + " asked for unknown table " + event.getTableId());
+                    ctx.close();
+                    return;
+                }
+                client.setTable(table);
+                table.addClient(client);
+                final String username = event.getUsername();
                 client.setUsername(username);
-                broadcast(new MessageEvent(String.format("%s joined the room", username)));
-                updateLobbyState();
-            } else if (msg instanceof UpdateLobbyPlayerEvent) {
-                localLobby.applyToSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
+                broadcast(table, new MessageEvent(String.format("%s joined the room", username)));
+                updateLobbyState(table);
+            } else if (msg instanceof UpdateLobbyPlayerEvent && client.getTable() != null) {
+                client.getTable().getLobby().applyToSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
             }
             super.channelRead(ctx, msg);
         }
+
+        @Override
+        public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+            final RemoteClient client = clients.get(ctx.channel());
+            if (client != null) {
+                client.writabilityChanged();
+            }
+            super.channelWritabilityChanged(ctx);
+        }
     }
 
     private class LobbyInputHandler extends ChannelInboundHandlerAdapter {
         @Override public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
             final RemoteClient client = clients.get(ctx.channel());
+            final GameTable table = client.getTable();
+            if (table == null) {
+                // the client hasn't logged in to a table yet
+                super.channelRead(ctx, msg);
+                return;
+            }
             if (msg instanceof LoginEvent) {
                 final LoginEvent event = (LoginEvent) msg;
-                final int index = localLobby.connectPlayer(event.getUsername(), event.getAvatarIndex(), event.getSleeveIndex());
+                final int index = table.getLobby().connectPlayer(event.getUsername(), event.getAvatarIndex(), event.getSleeveIndex());
                 if (index == -1) {
                     ctx.close();
                 } else {
                     client.setIndex(index);
-                    broadcast(event);
-                    updateLobbyState();
+                    broadcast(table, event);
+                    updateLobbyState(table);
                 }
             } else if (msg instanceof UpdateLobbyPlayerEvent) {
-                updateSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
-            } else if (msg instanceof MessageEvent) {
+                table.getLobby().applyToSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
+                table.startIfReady();
+            } else if (msg instanceof MessageEvent && table.getId() == DEFAULT_TABLE) {
                 final MessageEvent event = (MessageEvent) msg;
                 lobbyListener.message(event.getSource(), event.getMessage());
             }
@@ -341,10 +449,17 @@ public final class FServerManager {
         @Override
         public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
             final RemoteClient client = clients.remove(ctx.channel());
-            final String username = client.getUsername();
-            localLobby.disconnectPlayer(client.getIndex());
-            broadcast(new MessageEvent(String.format("%s left the room", username)));
-            broadcast(new LogoutEvent(username));
+            client.writabilityChanged();
+            // don't leave the game waiting for decisions that will never come
+            client.getReplyPool().cancelAll();
+            final GameTable table = client.getTable();
+            if (table != null) {
+                table.removeClient(client);
+                final String username = client.getUsername();
+                table.getLobby().disconnectPlayer(client.getIndex());
+                broadcast(table, new MessageEvent(String.format("%s left the room", username)));
+                broadcast(table, new LogoutEvent(username));
+            }
             super.channelInactive(ctx);
         }
     }
@@ -0,0 +1,105 @@
+package forge.gamemodes.net.server;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import forge.gamemodes.match.LobbySlot;
+import forge.gamemodes.match.LobbySlotType;
+import forge.localinstance.properties.ForgeProfileProperties;
+import forge.util.ThreadUtil;
+
+/**
+ * One lobby hosted by the {@link FServerManager}, with the clients that joined it.
+ * <p>
+ * Every table runs its matches on game threads of its own, so a busy or stalled table
+ * doesn't hold up the others sharing the server.
+ */
+public final class GameTable {
+    private final int id;
+    private final ServerGameLobby lobby;
+    private final ExecutorService gameThreads;
+    private final Set<RemoteClient> clients = ConcurrentHashMap.newKeySet();
+    private final TableMetrics metrics = new TableMetrics();
+    private final AtomicBoolean starting = new AtomicBoolean();
+
+    GameTable(final int id, final ServerGameLobby lobby) {
+        this.id = id;
+        this.lobby = lobby;
+        this.gameThreads = ThreadUtil.newGameThreadPool("Table" + id, ForgeProfileProperties.isServerVirtualThreads());
+        lobby.setTable(this);
+        lobby.setGameExecutor(task -> {
+            metrics.gameStarted();
+            gameThreads.execute(task);
+        });
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public ServerGameLobby getLobby() {
+        return lobby;
+    }
+
+    public TableMetrics getMetrics() {
+        return metrics;
+    }
+
+    public Collection<RemoteClient> getClients() {
+        return Collections.unmodifiableSet(clients);
+    }
+
+    void addClient(final RemoteClient client) {
+        clients.add(client);
+    }
+
+    void removeClient(final RemoteClient client) {
+        clients.remove(client);
+    }
+
+    /**
+     * Tables without a seat for the host start on their own once every seat is taken and ready.
+     */
+    void startIfReady() {
+        if (lobby.isMatchActive()) {
+            return;
+        }
+        for (int i = 0; i < lobby.getNumberOfSlots(); i++) {
+            final LobbySlot slot = lobby.getSlot(i);
+            if (slot.getType() != LobbySlotType.REMOTE || !slot.isReady()) {
+                return;
+            }
+        }
+        if (!starting.compareAndSet(false, true)) {
+            return;
+        }
+        // starting sends the game to every client, which is no job for a network thread
+        gameThreads.execute(() -> {
+            try {
+                final Runnable start = lobby.startGame();
+                if (start != null) {
+                    start.run();
+                }
+            } finally {
+                starting.set(false);
+            }
+        });
+    }
+
+    void close() {
+        // a match still running finishes on its own thread
+        gameThreads.shutdown();
+        lobby.setGameExecutor(null);
+        lobby.setTable(null);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Table %d (%d clients%s): %s", id, clients.size(),
+                lobby.isMatchActive() ? ", playing" : "", metrics);
+    }
+}
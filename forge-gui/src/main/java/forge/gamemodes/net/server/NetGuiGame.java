@@ -22,17 +22,29 @@ import forge.gamemodes.match.AbstractGuiGame;
 import forge.gamemodes.net.GameProtocolSender;
 import forge.gamemodes.net.ProtocolMethod;
 import forge.item.PaperCard;
+import forge.localinstance.properties.ForgePreferences.FPref;
 import forge.localinstance.skin.FSkinProp;
+import forge.model.FModel;
 import forge.player.PlayerZoneUpdate;
 import forge.player.PlayerZoneUpdates;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
+import forge.trackable.TrackableDeltaWriter;
 import forge.util.ITriggerEvent;
 
 public class NetGuiGame extends AbstractGuiGame {
 
+    /** Send the whole game view again after this many deltas, so a client never drifts away for long. */
+    private static final int DELTAS_PER_SNAPSHOT = 50;
+
     private final GameProtocolSender sender;
+    private final boolean sendDeltas;
+    private TrackableDeltaWriter deltaWriter;
+    private int deltasSinceSnapshot;
+
     public NetGuiGame(final IToClient client) {
         this.sender = new GameProtocolSender(client);
+        this.sendDeltas = FModel.getPreferences().getPrefBoolean(FPref.UI_NETPLAY_GAME_VIEW_DELTAS);
     }
 
     private void send(final ProtocolMethod method, final Object... args) {
@@ -43,24 +55,60 @@ public class NetGuiGame extends AbstractGuiGame {
         return sender.sendAndWait(method, args);
     }
 
-    public void updateGameView() {
-        send(ProtocolMethod.setGameView, getGameView());
+    public synchronized void updateGameView() {
+        final GameView gameView = getGameView();
+        if (!sendDeltas || gameView == null || gameView.getTracker() == null) {
+            send(ProtocolMethod.setGameView, gameView);
+            return;
+        }
+        if (deltaWriter == null || deltaWriter.getRoot() != gameView) {
+            closeDeltaWriter();
+            deltaWriter = new TrackableDeltaWriter(gameView);
+            sendSnapshot(gameView);
+            return;
+        }
+        final TrackableDelta delta = deltasSinceSnapshot < DELTAS_PER_SNAPSHOT ? deltaWriter.takeDelta() : null;
+        if (delta == null) {
+            sendSnapshot(gameView);
+        } else if (delta.size() > 0) {
+            deltasSinceSnapshot++;
+            send(ProtocolMethod.applyGameViewDelta, delta);
+        }
+    }
+
+    private void sendSnapshot(final GameView gameView) {
+        deltaWriter.snapshotSent();
+        deltasSinceSnapshot = 0;
+        send(ProtocolMethod.setGameView, gameView);
+    }
+
+    private synchronized void closeDeltaWriter() {
+        if (deltaWriter != null) {
+            deltaWriter.close();
+            deltaWriter = null;
+        }
     }
 
     @Override
     public void setGameView(final GameView gameView) {
         super.setGameView(gameView);
+        if (gameView == null) {
+            closeDeltaWriter();
+        }
         updateGameView();
     }
 
     @Override
     public void openView(final TrackableCollection<PlayerView> myPlayers) {
+        // the client builds a new game view, so it needs the whole one first
+        closeDeltaWriter();
         send(ProtocolMethod.openView, myPlayers);
         updateGameView();
     }
 
     @Override
     public void afterGameEnd() {
+        closeDeltaWriter();
         send(ProtocolMethod.afterGameEnd);
     }
 
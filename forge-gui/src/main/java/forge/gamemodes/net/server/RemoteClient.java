@@ -1,5 +1,6 @@
 package forge.gamemodes.net.server;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 import forge.gamemodes.net.ReplyPool;
@@ -9,10 +10,15 @@ import io.netty.channel.Channel;
 
 public final class RemoteClient implements IToClient {
 
+    /** How long a game thread waits for a client that doesn't read what is sent to it before dropping it. */
+    private static final long SLOW_CLIENT_TIMEOUT_MS = 60000;
+
     private final Channel channel;
     private String username;
     private int index;
+    private volatile GameTable table;
     private ReplyPool replies = new ReplyPool();
+    private final Object writability = new Object();
     public RemoteClient(final Channel channel) {
         this.channel = channel;
     }
@@ -20,20 +26,64 @@ public final class RemoteClient implements IToClient {
     @Override
     public void send(final NetEvent event) {
         System.out.println("Sending event " + event + " to " + channel);
-        try {
-            channel.writeAndFlush(event).sync();
-        } catch (Exception e) {
-            e.printStackTrace();
+        // network threads must never block, everything else waits for a slow client
+        // to catch up rather than piling up events for it
+        if (!channel.isWritable() && !channel.eventLoop().inEventLoop()) {
+            awaitWritable();
+        }
+        channel.writeAndFlush(event).addListener(future -> {
+            if (!future.isSuccess()) {
+                future.cause().printStackTrace();
+            }
+        });
+        if (table != null) {
+            table.getMetrics().eventSent();
+        }
+    }
+
+    private void awaitWritable() {
+        final long start = System.currentTimeMillis();
+        synchronized (writability) {
+            while (!channel.isWritable() && channel.isActive()) {
+                final long remaining = start + SLOW_CLIENT_TIMEOUT_MS - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    System.err.println("Dropping " + username + ", not reading from " + channel);
+                    if (table != null) {
+                        table.getMetrics().slowClientDropped();
+                    }
+                    channel.close();
+                    break;
+                }
+                try {
+                    writability.wait(remaining);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        if (table != null) {
+            table.getMetrics().waitedForClient(System.currentTimeMillis() - start);
+        }
+    }
+
+    void close() {
+        channel.close();
+    }
+
+    void writabilityChanged() {
+        synchronized (writability) {
+            writability.notifyAll();
         }
     }
 
     @Override
     public Object sendAndWait(final IdentifiableNetEvent event) throws TimeoutException {
-        replies.initialize(event.getId());
+        final CompletableFuture<Object> reply = replies.initialize(event.getId(), event.getReplyTimeoutMillis());
 
         send(event);
 
-        return replies.get(event.getId());
+        return ReplyPool.get(reply);
     }
 
     public String getUsername() {
@@ -50,6 +100,13 @@ public final class RemoteClient implements IToClient {
         this.index = index;
     }
 
+    public GameTable getTable() {
+        return table;
+    }
+    void setTable(final GameTable table) {
+        this.table = table;
+    }
+
     ReplyPool getReplyPool() {
         return replies;
     }
@@ -11,12 +11,31 @@ import forge.gui.interfaces.IGuiGame;
 
 public final class ServerGameLobby extends GameLobby {
 
+    private GameTable table;
+
     public ServerGameLobby() {
         super(true);
         addSlot(new LobbySlot(LobbySlotType.LOCAL, localName(), localAvatarIndices()[0], localSleeveIndices()[0],0, true, false, Collections.emptySet()));
         addSlot(new LobbySlot(LobbySlotType.OPEN, null, -1, -1, 1, false, false, Collections.emptySet()));
     }
 
+    /**
+     * A lobby with open seats only, for the tables the server hosts without the local player.
+     */
+    public ServerGameLobby(final int seats) {
+        super(true);
+        for (int i = 0; i < seats; i++) {
+            addSlot(new LobbySlot(LobbySlotType.OPEN, null, -1, -1, i, false, false, Collections.emptySet()));
+        }
+    }
+
+    GameTable getTable() {
+        return table;
+    }
+    void setTable(final GameTable table) {
+        this.table = table;
+    }
+
     public int connectPlayer(final String name, final int avatarIndex, final int sleeveIndex) {
         final int nSlots = getNumberOfSlots();
         for (int index = 0; index < nSlots; index++) {
@@ -66,7 +85,7 @@ public final class ServerGameLobby extends GameLobby {
 
     @Override
     protected IGuiGame getGui(final int index) {
-        return FServerManager.getInstance().getGui(index);
+        return FServerManager.getInstance().getGui(table, index);
     }
 
     @Override
@@ -0,0 +1,58 @@
+package forge.gamemodes.net.server;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of one {@link GameTable}, updated from the game and network threads.
+ */
+public final class TableMetrics {
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder eventsSent = new LongAdder();
+    private final LongAdder backpressureWaits = new LongAdder();
+    private final LongAdder backpressureMillis = new LongAdder();
+    private final LongAdder slowClientsDropped = new LongAdder();
+
+    void gameStarted() {
+        gamesStarted.increment();
+    }
+
+    void eventSent() {
+        eventsSent.increment();
+    }
+
+    void waitedForClient(final long millis) {
+        backpressureWaits.increment();
+        backpressureMillis.add(millis);
+    }
+
+    void slowClientDropped() {
+        slowClientsDropped.increment();
+    }
+
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    public long getEventsSent() {
+        return eventsSent.sum();
+    }
+
+    /** @return how many times a game thread waited for a client to read what was already sent to it */
+    public long getBackpressureWaits() {
+        return backpressureWaits.sum();
+    }
+
+    public long getBackpressureMillis() {
+        return backpressureMillis.sum();
+    }
+
+    public long getSlowClientsDropped() {
+        return slowClientsDropped.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games, %d events sent, %d waits for slow clients (%d ms), %d slow clients dropped",
+                getGamesStarted(), getEventsSent(), getBackpressureWaits(), getBackpressureMillis(), getSlowClientsDropped());
+    }
+}
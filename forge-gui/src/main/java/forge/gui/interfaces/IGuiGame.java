@@ -28,11 +28,14 @@ import forge.localinstance.skin.FSkinProp;
 import forge.player.PlayerZoneUpdate;
 import forge.player.PlayerZoneUpdates;
 import forge.trackable.TrackableCollection;
+import forge.trackable.TrackableDelta;
 import forge.util.ITriggerEvent;
 
 public interface IGuiGame {
     void setGameView(GameView gameView);
 
+    void applyGameViewDelta(TrackableDelta delta);
+
     GameView getGameView();
 
     void setOriginalGameController(PlayerView view, IGameController gameController);
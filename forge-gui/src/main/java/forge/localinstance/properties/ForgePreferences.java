@@ -88,7 +88,7 @@ public class ForgePreferences extends PreferencesStore<ForgePreferences.FPref> {
         UI_SMART_CARD_ART("false"),
         UI_AUTO_AIDECK_SELECTION("true"),
         UI_DISABLE_CARD_IMAGES ("false"),
-        UI_IMAGE_CACHE_MAXIMUM("400"),
+        UI_IMAGE_CACHE_MAXIMUM("400"), // in megabytes
         UI_OVERLAY_FOIL_EFFECT ("true"),
         UI_HIDE_REMINDER_TEXT ("false"),
         UI_CARD_IMAGE_RENDER_USE_SANS_SERIF_FONT ("true"),
@@ -165,6 +165,7 @@ public class ForgePreferences extends PreferencesStore<ForgePreferences.FPref> {
         UI_ENABLE_MAGNIFIER("true"),
         UI_SHOW_FPS("false"),
         UI_NETPLAY_COMPAT("false"),
+        UI_NETPLAY_GAME_VIEW_DELTAS("false"),
         UI_ENABLE_DISPOSE_TEXTURES("false"),
         UI_LOAD_UNKNOWN_CARDS("true"),
         UI_LOAD_NONLEGAL_CARDS("true"),
@@ -215,6 +216,7 @@ public class ForgePreferences extends PreferencesStore<ForgePreferences.FPref> {
         DEV_LOG_ENTRY_TYPE (GameLogEntryType.DAMAGE.toString()),
 
         LOAD_CARD_SCRIPTS_LAZILY ("false"),
+        LOAD_CARD_SCRIPTS_FROM_SNAPSHOT ("false"),
         LOAD_ARCHIVED_FORMATS ("false"),
 
         DECK_DEFAULT_CARD_LIMIT ("4"),
@@ -44,6 +44,8 @@ public class ForgeProfileProperties {
     private static String decksDir;
     private static String decksConstructedDir;
     private static int serverPort;
+    private static int serverTables;
+    private static boolean serverVirtualThreads;
 
     private static final String USER_DIR_KEY      = "userDir";
     private static final String CACHE_DIR_KEY     = "cacheDir";
@@ -52,6 +54,8 @@ public class ForgeProfileProperties {
     private static final String DECKS_DIR_KEY      = "decksDir";
     private static final String DECKS_CONSTRUCTED_DIR_KEY = "decksConstructedDir";
     private static final String SERVER_PORT_KEY = "serverPort";
+    private static final String SERVER_TABLES_KEY = "serverTables";
+    private static final String SERVER_VIRTUAL_THREADS_KEY = "serverVirtualThreads";
 
     private ForgeProfileProperties() {
         //prevent initializing static class
@@ -76,6 +80,8 @@ public class ForgeProfileProperties {
         decksDir    = getDir(props, DECKS_DIR_KEY, userDir + "decks" + File.separator);
         decksConstructedDir = getDir(props, DECKS_CONSTRUCTED_DIR_KEY, decksDir + "constructed" + File.separator);
         serverPort = getInt(props, SERVER_PORT_KEY, 36743); // "Forge" using phone keypad
+        serverTables = getInt(props, SERVER_TABLES_KEY, 0);
+        serverVirtualThreads = Boolean.parseBoolean(props.getProperty(SERVER_VIRTUAL_THREADS_KEY, "").trim());
 
         //ensure directories exist
         FileUtil.ensureDirectoryExists(userDir);
@@ -131,6 +137,14 @@ public class ForgeProfileProperties {
         return serverPort;
     }
 
+    public static int getServerTables() {
+        return serverTables;
+    }
+
+    public static boolean isServerVirtualThreads() {
+        return serverVirtualThreads;
+    }
+
     private static Map<String, String> getMap(final Properties props, final String propertyKey) {
         final String strMap = props.getProperty(propertyKey, "").trim();
         return FileSection.parseToMap(strMap, FileSection.ARROW_KV_SEPARATOR);
@@ -235,7 +249,13 @@ public class ForgeProfileProperties {
             sb.append("\n");
         }
         if (serverPort != 0) {
-            sb.append(SERVER_PORT_KEY + "=").append(serverPort);
+            sb.append(SERVER_PORT_KEY + "=").append(serverPort).append("\n");
+        }
+        if (serverTables != 0) {
+            sb.append(SERVER_TABLES_KEY + "=").append(serverTables).append("\n");
+        }
+        if (serverVirtualThreads) {
+            sb.append(SERVER_VIRTUAL_THREADS_KEY + "=true\n");
         }
         if (sb.length() > 0) {
             FileUtil.writeFile(ForgeConstants.PROFILE_FILE, sb.toString());
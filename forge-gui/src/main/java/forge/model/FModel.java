@@ -164,6 +164,10 @@ public final class FModel {
                 false);
         final CardStorageReader tokenReader = new CardStorageReader(ForgeConstants.TOKEN_DATA_DIR, progressBarBridge,
                 false);
+        if (preferences.getPrefBoolean(FPref.LOAD_CARD_SCRIPTS_FROM_SNAPSHOT)) {
+            reader.setSnapshotFile(new File(ForgeConstants.CARD_SNAPSHOT_FILE));
+            tokenReader.setSnapshotFile(new File(ForgeConstants.TOKEN_SNAPSHOT_FILE));
+        }
         CardStorageReader customReader;
         try {
            customReader  = new CardStorageReader(ForgeConstants.USER_CUSTOM_CARDS_DIR, progressBarBridge, false);